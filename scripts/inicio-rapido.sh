@@ -0,0 +1,31 @@
+#!/bin/sh
+# Executa o Main no modo de partida rapida: classes da aplicacao e do Jackson carregadas do arquivo AppCDS
+# (target/folha.jsa) e apenas o compilador C1, que basta para uma execucao curta.
+#
+# Gere o jar e o arquivo antes com:
+#     mvn -Pcds -DskipTests package
+#
+# Se o arquivo nao existir ou nao corresponder mais ao jar, a JVM o recria ao terminar esta execucao
+# (-XX:+AutoCreateSharedArchive, JDK 19+). Variaveis: JAVA (padrao: $JAVA_HOME/bin/java ou java)
+# e JAVA_OPTS (opcoes extras da JVM).
+set -e
+
+DIRETORIO=$(CDPATH= cd -- "$(dirname -- "$0")/.." && pwd)
+JAR="$DIRETORIO/target/folha.jar"
+ARQUIVO_CDS="$DIRETORIO/target/folha.jsa"
+
+if [ -z "$JAVA" ]; then
+    if [ -n "$JAVA_HOME" ]; then
+        JAVA="$JAVA_HOME/bin/java"
+    else
+        JAVA=java
+    fi
+fi
+
+if [ ! -f "$JAR" ]; then
+    echo "Jar nao encontrado: $JAR (execute mvn -Pcds -DskipTests package)" >&2
+    exit 1
+fi
+
+exec "$JAVA" -XX:+AutoCreateSharedArchive -XX:SharedArchiveFile="$ARQUIVO_CDS" -XX:TieredStopAtLevel=1 \
+    $JAVA_OPTS -jar "$JAR" "$@"
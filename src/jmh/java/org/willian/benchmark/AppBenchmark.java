@@ -0,0 +1,77 @@
+package org.willian.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.willian.application.App;
+import org.willian.application.ModoArmazenamento;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks das operacoes de consulta e alteracao da App sobre folhas sinteticas.
+ *
+ * A folha e carregada uma unica vez por tamanho e modo de armazenamento. As operacoes que alteram a lista
+ * sao medidas sem alterar o resultado das seguintes: a remocao procura um nome inexistente e o aumento usa
+ * o fator 1.0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class AppBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int quantidade;
+
+    @Param({"OBJETOS", "COLUNAR"})
+    public ModoArmazenamento modoArmazenamento;
+
+    private App app;
+
+    @Setup(Level.Trial)
+    public void carregar() {
+        app = new App(modoArmazenamento);
+        app.criarListaFuncionarios(new ByteArrayInputStream(FolhaSintetica.gerarJson(quantidade)));
+    }
+
+    @Benchmark
+    public List<Funcionario> removerFuncionario() {
+        return app.removerFuncionario("Funcionário Inexistente");
+    }
+
+    @Benchmark
+    public List<Funcionario> adicionarAumentoDeSalario() {
+        return app.adicionarAumentoDeSalario(1.0);
+    }
+
+    @Benchmark
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        return app.funcionariosPorFuncao();
+    }
+
+    @Benchmark
+    public List<Funcionario> funcionariosPorAniversario() {
+        return app.funcionariosPorAniversario(10, 12);
+    }
+
+    @Benchmark
+    public Funcionario funcionarioComMaiorIdade() {
+        return app.funcionarioComMaiorIdade();
+    }
+
+    @Benchmark
+    public List<Funcionario> funcionarioOrdemAlfabetica() {
+        return app.funcionarioOrdemAlfabetica();
+    }
+
+    @Benchmark
+    public BigDecimal totalSalarioFuncionarios() {
+        return app.totalSalarioFuncionarios();
+    }
+}
@@ -0,0 +1,30 @@
+package org.willian.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do benchmarks.jar.
+ *
+ * Executa os benchmarks com o profiler de GC sempre habilitado, para que a taxa de alocacao
+ * (gc.alloc.rate e gc.alloc.rate.norm) seja reportada junto com o throughput.
+ * Aceita as mesmas opcoes de linha de comando do JMH, por exemplo:
+ *
+ *     java -jar target/benchmarks.jar AppBenchmark -p quantidade=10000 -rf json
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options opcoes = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(opcoes).run();
+    }
+}
@@ -0,0 +1,39 @@
+package org.willian.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.willian.application.App;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da leitura do JSON de funcionarios pela App.criarListaFuncionarios.
+ *
+ * O JSON e gerado uma vez por tamanho e mantido em memoria, de modo que apenas o parse
+ * e a criacao da lista sao medidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class CriarListaFuncionariosBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int quantidade;
+
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void gerar() {
+        json = FolhaSintetica.gerarJson(quantidade);
+    }
+
+    @Benchmark
+    public List<Funcionario> criarListaFuncionarios() {
+        return new App().criarListaFuncionarios(new ByteArrayInputStream(json));
+    }
+}
@@ -0,0 +1,65 @@
+package org.willian.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Gerador de folhas de pagamento sinteticas no mesmo formato do data.json.
+ *
+ * Os nomes, funcoes, datas de nascimento e salarios seguem a distribuicao do arquivo de exemplo
+ * e sao gerados a partir de uma semente fixa, para que todas as execucoes usem os mesmos dados.
+ */
+public final class FolhaSintetica {
+
+    static final String[] NOMES = {
+            "Maria", "João", "Caio", "Miguel", "Alice", "Heitor", "Arthur", "Laura", "Heloísa", "Helena",
+            "Gabriel", "Sophia", "Bernardo", "Valentina", "Davi", "Manuela", "Lorenzo", "Júlia", "Théo", "Cecília"
+    };
+
+    static final String[] FUNCOES = {
+            "Operador", "Coordenador", "Diretor", "Recepcionista", "Contador", "Gerente", "Eletricista"
+    };
+
+    private static final long SEMENTE = 20240101L;
+    private static final long NASCIMENTO_MINIMO = LocalDate.of(1955, 1, 1).toEpochDay();
+    private static final long NASCIMENTO_MAXIMO = LocalDate.of(2006, 12, 31).toEpochDay();
+
+    private FolhaSintetica() {}
+
+    /**
+     * Gera um array JSON com a quantidade de funcionarios informada.
+     *
+     * Cada nome recebe um sufixo numerico para que os nomes sejam unicos,
+     * exceto pelo nome "João" do primeiro registro, que e mantido para as remocoes.
+     *
+     * @param quantidade a quantidade de funcionarios.
+     * @return o JSON codificado em UTF-8.
+     */
+    public static byte[] gerarJson(int quantidade) {
+        Random random = new Random(SEMENTE);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(quantidade, 1) * 100);
+        StringBuilder registro = new StringBuilder(128);
+
+        saida.writeBytes("[\n".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < quantidade; i++) {
+            String nome = i == 0 ? "João" : NOMES[random.nextInt(NOMES.length)] + " " + i;
+            LocalDate dataNascimento = LocalDate.ofEpochDay(
+                    NASCIMENTO_MINIMO + (long) (random.nextDouble() * (NASCIMENTO_MAXIMO - NASCIMENTO_MINIMO)));
+            long salarioCentavos = 121200 + (long) (Math.abs(random.nextGaussian()) * 400000);
+
+            registro.setLength(0);
+            registro.append("  {\n")
+                    .append("    \"nome\": \"").append(nome).append("\",\n")
+                    .append("    \"dataNascimento\": \"").append(dataNascimento).append("\",\n")
+                    .append("    \"salario\": ").append(salarioCentavos / 100).append('.')
+                    .append(salarioCentavos % 100 < 10 ? "0" : "").append(salarioCentavos % 100).append(",\n")
+                    .append("    \"funcao\": \"").append(FUNCOES[random.nextInt(FUNCOES.length)]).append("\"\n")
+                    .append(i == quantidade - 1 ? "  }\n" : "  },\n");
+            saida.writeBytes(registro.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        saida.writeBytes("]".getBytes(StandardCharsets.UTF_8));
+        return saida.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+package org.willian.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Mede o tempo de partida do Main (target/folha.jar, gerado com mvn -Pcds -DskipTests package) em cada
+ * configuracao de JVM, executando-o como um processo novo a cada medicao, como fazem os agendadores.
+ *
+ * Para cada execucao sao medidos o tempo ate o primeiro byte na saida padrao (time-to-first-output) e o tempo
+ * total ate o processo terminar. As configuracoes sao executadas alternadamente, para que variacoes da maquina
+ * afetem todas igualmente, e as primeiras execucoes (aquecimento do cache de disco) sao descartadas.
+ * A saida de todas as execucoes deve ser identica; caso contrario a medicao falha.
+ *
+ *     java -cp target/benchmarks.jar org.willian.benchmark.MedicaoInicializacao target/folha.jar 20
+ */
+public class MedicaoInicializacao {
+
+    private static final int EXECUCOES_PADRAO = 20;
+    private static final int AQUECIMENTO = 3;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path jar = Path.of(args.length > 0 ? args[0] : "target/folha.jar");
+        int execucoes = args.length > 1 ? Integer.parseInt(args[1]) : EXECUCOES_PADRAO;
+        Path arquivoCds = jar.resolveSibling(jar.getFileName().toString().replaceFirst("\\.jar$", "") + ".jsa");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Jar nao encontrado: " + jar + " (execute mvn -Pcds -DskipTests package)");
+        }
+
+        Map<String, List<String>> configuracoes = new LinkedHashMap<>();
+        configuracoes.put("sem CDS", List.of("-Xshare:off"));
+        configuracoes.put("CDS do JDK", List.of());
+        if (Files.isRegularFile(arquivoCds)) {
+            configuracoes.put("AppCDS", List.of("-XX:SharedArchiveFile=" + arquivoCds));
+            configuracoes.put("AppCDS + C1", List.of("-XX:SharedArchiveFile=" + arquivoCds, "-XX:TieredStopAtLevel=1"));
+        } else {
+            System.err.println("Arquivo AppCDS nao encontrado (" + arquivoCds + "); medindo apenas sem AppCDS.");
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Map<String, long[]> primeiraSaida = new LinkedHashMap<>();
+        Map<String, long[]> total = new LinkedHashMap<>();
+        configuracoes.keySet().forEach(nome -> {
+            primeiraSaida.put(nome, new long[execucoes]);
+            total.put(nome, new long[execucoes]);
+        });
+
+        long crcEsperado = -1;
+        for (int i = -AQUECIMENTO; i < execucoes; i++) {
+            for (Map.Entry<String, List<String>> configuracao : configuracoes.entrySet()) {
+                List<String> comando = new ArrayList<>();
+                comando.add(java);
+                comando.addAll(configuracao.getValue());
+                comando.add("-jar");
+                comando.add(jar.toString());
+
+                Execucao execucao = executar(comando);
+                if (crcEsperado == -1) {
+                    crcEsperado = execucao.crcSaida;
+                } else if (execucao.crcSaida != crcEsperado) {
+                    throw new IllegalStateException("A saida mudou na configuracao " + configuracao.getKey());
+                }
+                if (i >= 0) {
+                    primeiraSaida.get(configuracao.getKey())[i] = execucao.nanosPrimeiraSaida;
+                    total.get(configuracao.getKey())[i] = execucao.nanosTotal;
+                }
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%s, %d execucoes por configuracao (ms)%n", System.getProperty("java.version"), execucoes);
+        System.out.printf(Locale.ROOT, "%-14s %28s %28s%n", "", "primeira saida (min/med/p90)", "total (min/med/p90)");
+        for (String nome : configuracoes.keySet()) {
+            System.out.printf(Locale.ROOT, "%-14s %28s %28s%n", nome,
+                    resumo(primeiraSaida.get(nome)), resumo(total.get(nome)));
+        }
+    }
+
+    private static Execucao executar(List<String> comando) throws IOException, InterruptedException {
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(comando).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        long primeiraSaida = -1;
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream saida = processo.getInputStream()) {
+            int lidos;
+            while ((lidos = saida.read(buffer)) >= 0) {
+                if (primeiraSaida < 0 && lidos > 0) {
+                    primeiraSaida = System.nanoTime() - inicio;
+                }
+                crc.update(buffer, 0, lidos);
+            }
+        }
+        int status = processo.waitFor();
+        long fim = System.nanoTime() - inicio;
+        if (status != 0) {
+            throw new IllegalStateException("Processo terminou com status " + status + ": " + comando);
+        }
+        return new Execucao(primeiraSaida < 0 ? fim : primeiraSaida, fim, crc.getValue());
+    }
+
+    private static String resumo(long[] nanos) {
+        long[] ordenados = nanos.clone();
+        Arrays.sort(ordenados);
+        return String.format(Locale.ROOT, "%.1f / %.1f / %.1f", ordenados[0] / 1e6,
+                ordenados[ordenados.length / 2] / 1e6, ordenados[(int) Math.ceil(ordenados.length * 0.9) - 1] / 1e6);
+    }
+
+    private record Execucao(long nanosPrimeiraSaida, long nanosTotal, long crcSaida) {}
+}
@@ -2,40 +2,42 @@ package org.willian;
 
 import org.willian.application.App;
 import org.willian.domain.entities.Funcionario;
+import org.willian.infrastructure.report.RelatorioWriter;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.time.LocalDate;
 import java.time.Period;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 public class Main {
 
-    private static DateTimeFormatter dateFormatter = null;
-    private static DecimalFormat decimalFormat = null;
+    private static final String SEPARADOR = "--------------------------------------------------";
 
-    static {
-        dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-
-        DecimalFormatSymbols symbols = new DecimalFormatSymbols(new Locale("pt", "BR"));
-        symbols.setDecimalSeparator(',');
-        symbols.setGroupingSeparator('.');
+    public static void imprimirListaFuncionarios(List<Funcionario> funcionarios, String titulo) {
+        RelatorioWriter relatorio = RelatorioWriter.para(System.out);
+        escreverListaFuncionarios(relatorio, funcionarios, titulo);
+        descarregar(relatorio);
+    }
 
-        decimalFormat = new DecimalFormat("#,##0.00", symbols);
+    private static void escreverListaFuncionarios(RelatorioWriter relatorio, List<Funcionario> funcionarios, String titulo) {
+        relatorio.linha(titulo);
+        funcionarios.forEach(funcionario -> relatorio.linha()
+                .texto("Nome: ").texto(funcionario.getNome())
+                .texto(" | Data de Nascimento: ").data(funcionario.getDataNascimento())
+                .texto(" | Salário: R$ ").dinheiro(funcionario.getSalario())
+                .texto(" | Função: ").texto(funcionario.getFuncao())
+                .escrever());
+        relatorio.linha(SEPARADOR);
     }
 
-    public static void imprimirListaFuncionarios(List<Funcionario> funcionarios, String titulo) {
-        System.out.println(titulo);
-        funcionarios.forEach(funcionario -> System.out.println(
-                "Nome: " + funcionario.getNome() +
-                        " | Data de Nascimento: " + funcionario.getDataNascimento().format(dateFormatter) +
-                        " | Salário: R$ " + decimalFormat.format(funcionario.getSalario()) +
-                        " | Função: " + funcionario.getFuncao()
-        ));
-        System.out.println("--------------------------------------------------");
+    private static void descarregar(RelatorioWriter relatorio) {
+        try {
+            relatorio.flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     public static void main(String[] args) {
@@ -44,61 +46,65 @@ public class Main {
 
         App app = new App();
         List<Funcionario> funcionarios;
+        RelatorioWriter relatorio = RelatorioWriter.para(System.out);
 
-        System.out.println("Adicionando Funcionários...");
+        relatorio.linha("Adicionando Funcionários...");
         funcionarios = app.criarListaFuncionarios(inputStream);
-        imprimirListaFuncionarios(funcionarios, "Lista de Funcionários:");
+        escreverListaFuncionarios(relatorio, funcionarios, "Lista de Funcionários:");
 
-        System.out.println("Removendo Funcionário João...");
+        relatorio.linha("Removendo Funcionário João...");
         funcionarios = app.removerFuncionario("João");
-        imprimirListaFuncionarios(funcionarios, "Lista de Funcionários:");
+        escreverListaFuncionarios(relatorio, funcionarios, "Lista de Funcionários:");
 
-        System.out.println("Adicionando aumento de salarios...");
+        relatorio.linha("Adicionando aumento de salarios...");
         funcionarios = app.adicionarAumentoDeSalario(1.10);
-        System.out.println("Salários atualizados com 10% de aumento:");
-        funcionarios.forEach(funcionario -> System.out.println(
-                "Nome: " + funcionario.getNome() + " - Novo Salário: R$ " + decimalFormat.format(funcionario.getSalario())
-        ));
-        System.out.println("--------------------------------------------------");
-
-        System.out.println("Agrupando Funcionários por função...");
+        relatorio.linha("Salários atualizados com 10% de aumento:");
+        funcionarios.forEach(funcionario -> relatorio.linha()
+                .texto("Nome: ").texto(funcionario.getNome())
+                .texto(" - Novo Salário: R$ ").dinheiro(funcionario.getSalario())
+                .escrever());
+        relatorio.linha(SEPARADOR);
+
+        relatorio.linha("Agrupando Funcionários por função...");
         Map<String, List<Funcionario>> funcionariosPorFuncao = app.funcionariosPorFuncao();
-        System.out.println("Funcionários agrupados por função:");
+        relatorio.linha("Funcionários agrupados por função:");
         funcionariosPorFuncao.forEach((funcao, lista) -> {
-            System.out.println("Função: " + funcao);
-            lista.forEach(funcionario -> System.out.println(
-                    "  Nome: " + funcionario.getNome() +
-                            " | Data de Nascimento: " + funcionario.getDataNascimento().format(dateFormatter) +
-                            " | Salário: R$ " + decimalFormat.format(funcionario.getSalario())
-            ));
+            relatorio.linha().texto("Função: ").texto(funcao).escrever();
+            lista.forEach(funcionario -> relatorio.linha()
+                    .texto("  Nome: ").texto(funcionario.getNome())
+                    .texto(" | Data de Nascimento: ").data(funcionario.getDataNascimento())
+                    .texto(" | Salário: R$ ").dinheiro(funcionario.getSalario())
+                    .escrever());
         });
-        System.out.println("--------------------------------------------------");
+        relatorio.linha(SEPARADOR);
 
-        System.out.println("Filtrando funcionários com aniversário em Outubro e Dezembro...");
+        relatorio.linha("Filtrando funcionários com aniversário em Outubro e Dezembro...");
         List<Funcionario> funcionariosAniversario = app.funcionariosPorAniversario(10,12);
-        imprimirListaFuncionarios(funcionariosAniversario, "Funcionários com aniversário em Outubro e Dezembro");
+        escreverListaFuncionarios(relatorio, funcionariosAniversario, "Funcionários com aniversário em Outubro e Dezembro");
 
-        System.out.println("Descobrindo funcionário com a maior idade...");
+        relatorio.linha("Descobrindo funcionário com a maior idade...");
         Funcionario funcionarioMaisVelho = app.funcionarioComMaiorIdade();
 
         if (funcionarioMaisVelho != null) {
             int idade = Period.between(funcionarioMaisVelho.getDataNascimento(), LocalDate.now()).getYears();
-            System.out.println("Funcionário com maior idade: " + funcionarioMaisVelho.getNome() + " - " + idade + " anos.");
+            relatorio.linha().texto("Funcionário com maior idade: ").texto(funcionarioMaisVelho.getNome())
+                    .texto(" - ").texto(idade).texto(" anos.").escrever();
         }
-        System.out.println("--------------------------------------------------");
+        relatorio.linha(SEPARADOR);
 
-        System.out.println("Organizando funcionários em ordem alfabética...");
+        relatorio.linha("Organizando funcionários em ordem alfabética...");
         funcionarios = app.funcionarioOrdemAlfabetica();
-        imprimirListaFuncionarios(funcionarios, "Funcionários em ordem alfabética");
+        escreverListaFuncionarios(relatorio, funcionarios, "Funcionários em ordem alfabética");
 
-        System.out.println("Calculando total dos salários dos dos funcionários");
+        relatorio.linha("Calculando total dos salários dos dos funcionários");
         BigDecimal totalSalarios = app.totalSalarioFuncionarios();
-        System.out.println("Total dos salários dos funcionários: R$ " + decimalFormat.format(totalSalarios));
-        System.out.println("--------------------------------------------------");
+        relatorio.linha().texto("Total dos salários dos funcionários: R$ ").dinheiro(totalSalarios).escrever();
+        relatorio.linha(SEPARADOR);
 
-        System.out.println("Verificando a quantidade de salários mínimos por funcionário...");
-        System.out.println("Quantidade de salários mínimos por funcionário:");
+        relatorio.linha("Verificando a quantidade de salários mínimos por funcionário...");
+        relatorio.linha("Quantidade de salários mínimos por funcionário:");
+        descarregar(relatorio);
         app.salarioMinimoProFuncionario();
 
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,162 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Agregados da folha de pagamento mantidos de forma incremental.
+ *
+ * Guarda o total dos salarios, o total e a quantidade de funcionarios por funcao e um indice ordenado
+ * por data de nascimento, atualizados a cada insercao, remocao ou alteracao de salario. Assim as leituras
+ * custam O(1) (totais) ou O(log n) (funcionario mais velho) em vez de percorrer toda a lista.
+ *
+ * Em caso de empate na data de nascimento, o funcionario mais velho e o que foi registrado primeiro.
+ * Campos ausentes sao tolerados, como nas consultas que percorriam a lista: um salario nulo conta como zero
+ * nos totais e um funcionario sem data de nascimento nao entra no indice de idade.
+ * A funcao e a data de nascimento nao devem ser alteradas enquanto o funcionario estiver registrado.
+ * Esta classe nao e thread-safe.
+ */
+public class AgregadosFolha {
+
+    private BigDecimal totalSalarios = BigDecimal.ZERO;
+    private final Map<String, BigDecimal> totalPorFuncao = new LinkedHashMap<>();
+    private final Map<String, Integer> quantidadePorFuncao = new LinkedHashMap<>();
+    private final TreeMap<LocalDate, Set<Funcionario>> porDataNascimento = new TreeMap<>();
+    private final Set<Funcionario> semDataNascimento = new LinkedHashSet<>();
+    private int quantidade;
+
+    /**
+     * Cria os agregados a partir dos funcionarios informados.
+     *
+     * @param funcionarios os funcionarios a serem registrados, na ordem da lista.
+     * @return os agregados calculados.
+     */
+    public static AgregadosFolha de(Collection<Funcionario> funcionarios) {
+        AgregadosFolha agregados = new AgregadosFolha();
+        funcionarios.forEach(agregados::adicionar);
+        return agregados;
+    }
+
+    /**
+     * Registra um novo funcionario nos agregados.
+     *
+     * @param funcionario o funcionario adicionado.
+     */
+    public void adicionar(Funcionario funcionario) {
+        BigDecimal salario = salario(funcionario.getSalario());
+        totalSalarios = totalSalarios.add(salario);
+        totalPorFuncao.merge(funcionario.getFuncao(), salario, BigDecimal::add);
+        quantidadePorFuncao.merge(funcionario.getFuncao(), 1, Integer::sum);
+        if (funcionario.getDataNascimento() == null) {
+            semDataNascimento.add(funcionario);
+        } else {
+            porDataNascimento.computeIfAbsent(funcionario.getDataNascimento(), data -> new LinkedHashSet<>()).add(funcionario);
+        }
+        quantidade++;
+    }
+
+    /**
+     * Retira um funcionario dos agregados.
+     *
+     * @param funcionario o funcionario removido, com o salario que ele tinha quando foi registrado ou atualizado.
+     */
+    public void remover(Funcionario funcionario) {
+        if (funcionario.getDataNascimento() == null) {
+            if (!semDataNascimento.remove(funcionario)) {
+                return;
+            }
+        } else {
+            Set<Funcionario> mesmaData = porDataNascimento.get(funcionario.getDataNascimento());
+            if (mesmaData == null || !mesmaData.remove(funcionario)) {
+                return;
+            }
+            if (mesmaData.isEmpty()) {
+                porDataNascimento.remove(funcionario.getDataNascimento());
+            }
+        }
+
+        BigDecimal salario = salario(funcionario.getSalario());
+        totalSalarios = totalSalarios.subtract(salario);
+        String funcao = funcionario.getFuncao();
+        if (quantidadePorFuncao.merge(funcao, -1, Integer::sum) == 0) {
+            quantidadePorFuncao.remove(funcao);
+            totalPorFuncao.remove(funcao);
+        } else {
+            totalPorFuncao.merge(funcao, salario.negate(), BigDecimal::add);
+        }
+        quantidade--;
+    }
+
+    /**
+     * Atualiza os totais apos a alteracao do salario de um funcionario ja registrado.
+     *
+     * @param funcionario o funcionario, ja com o novo salario.
+     * @param salarioAnterior o salario antes da alteracao.
+     */
+    public void alterarSalario(Funcionario funcionario, BigDecimal salarioAnterior) {
+        BigDecimal diferenca = salario(funcionario.getSalario()).subtract(salario(salarioAnterior));
+        totalSalarios = totalSalarios.add(diferenca);
+        totalPorFuncao.merge(funcionario.getFuncao(), diferenca, BigDecimal::add);
+    }
+
+    /**
+     * Atualiza os totais com as diferencas de salario acumuladas por funcao,
+     * por exemplo apos um aumento aplicado em paralelo.
+     *
+     * @param diferencasPorFuncao a soma de (novo salario - salario anterior) de cada funcao.
+     */
+    public void alterarSalarios(Map<String, BigDecimal> diferencasPorFuncao) {
+        diferencasPorFuncao.forEach((funcao, diferenca) -> {
+            totalSalarios = totalSalarios.add(diferenca);
+            totalPorFuncao.merge(funcao, diferenca, BigDecimal::add);
+        });
+    }
+
+    /**
+     * Retorna o total dos salarios de todos os funcionarios registrados.
+     *
+     * @return o valor total dos salarios; BigDecimal.ZERO se nao houver funcionarios.
+     */
+    public BigDecimal totalSalarios() {
+        return quantidade == 0 ? BigDecimal.ZERO : totalSalarios;
+    }
+
+    /**
+     * Retorna o total dos salarios de cada funcao.
+     *
+     * @return um Map somente leitura da funcao para o total dos salarios.
+     */
+    public Map<String, BigDecimal> totalPorFuncao() {
+        return Collections.unmodifiableMap(totalPorFuncao);
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios de cada funcao.
+     *
+     * @return um Map somente leitura da funcao para a quantidade de funcionarios.
+     */
+    public Map<String, Integer> quantidadePorFuncao() {
+        return Collections.unmodifiableMap(quantidadePorFuncao);
+    }
+
+    /**
+     * Retorna o funcionario com maior idade.
+     *
+     * @return o funcionario mais velho; se nenhum funcionario tiver data de nascimento, retorna null.
+     */
+    public Funcionario maisVelho() {
+        Map.Entry<LocalDate, Set<Funcionario>> primeiro = porDataNascimento.firstEntry();
+        return primeiro == null ? null : primeiro.getValue().iterator().next();
+    }
+
+    public int quantidade() {
+        return quantidade;
+    }
+
+    private static BigDecimal salario(BigDecimal salario) {
+        return salario == null ? BigDecimal.ZERO : salario;
+    }
+}
@@ -0,0 +1,190 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Alteracao;
+import org.willian.domain.entities.Funcionario;
+import org.willian.infrastructure.reader.AlteracoesJsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Aplica arquivos de alteracoes (inclusoes, desligamentos, novos salarios e reajustes por funcao)
+ * sobre os funcionarios ja carregados em uma App, sem recarregar a folha inteira.
+ *
+ * O aplicador usa o IndexedFuncionarioRepository que a propria App mantem para localizar os funcionarios de
+ * cada evento por nome ou funcao, e atualiza esse indice e os agregados da App a cada evento. Assim cada
+ * evento custa tempo proporcional aos funcionarios que ele altera, e alteracoes feitas na App por fora do
+ * aplicador (removerFuncionario, adicionarAumentoDeSalario...) nao exigem reconstruir nada.
+ *
+ * A unica parte que percorre a folha inteira e a lista da App: os eventos sao aplicados em lotes, na ordem
+ * do arquivo, e as remocoes de um lote sao retiradas da lista em uma unica passada (O(n)) no fim do lote;
+ * as inclusoes sao acrescentadas ao fim dela. Lotes maiores diluem essa passada entre mais eventos.
+ *
+ * O nome e a funcao seguem as mesmas regras de removerFuncionario (nome sem diferenciar maiusculas e
+ * minusculas). Um funcionario removido e incluido de novo no mesmo lote vai para o fim da lista.
+ * Esta classe nao e thread-safe.
+ */
+public class AplicadorAlteracoes {
+
+    public static final int TAMANHO_LOTE_PADRAO = 4096;
+
+    private final App app;
+    private final int tamanhoLote;
+
+    public AplicadorAlteracoes(App app) {
+        this(app, TAMANHO_LOTE_PADRAO);
+    }
+
+    /**
+     * Cria o aplicador.
+     *
+     * @param app a App cujos funcionarios serao alterados.
+     * @param tamanhoLote quantos eventos sao aplicados antes de compactar a lista da App.
+     */
+    public AplicadorAlteracoes(App app, int tamanhoLote) {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser maior que zero.");
+        }
+        this.app = Objects.requireNonNull(app);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Le e aplica um arquivo de alteracoes no formato NDJSON (ver AlteracoesJsonReader).
+     *
+     * Se o arquivo tiver um evento invalido, os eventos anteriores a ele ja terao sido aplicados.
+     *
+     * @param ndjsonInputStream o InputStream com um evento JSON por linha.
+     * @return o resumo das alteracoes aplicadas.
+     * @throws IOException se o arquivo for invalido.
+     */
+    public ResumoAlteracoes aplicar(InputStream ndjsonInputStream) throws IOException {
+        Lote lote = new Lote();
+        try {
+            AlteracoesJsonReader.lerAlteracoes(ndjsonInputStream, alteracao -> {
+                lote.alteracoes.add(alteracao);
+                if (lote.alteracoes.size() == tamanhoLote) {
+                    aplicarLote(lote);
+                }
+            });
+        } catch (IOException e) {
+            aplicarLote(lote);
+            throw e;
+        }
+        aplicarLote(lote);
+        return lote.resumo();
+    }
+
+    /**
+     * Aplica as alteracoes informadas, na ordem.
+     *
+     * @param alteracoes as alteracoes a serem aplicadas.
+     * @return o resumo das alteracoes aplicadas.
+     */
+    public ResumoAlteracoes aplicar(List<? extends Alteracao> alteracoes) {
+        Lote lote = new Lote();
+        for (Alteracao alteracao : alteracoes) {
+            lote.alteracoes.add(alteracao);
+            if (lote.alteracoes.size() == tamanhoLote) {
+                aplicarLote(lote);
+            }
+        }
+        aplicarLote(lote);
+        return lote.resumo();
+    }
+
+    private void aplicarLote(Lote lote) {
+        if (lote.alteracoes.isEmpty()) {
+            return;
+        }
+        if (app.funcionarios == null) {
+            app.carregarFuncionarios(new ArrayList<>());
+        }
+        IndexedFuncionarioRepository indice = app.repositorio();
+
+        // Inseridos no lote: ja estao no indice, mas so entram na lista e nos agregados no fim do lote.
+        // Removidos no lote: ja sairam do indice e dos agregados, mas so saem da lista no fim do lote.
+        Set<Funcionario> inseridos = new LinkedHashSet<>();
+        Set<Funcionario> removidos = new HashSet<>();
+        try {
+            for (Alteracao alteracao : lote.alteracoes) {
+                switch (alteracao) {
+                    case Alteracao.Inserir inserir -> {
+                        if (indice.adicionar(inserir.funcionario())) {
+                            inseridos.add(inserir.funcionario());
+                            lote.inseridos++;
+                        }
+                    }
+                    case Alteracao.Remover remover -> {
+                        List<Funcionario> encontrados = app.retirar(remover.nome());
+                        if (encontrados.isEmpty()) {
+                            lote.semCorrespondencia++;
+                        }
+                        for (Funcionario funcionario : encontrados) {
+                            if (!inseridos.remove(funcionario)) {
+                                removidos.add(funcionario);
+                            }
+                            lote.removidos++;
+                        }
+                    }
+                    case Alteracao.AlterarSalario alterarSalario -> {
+                        List<Funcionario> encontrados = indice.buscarPorNome(alterarSalario.nome());
+                        if (encontrados.isEmpty()) {
+                            lote.semCorrespondencia++;
+                        }
+                        for (Funcionario funcionario : encontrados) {
+                            alterarSalario(funcionario, inseridos, alterarSalario.salario());
+                            lote.salariosAlterados++;
+                        }
+                    }
+                    case Alteracao.AumentoFuncao aumento -> {
+                        List<Funcionario> membros = indice.funcionariosDaFuncao(aumento.funcao());
+                        if (membros.isEmpty()) {
+                            lote.semCorrespondencia++;
+                        }
+                        BigDecimal fator = TarefasFolha.fatorDeAumento(aumento.fator().doubleValue());
+                        for (Funcionario funcionario : membros) {
+                            alterarSalario(funcionario, inseridos, TarefasFolha.salarioComAumento(funcionario.getSalario(), fator));
+                            lote.salariosReajustados++;
+                        }
+                    }
+                }
+            }
+        } finally {
+            // Mesmo se um evento falhar, a lista fica de acordo com o indice e os agregados.
+            app.compactarLista(removidos);
+            app.inserirFuncionarios(inseridos);
+            lote.alteracoes.clear();
+        }
+    }
+
+    /**
+     * Funcionarios inseridos no lote atual ainda nao estao nos agregados da App; o salario deles e alterado
+     * diretamente e eles entram nos agregados com o valor final no fim do lote.
+     */
+    private void alterarSalario(Funcionario funcionario, Set<Funcionario> inseridos, BigDecimal salario) {
+        if (inseridos.contains(funcionario)) {
+            funcionario.setSalario(salario);
+        } else {
+            app.alterarSalario(funcionario, salario);
+        }
+    }
+
+    /**
+     * Eventos pendentes e contadores de uma chamada de aplicar().
+     */
+    private static final class Lote {
+        private final List<Alteracao> alteracoes = new ArrayList<>();
+        private long inseridos;
+        private long removidos;
+        private long salariosAlterados;
+        private long salariosReajustados;
+        private long semCorrespondencia;
+
+        private ResumoAlteracoes resumo() {
+            return new ResumoAlteracoes(inseridos, removidos, salariosAlterados, salariosReajustados, semCorrespondencia);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package org.willian.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.willian.application.metrics.MetricasApp;
+import org.willian.application.metrics.OperacaoApp;
 import org.willian.domain.entities.Funcionario;
+import org.willian.infrastructure.reader.FuncionarioJsonArrayReader;
+import org.willian.infrastructure.reader.FuncionarioJsonReader;
+import org.willian.infrastructure.reader.FuncionarioReader;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.MonthDay;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Classe responsavel por gerenciar operacoes relacionadas aos funcionarios.
@@ -19,18 +25,148 @@ import java.util.stream.Collectors;
  *  - Remover um funcionario pelo nome.
  *  - Aplicar aumento de salario aos funcionarios.
  *  - Agrupar funcionarios por funcao.
- *  - Filtrar funcionarios por mes de aniversario.
+ *  - Filtrar funcionarios por mes de aniversario, por intervalo de dias ou pelos proximos dias.
+ *  - Contar os funcionarios por faixa etaria.
  *  - Identificar o funcionario com maior idade.
  *  - Ordenar funcionarios em ordem alfabetica.
  *  - Calcular o total dos salarios dos funcionarios.
  *  - Exibir a quantidade de salarios minimos que cada funcionario recebe.
+ *  - Contar os funcionarios por faixa de salarios minimos (salario minimo configuravel, inclusive por ano).
+ *
+ * O aumento de salario e a quantidade de salarios minimos podem ser executados em paralelo
+ * (ModoExecucao.PARALELO) em um ForkJoinPool; os resultados sao identicos aos do modo sequencial.
+ *
+ * O total dos salarios, os totais por funcao e o funcionario mais velho sao mantidos em AgregadosFolha,
+ * atualizados por criarListaFuncionarios, removerFuncionario e adicionarAumentoDeSalario. Da mesma forma,
+ * um IndexedFuncionarioRepository mantem os indices por nome, funcao e mes de aniversario usados por
+ * removerFuncionario, funcionariosPorFuncao e funcionariosPorAniversario, que assim nao percorrem a lista. Alteracoes feitas
+ * diretamente na lista retornada ou nos funcionarios nao sao refletidas nesses agregados e indices.
+ *
+ * No modo de armazenamento COLUNAR (ModoArmazenamento) a App mantem tambem uma copia colunar dos funcionarios
+ * (FuncionarioColumnarStore), e funcionariosPorFuncao, funcionariosPorAniversario, funcionarioComMaiorIdade e
+ * totalSalarioFuncionarios sao respondidos por ela. A copia acompanha removerFuncionario,
+ * adicionarAumentoDeSalario e as inclusoes; depois de outras alteracoes ela e recriada na proxima consulta.
+ * Nesse modo os funcionarios retornados por essas consultas sao copias, o total tem sempre 2 casas decimais
+ * e todo funcionario precisa ter data de nascimento e salario com no maximo 2 casas decimais.
+ *
+ * Cada operacao pode ser medida por um MetricasApp (setMetricas); por padrao as metricas ficam desativadas.
  */
 
 public class App {
 
+    private static final FuncionarioReader LEITOR_JSON = new FuncionarioJsonArrayReader();
+    private static final CalculoSalariosMinimos SALARIO_MINIMO_PADRAO = new CalculoSalariosMinimos(new BigDecimal("1212.00"));
+
     List<Funcionario> funcionarios;
 
-    public App() {}
+    private AgregadosFolha agregados;
+
+    private IndexedFuncionarioRepository repositorio;
+
+    private final ModoExecucao modoExecucao;
+    private final ModoArmazenamento modoArmazenamento;
+    private final ForkJoinPool pool;
+
+    private MetricasApp metricas = MetricasApp.desativadas();
+
+    private CalculoSalariosMinimos calculoSalariosMinimos = SALARIO_MINIMO_PADRAO;
+
+    private long versao;
+
+    private CalendarioAniversarios calendario;
+    private long versaoCalendario;
+
+    private FuncionarioColumnarStore colunas;
+    private long versaoColunas;
+
+    public App() {
+        this(ModoExecucao.SEQUENCIAL);
+    }
+
+    /**
+     * Cria a App no modo de execucao informado; no modo PARALELO e usado o ForkJoinPool comum.
+     *
+     * @param modoExecucao o modo de execucao das operacoes em lote.
+     */
+    public App(ModoExecucao modoExecucao) {
+        this(modoExecucao, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria a App no modo de execucao informado, usando o ForkJoinPool informado no modo PARALELO.
+     *
+     * @param modoExecucao o modo de execucao das operacoes em lote.
+     * @param pool o ForkJoinPool usado no modo PARALELO.
+     */
+    public App(ModoExecucao modoExecucao, ForkJoinPool pool) {
+        this(modoExecucao, ModoArmazenamento.OBJETOS, pool);
+    }
+
+    /**
+     * Cria a App no modo sequencial, com o modo de armazenamento informado.
+     *
+     * @param modoArmazenamento o modo de armazenamento usado nas consultas.
+     */
+    public App(ModoArmazenamento modoArmazenamento) {
+        this(ModoExecucao.SEQUENCIAL, modoArmazenamento, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Cria a App nos modos de execucao e de armazenamento informados.
+     *
+     * @param modoExecucao o modo de execucao das operacoes em lote.
+     * @param modoArmazenamento o modo de armazenamento usado nas consultas.
+     * @param pool o ForkJoinPool usado no modo PARALELO.
+     */
+    public App(ModoExecucao modoExecucao, ModoArmazenamento modoArmazenamento, ForkJoinPool pool) {
+        this.modoExecucao = Objects.requireNonNull(modoExecucao);
+        this.modoArmazenamento = Objects.requireNonNull(modoArmazenamento);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    public ModoExecucao getModoExecucao() {
+        return modoExecucao;
+    }
+
+    public ModoArmazenamento getModoArmazenamento() {
+        return modoArmazenamento;
+    }
+
+    public BigDecimal getSalarioMinimo() {
+        return calculoSalariosMinimos.getSalarioMinimo();
+    }
+
+    /**
+     * Define o salario minimo usado nos calculos de salarios minimos e faixas salariais.
+     *
+     * @param salarioMinimo o valor do salario minimo.
+     */
+    public void setSalarioMinimo(BigDecimal salarioMinimo) {
+        this.calculoSalariosMinimos = new CalculoSalariosMinimos(salarioMinimo);
+    }
+
+    /**
+     * Define o salario minimo como o vigente no ano informado.
+     *
+     * @param tabela a tabela de salarios minimos (por exemplo TabelaSalarioMinimo.nacional()).
+     * @param ano o ano de referencia.
+     */
+    public void setSalarioMinimo(TabelaSalarioMinimo tabela, int ano) {
+        this.calculoSalariosMinimos = CalculoSalariosMinimos.doAno(tabela, ano);
+    }
+
+    public MetricasApp getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Define as metricas que medem as operacoes desta App.
+     *
+     * @param metricas as metricas a serem usadas.
+     */
+    public void setMetricas(MetricasApp metricas) {
+        this.metricas = Objects.requireNonNull(metricas);
+    }
 
     /**
      * Cria uma lista de funcionarios a partir de um JSON fornecido via InputStream.
@@ -39,23 +175,58 @@ public class App {
      * @return a lista de funcionarios criada; se ocorrer erro na leitura, retorna a lista atual (possivelmente nula).
      */
     public List<Funcionario> criarListaFuncionarios(InputStream jsonInputStream) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.findAndRegisterModules();
+        return criarListaFuncionarios(jsonInputStream, LEITOR_JSON);
+    }
 
+    /**
+     * Cria uma lista de funcionarios a partir de uma entrada no formato do leitor informado
+     * (por exemplo FuncionarioReaders.paraFormato("csv")).
+     *
+     * @param inputStream o InputStream com os funcionarios.
+     * @param leitor o leitor do formato da entrada.
+     * @return a lista de funcionarios criada; se ocorrer erro na leitura, retorna a lista atual (possivelmente nula).
+     */
+    public List<Funcionario> criarListaFuncionarios(InputStream inputStream, FuncionarioReader leitor) {
+        long inicio = metricas.iniciar();
+        InputStream entrada = metricas.medirLeitura(inputStream);
         try {
-            List<Funcionario> funcionariosList = objectMapper.readValue(
-                    jsonInputStream,
-                    new TypeReference<List<Funcionario>>() {}
-            );
+            List<Funcionario> funcionariosList = leitor.lerLista(entrada);
 
             this.setFuncionarios(funcionariosList);
+            metricas.registrarLeitura(entrada, true);
+            metricas.registrar(OperacaoApp.CRIAR_LISTA_FUNCIONARIOS, inicio, funcionariosList.size());
         } catch (IOException e) {
+            metricas.registrarLeitura(entrada, false);
             e.printStackTrace();
         }
 
         return funcionarios;
     }
 
+    /**
+     * Usa a lista de funcionarios informada como a lista desta App, substituindo a atual.
+     *
+     * @param funcionarios a lista de funcionarios, ja carregada (por exemplo por outro leitor).
+     * @return a lista de funcionarios definida.
+     */
+    public List<Funcionario> carregarFuncionarios(List<Funcionario> funcionarios) {
+        this.setFuncionarios(Objects.requireNonNull(funcionarios));
+        return this.funcionarios;
+    }
+
+    /**
+     * Le os funcionarios de um JSON em modo streaming, entregando cada um ao consumidor
+     * sem carregar o array inteiro em memoria. A lista de funcionarios desta instancia nao e alterada.
+     *
+     * @param jsonInputStream o InputStream contendo o JSON com a lista de funcionarios.
+     * @param consumidor recebe cada funcionario assim que ele e lido.
+     * @return a quantidade de funcionarios lidos.
+     * @throws IOException se o JSON for invalido.
+     */
+    public long lerFuncionarios(InputStream jsonInputStream, Consumer<? super Funcionario> consumidor) throws IOException {
+        return FuncionarioJsonReader.lerFuncionarios(jsonInputStream, consumidor);
+    }
+
     /**
      * Define a lista de funcionarios.
      *
@@ -63,19 +234,103 @@ public class App {
      */
     private void setFuncionarios (List<Funcionario> funcionarios) {
         this.funcionarios = funcionarios;
+        this.agregados = AgregadosFolha.de(funcionarios);
+        this.repositorio = new IndexedFuncionarioRepository(funcionarios);
+        this.colunas = null;
+        versao++;
+        if (modoArmazenamento == ModoArmazenamento.COLUNAR) {
+            colunas();
+        }
+    }
+
+    /**
+     * Retorna a versao dos dados desta App. Ela muda a cada carga da lista, remocao, aumento de salario
+     * ou alteracao aplicada pelo AplicadorAlteracoes; alteracoes feitas diretamente na lista nao a alteram.
+     *
+     * @return a versao atual dos dados.
+     */
+    public long getVersao() {
+        return versao;
     }
 
     /**
      * Remove da lista o funcionario cujo nome corresponda ao informado (ignora maiusculas e minusculas).
      *
+     * Os funcionarios sao localizados pelo indice de nomes; a lista so e percorrida, em uma unica passada
+     * para compacta-la, quando algum funcionario e removido.
+     *
      * @param nome o nome do funcionario a ser removido.
      * @return a lista de funcionarios atualizada.
      */
     public List<Funcionario> removerFuncionario (String nome) {
-        this.funcionarios.removeIf(funcionario -> funcionario.getNome().equalsIgnoreCase(nome));
+        long inicio = metricas.iniciar();
+        long versaoAnterior = versao;
+        List<Funcionario> removidos = retirar(nome);
+        compactarLista(new HashSet<>(removidos));
+        if (!removidos.isEmpty()) {
+            alterarColunas(versaoAnterior, colunas -> colunas.removerFuncionario(nome));
+        }
+        metricas.registrar(OperacaoApp.REMOVER_FUNCIONARIO, inicio, removidos.size());
         return this.funcionarios;
     }
 
+    /**
+     * Retorna o indice dos funcionarios desta App, para consultas por nome e funcao.
+     */
+    IndexedFuncionarioRepository repositorio() {
+        return repositorio;
+    }
+
+    /**
+     * Retira dos indices e dos agregados os funcionarios com o nome informado. Eles continuam na lista ate
+     * compactarLista, para que varias remocoes sejam retiradas da lista em uma unica passada.
+     *
+     * @return os funcionarios retirados.
+     */
+    List<Funcionario> retirar(String nome) {
+        List<Funcionario> retirados = repositorio.removerFuncionario(nome);
+        retirados.forEach(agregados::remover);
+        return retirados;
+    }
+
+    /**
+     * Retira da lista, em uma unica passada (O(n)), as instancias ja retiradas com retirar.
+     */
+    void compactarLista(Set<Funcionario> retirados) {
+        if (retirados.isEmpty()) {
+            return;
+        }
+        funcionarios.removeIf(retirados::contains);
+        versao++;
+    }
+
+    /**
+     * Acrescenta os funcionarios ao fim da lista, aos agregados e aos indices.
+     */
+    void inserirFuncionarios(Collection<Funcionario> novos) {
+        if (novos.isEmpty()) {
+            return;
+        }
+        long versaoAnterior = versao;
+        funcionarios.addAll(novos);
+        novos.forEach(funcionario -> {
+            agregados.adicionar(funcionario);
+            repositorio.adicionar(funcionario);
+        });
+        versao++;
+        alterarColunas(versaoAnterior, colunas -> novos.forEach(colunas::adicionar));
+    }
+
+    /**
+     * Define o salario de um funcionario da lista, atualizando os agregados.
+     */
+    void alterarSalario(Funcionario funcionario, BigDecimal salario) {
+        BigDecimal salarioAnterior = funcionario.getSalario();
+        funcionario.setSalario(salario);
+        agregados.alterarSalario(funcionario, salarioAnterior);
+        versao++;
+    }
+
     /**
      * Aplica um aumento no salario de todos os funcionarios.
      *
@@ -86,22 +341,58 @@ public class App {
      * @return a lista de funcionarios com os salarios atualizados.
      */
     public List<Funcionario> adicionarAumentoDeSalario (Double valor) {
-        this.funcionarios.forEach(funcionario -> {
-            BigDecimal novoSalario = funcionario.getSalario().multiply(new BigDecimal(valor));
-            funcionario.setSalario(novoSalario.setScale(2, RoundingMode.HALF_UP));
-        });
+        long inicio = metricas.iniciar();
+        long versaoAnterior = versao;
+        BigDecimal fator = TarefasFolha.fatorDeAumento(valor);
 
+        // Os novos salarios sao calculados antes de qualquer alteracao: se o calculo falhar (por exemplo, um
+        // salario null), nenhum funcionario e alterado e os agregados e a versao continuam validos.
+        Funcionario[] array = funcionarios.toArray(new Funcionario[0]);
+        BigDecimal[] novosSalarios = new BigDecimal[array.length];
+        if (modoExecucao == ModoExecucao.PARALELO) {
+            Map<String, BigDecimal> diferencas = pool.invoke(
+                    new TarefasFolha.AumentoSalarial(array, novosSalarios, 0, array.length, fator));
+            for (int i = 0; i < array.length; i++) {
+                array[i].setSalario(novosSalarios[i]);
+            }
+            agregados.alterarSalarios(diferencas);
+        } else {
+            for (int i = 0; i < array.length; i++) {
+                novosSalarios[i] = TarefasFolha.salarioComAumento(array[i].getSalario(), fator);
+            }
+            for (int i = 0; i < array.length; i++) {
+                BigDecimal salarioAnterior = array[i].getSalario();
+                array[i].setSalario(novosSalarios[i]);
+                agregados.alterarSalario(array[i], salarioAnterior);
+            }
+        }
+
+        versao++;
+        alterarColunas(versaoAnterior, colunas -> colunas.adicionarAumentoDeSalario(valor));
+        metricas.registrar(OperacaoApp.ADICIONAR_AUMENTO_DE_SALARIO, inicio, funcionarios.size());
         return this.funcionarios;
     }
 
     /**
      * Agrupa os funcionarios por sua funcao.
      *
-     * @return um Map onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao.
+     * Os grupos vem do indice de funcoes: cada funcionario recebe o id da sua funcao uma unica vez, quando
+     * entra na App (carga da lista ou insercao), e o agrupamento apenas percorre os grupos por id, sem
+     * calcular o hash da funcao de cada funcionario.
+     *
+     * @return um Map onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao, na ordem
+     *         da lista; as funcoes ficam na ordem em que apareceram pela primeira vez desde a carga da lista.
+     * @throws NullPointerException se algum funcionario nao tiver funcao.
      */
     public Map<String, List<Funcionario>> funcionariosPorFuncao () {
-        Map<String, List<Funcionario>> funcionariosPorFuncao = funcionarios.stream()
-                .collect(Collectors.groupingBy(Funcionario::getFuncao));
+        long inicio = metricas.iniciar();
+        Map<String, List<Funcionario>> funcionariosPorFuncao = modoArmazenamento == ModoArmazenamento.COLUNAR
+                ? colunas().funcionariosPorFuncao()
+                : repositorio.funcionariosPorFuncao();
+        if (funcionariosPorFuncao.containsKey(null)) {
+            throw new NullPointerException("element cannot be mapped to a null key");
+        }
+        metricas.registrar(OperacaoApp.FUNCIONARIOS_POR_FUNCAO, inicio, funcionarios.size());
 
         return funcionariosPorFuncao;
     }
@@ -109,29 +400,125 @@ public class App {
     /**
      * Filtra os funcionarios que fazem aniversario em um dos dois meses especificados.
      *
+     * Os funcionarios vem dos buckets de mes do indice, sem percorrer a lista. Um mes fora do intervalo
+     * de 1 a 12 nao corresponde a nenhum funcionario.
+     *
      * @param mesInicial o primeiro mes a ser considerado (valor entre 1 e 12).
      * @param mesFinal o segundo mes a ser considerado (valor entre 1 e 12).
-     * @return uma lista de funcionarios que fazem aniversario em mesInicial ou mesFinal.
+     * @return uma lista somente leitura dos funcionarios que fazem aniversario em mesInicial ou mesFinal,
+     *         na ordem da lista.
      */
     public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
-        List<Funcionario> funcionariosAniversario = funcionarios.stream()
-                .filter(funcionario -> {
-                    int mes = funcionario.getDataNascimento().getMonthValue();
-                    return mes == mesInicial || mes == mesFinal;
-                }).toList();
+        long inicio = metricas.iniciar();
+        boolean inicialValido = mesInicial >= 1 && mesInicial <= 12;
+        boolean finalValido = mesFinal >= 1 && mesFinal <= 12;
+        List<Funcionario> funcionariosAniversario;
+        if (modoArmazenamento == ModoArmazenamento.COLUNAR) {
+            funcionariosAniversario = Collections.unmodifiableList(colunas().funcionariosPorAniversario(mesInicial, mesFinal));
+        } else if (!inicialValido && !finalValido) {
+            funcionariosAniversario = List.of();
+        } else {
+            funcionariosAniversario = Collections.unmodifiableList(repositorio.funcionariosPorAniversario(
+                    inicialValido ? mesInicial : mesFinal, finalValido ? mesFinal : mesInicial));
+        }
+        metricas.registrar(OperacaoApp.FUNCIONARIOS_POR_ANIVERSARIO, inicio, funcionariosAniversario.size());
         return funcionariosAniversario;
     }
 
+    /**
+     * Retorna o indice de aniversarios e idades dos funcionarios. Ele e criado na primeira consulta e
+     * reaproveitado enquanto a versao dos dados (getVersao()) nao mudar.
+     *
+     * @return o indice dos funcionarios atuais.
+     */
+    public CalendarioAniversarios calendarioAniversarios() {
+        if (calendario == null || versaoCalendario != versao) {
+            calendario = CalendarioAniversarios.de(funcionarios);
+            versaoCalendario = versao;
+        }
+        return calendario;
+    }
+
+    /**
+     * Retorna a copia colunar dos funcionarios, recriando-a se algum dado mudou desde que ela foi montada.
+     */
+    private FuncionarioColumnarStore colunas() {
+        if (colunas == null || versaoColunas != versao) {
+            colunas = FuncionarioColumnarStore.de(funcionarios);
+            versaoColunas = versao;
+        }
+        return colunas;
+    }
+
+    /**
+     * Aplica uma alteracao ja feita na lista tambem na copia colunar, se ela estava atualizada antes da
+     * alteracao; caso contrario ela sera recriada na proxima consulta.
+     */
+    private void alterarColunas(long versaoAnterior, Consumer<FuncionarioColumnarStore> alteracao) {
+        if (colunas != null && versaoColunas == versaoAnterior) {
+            alteracao.accept(colunas);
+            versaoColunas = versao;
+        }
+    }
+
+    /**
+     * Retorna os funcionarios que fazem aniversario nos proximos dias, usando o CalendarioAniversarios.
+     *
+     * @param hoje o primeiro dia considerado.
+     * @param dias a quantidade de dias (1 considera apenas hoje).
+     * @return os funcionarios, na ordem em que os aniversarios acontecem.
+     */
+    public List<Funcionario> aniversariantesProximosDias(LocalDate hoje, int dias) {
+        long inicio = metricas.iniciar();
+        List<Funcionario> aniversariantes = calendarioAniversarios().aniversariantesProximosDias(hoje, dias);
+        metricas.registrar(OperacaoApp.ANIVERSARIANTES, inicio, aniversariantes.size());
+        return aniversariantes;
+    }
+
+    /**
+     * Retorna os funcionarios que fazem aniversario entre dois dias do ano, inclusive; se inicio for depois
+     * de fim, o intervalo passa pela virada do ano.
+     *
+     * @param inicio o primeiro dia.
+     * @param fim o ultimo dia.
+     * @return os funcionarios, em ordem de aniversario a partir de inicio.
+     */
+    public List<Funcionario> aniversariantesEntre(MonthDay inicio, MonthDay fim) {
+        long inicioMedicao = metricas.iniciar();
+        List<Funcionario> aniversariantes = calendarioAniversarios().aniversariantesEntre(inicio, fim);
+        metricas.registrar(OperacaoApp.ANIVERSARIANTES, inicioMedicao, aniversariantes.size());
+        return aniversariantes;
+    }
+
+    /**
+     * Conta os funcionarios por faixa etaria na data de referencia (ver CalendarioAniversarios).
+     *
+     * @param referencia a data em que as idades sao calculadas.
+     * @param limites as idades que iniciam cada faixa, em ordem crescente (por exemplo 18, 30, 60).
+     * @return a quantidade de funcionarios em cada faixa (limites.length + 1 posicoes).
+     */
+    public int[] quantidadePorFaixaEtaria(LocalDate referencia, int... limites) {
+        long inicio = metricas.iniciar();
+        int[] quantidades = calendarioAniversarios().quantidadePorFaixaEtaria(referencia, limites);
+        metricas.registrar(OperacaoApp.FAIXAS_ETARIAS, inicio, 0);
+        return quantidades;
+    }
+
     /**
      * Retorna o funcionario com maior idade, com base na data de nascimento.
      *
+     * No modo OBJETOS o valor vem dos agregados mantidos a cada alteracao da lista, sem percorrer os
+     * funcionarios; no modo COLUNAR vem de uma varredura da copia colunar.
+     *
      * @return o funcionario mais velho; se a lista estiver vazia, retorna null.
      */
     public Funcionario funcionarioComMaiorIdade(){
-        Funcionario funcionarioMaisVelho = funcionarios.stream()
-                .min(Comparator.comparing(Funcionario::getDataNascimento))
-                .orElse(null);
-        return funcionarioMaisVelho;
+        long inicio = metricas.iniciar();
+        Funcionario maisVelho = modoArmazenamento == ModoArmazenamento.COLUNAR
+                ? colunas().funcionarioComMaiorIdade()
+                : agregados.maisVelho();
+        metricas.registrar(OperacaoApp.FUNCIONARIO_COM_MAIOR_IDADE, inicio, 0);
+        return maisVelho;
     }
 
     /**
@@ -140,35 +527,105 @@ public class App {
      * @return a lista de funcionarios ordenada em ordem alfabetica.
      */
     public List<Funcionario> funcionarioOrdemAlfabetica() {
+        long inicio = metricas.iniciar();
         List<Funcionario> funcionariosOrdenados = new ArrayList<>(funcionarios);
         funcionariosOrdenados.sort(Comparator.comparing(Funcionario::getNome));
+        metricas.registrar(OperacaoApp.FUNCIONARIO_ORDEM_ALFABETICA, inicio, funcionariosOrdenados.size());
         return funcionariosOrdenados;
     }
 
     /**
-     * Calcula o total dos salarios de todos os funcionarios.
+     * Retorna o total dos salarios de todos os funcionarios.
+     *
+     * No modo OBJETOS o valor vem dos agregados mantidos a cada alteracao da lista, sem percorrer os
+     * funcionarios; no modo COLUNAR vem de uma varredura da copia colunar.
      *
      * @return o valor total dos salarios.
      */
     public BigDecimal totalSalarioFuncionarios () {
-        BigDecimal totalSalarios = funcionarios.stream()
-                .map(Funcionario::getSalario)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return totalSalarios;
+        long inicio = metricas.iniciar();
+        BigDecimal total = modoArmazenamento == ModoArmazenamento.COLUNAR
+                ? colunas().totalSalarioFuncionarios()
+                : agregados.totalSalarios();
+        metricas.registrar(OperacaoApp.TOTAL_SALARIO_FUNCIONARIOS, inicio, 0);
+        return total;
+    }
+
+    /**
+     * Retorna o total dos salarios de cada funcao.
+     *
+     * @return um Map somente leitura onde a chave e a funcao e o valor e o total dos salarios daquela funcao.
+     */
+    public Map<String, BigDecimal> totalSalarioPorFuncao() {
+        return agregados.totalPorFuncao();
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios de cada funcao.
+     *
+     * @return um Map somente leitura onde a chave e a funcao e o valor e a quantidade de funcionarios.
+     */
+    public Map<String, Integer> quantidadePorFuncao() {
+        return agregados.quantidadePorFuncao();
+    }
+
+    /**
+     * Calcula a quantidade de salarios minimos que cada funcionario recebe.
+     *
+     * Considera o salario minimo configurado (por padrao R$1212.00).
+     * Para cada funcionario, e calculado o quociente entre o seu salario e o salario minimo,
+     * sendo o resultado arredondado para 2 casas decimais.
+     *
+     * @return as quantidades de salarios minimos, na mesma ordem da lista de funcionarios.
+     */
+    public List<BigDecimal> quantidadeSalariosMinimos() {
+        long inicio = metricas.iniciar();
+        List<BigDecimal> resultado;
+        if (modoExecucao == ModoExecucao.PARALELO) {
+            Funcionario[] array = funcionarios.toArray(new Funcionario[0]);
+            BigDecimal[] salarios = new BigDecimal[array.length];
+            pool.invoke(new TarefasFolha.SalariosMinimos(array, salarios, 0, array.length, calculoSalariosMinimos.getSalarioMinimo()));
+            resultado = Arrays.asList(salarios);
+        } else {
+            resultado = calculoSalariosMinimos.quantidades(funcionarios);
+        }
+        metricas.registrar(OperacaoApp.SALARIOS_MINIMOS, inicio, resultado.size());
+        return resultado;
+    }
+
+    /**
+     * Percorre os funcionarios uma unica vez, entregando a quantidade de salarios minimos de cada um ao destino
+     * (sem montar uma lista) e contando os funcionarios por faixa de salarios minimos.
+     *
+     * @param destino recebe cada funcionario e a sua quantidade de salarios minimos, na ordem da lista;
+     *                se for null, apenas o histograma e calculado.
+     * @return o histograma de faixas salariais (limites FaixasSalariais.LIMITES_PADRAO).
+     */
+    public FaixasSalariais salariosMinimos(BiConsumer<? super Funcionario, ? super BigDecimal> destino) {
+        long inicio = metricas.iniciar();
+        FaixasSalariais faixas = calculoSalariosMinimos.calcular(funcionarios, destino);
+        metricas.registrar(OperacaoApp.SALARIOS_MINIMOS, inicio, faixas.total());
+        return faixas;
+    }
+
+    /**
+     * Conta os funcionarios por faixa de salarios minimos, sem calcular a quantidade de cada um.
+     *
+     * @return o histograma de faixas salariais.
+     */
+    public FaixasSalariais faixasSalariais() {
+        return salariosMinimos(null);
     }
 
     /**
      * Exibe no console a quantidade de salarios minimos que cada funcionario recebe.
      *
-     * Considera o valor do salario minimo fixo em R$1212.00.
+     * Considera o salario minimo configurado (por padrao R$1212.00).
      * Para cada funcionario, e calculado o quociente entre o seu salario e o salario minimo,
      * sendo o resultado arredondado para 2 casas decimais.
      */
     public void salarioMinimoProFuncionario() {
-        BigDecimal salarioMinimo = new BigDecimal("1212.00");
-        funcionarios.forEach(funcionario -> {
-            BigDecimal qtdSalariosMinimos = funcionario.getSalario().divide(salarioMinimo, 2, RoundingMode.HALF_UP);
-            System.out.println("Nome: " + funcionario.getNome() + " - " + qtdSalariosMinimos + " salários mínimos.");
-        });
+        salariosMinimos((funcionario, qtdSalariosMinimos) ->
+                System.out.println("Nome: " + funcionario.getNome() + " - " + qtdSalariosMinimos + " salários mínimos."));
     }
 }
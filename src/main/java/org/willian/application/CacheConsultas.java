@@ -0,0 +1,210 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos resultados de funcionariosPorFuncao, funcionariosPorAniversario e funcionarioOrdemAlfabetica de uma App.
+ *
+ * Cada resultado e guardado com a versao dos dados da App (App.getVersao()) em que foi calculado; se a versao
+ * mudou, a entrada e descartada e a consulta e recalculada, entao um resultado desatualizado nunca e retornado.
+ * As entradas tambem expiram depois do tempo de vida configurado.
+ *
+ * O cache e limitado pela quantidade de entradas e por uma estimativa de memoria; quando um dos limites e
+ * ultrapassado, as entradas usadas ha mais tempo sao removidas (LRU). A estimativa considera apenas as listas
+ * e mapas do resultado, pois os funcionarios sao os mesmos objetos da App.
+ *
+ * Os resultados retornados sao somente leitura, ja que sao compartilhados entre as chamadas. O cache pode ser
+ * consultado por varias threads, desde que a App nao seja alterada ao mesmo tempo.
+ */
+public class CacheConsultas {
+
+    public static final int MAX_ENTRADAS_PADRAO = 256;
+    public static final long MAX_BYTES_PADRAO = 32L * 1024 * 1024;
+    public static final Duration TEMPO_DE_VIDA_PADRAO = Duration.ofMinutes(10);
+
+    private static final int BYTES_POR_REFERENCIA = 8;
+    private static final int BYTES_POR_LISTA = 48;
+    private static final int BYTES_POR_ENTRADA_MAPA = 64;
+
+    private final App app;
+    private final int maxEntradas;
+    private final long maxBytes;
+    private final long tempoDeVidaNanos;
+    private final LongSupplier relogio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Chave, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesEstimados;
+    private long acertos;
+    private long falhas;
+    private long invalidadas;
+    private long expiradas;
+    private long despejos;
+
+    public CacheConsultas(App app) {
+        this(app, MAX_ENTRADAS_PADRAO, MAX_BYTES_PADRAO, TEMPO_DE_VIDA_PADRAO);
+    }
+
+    /**
+     * Cria o cache.
+     *
+     * @param app a App consultada.
+     * @param maxEntradas a quantidade maxima de resultados guardados.
+     * @param maxBytes o tamanho estimado maximo dos resultados guardados.
+     * @param tempoDeVida por quanto tempo um resultado pode ser reutilizado.
+     */
+    public CacheConsultas(App app, int maxEntradas, long maxBytes, Duration tempoDeVida) {
+        this(app, maxEntradas, maxBytes, tempoDeVida, System::nanoTime);
+    }
+
+    CacheConsultas(App app, int maxEntradas, long maxBytes, Duration tempoDeVida, LongSupplier relogio) {
+        if (maxEntradas < 1 || maxBytes < 1 || tempoDeVida.isNegative() || tempoDeVida.isZero()) {
+            throw new IllegalArgumentException("Os limites do cache devem ser maiores que zero.");
+        }
+        this.app = Objects.requireNonNull(app);
+        this.maxEntradas = maxEntradas;
+        this.maxBytes = maxBytes;
+        this.tempoDeVidaNanos = tempoDeVida.toNanos();
+        this.relogio = relogio;
+    }
+
+    /**
+     * Retorna o resultado de App.funcionariosPorFuncao(), do cache se ainda for valido.
+     *
+     * @return um Map somente leitura onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao.
+     */
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        return consultar(new Chave(Consulta.POR_FUNCAO, 0, 0), () -> {
+            Map<String, List<Funcionario>> resultado = app.funcionariosPorFuncao();
+            resultado.replaceAll((funcao, lista) -> Collections.unmodifiableList(lista));
+            return Collections.unmodifiableMap(resultado);
+        });
+    }
+
+    /**
+     * Retorna o resultado de App.funcionariosPorAniversario(mesInicial, mesFinal), do cache se ainda for valido.
+     *
+     * @param mesInicial o primeiro mes a ser considerado (valor entre 1 e 12).
+     * @param mesFinal o segundo mes a ser considerado (valor entre 1 e 12).
+     * @return uma lista somente leitura de funcionarios que fazem aniversario em mesInicial ou mesFinal.
+     */
+    public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
+        return consultar(new Chave(Consulta.POR_ANIVERSARIO, mesInicial, mesFinal),
+                () -> app.funcionariosPorAniversario(mesInicial, mesFinal));
+    }
+
+    /**
+     * Retorna o resultado de App.funcionarioOrdemAlfabetica(), do cache se ainda for valido.
+     *
+     * @return a lista somente leitura de funcionarios em ordem alfabetica.
+     */
+    public List<Funcionario> funcionarioOrdemAlfabetica() {
+        return consultar(new Chave(Consulta.ORDEM_ALFABETICA, 0, 0),
+                () -> Collections.unmodifiableList(app.funcionarioOrdemAlfabetica()));
+    }
+
+    /**
+     * Remove todas as entradas do cache, mantendo as estatisticas.
+     */
+    public void limpar() {
+        lock.lock();
+        try {
+            entradas.clear();
+            bytesEstimados = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public EstatisticasCache estatisticas() {
+        lock.lock();
+        try {
+            return new EstatisticasCache(acertos, falhas, invalidadas, expiradas, despejos, entradas.size(), bytesEstimados);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T consultar(Chave chave, Supplier<T> calcular) {
+        long versao = app.getVersao();
+        lock.lock();
+        try {
+            Entrada entrada = entradas.get(chave);
+            if (entrada != null) {
+                if (entrada.versao != versao) {
+                    remover(chave, entrada);
+                    invalidadas++;
+                } else if (relogio.getAsLong() - entrada.criadaEm > tempoDeVidaNanos) {
+                    remover(chave, entrada);
+                    expiradas++;
+                } else {
+                    acertos++;
+                    return (T) entrada.valor;
+                }
+            }
+            falhas++;
+        } finally {
+            lock.unlock();
+        }
+
+        T valor = calcular.get();
+        long bytes = estimarBytes(valor);
+        if (bytes > maxBytes) {
+            return valor;
+        }
+
+        lock.lock();
+        try {
+            Entrada anterior = entradas.put(chave, new Entrada(valor, versao, relogio.getAsLong(), bytes));
+            if (anterior != null) {
+                bytesEstimados -= anterior.bytes;
+            }
+            bytesEstimados += bytes;
+            Iterator<Map.Entry<Chave, Entrada>> maisAntigas = entradas.entrySet().iterator();
+            while ((entradas.size() > maxEntradas || bytesEstimados > maxBytes) && maisAntigas.hasNext()) {
+                Map.Entry<Chave, Entrada> maisAntiga = maisAntigas.next();
+                bytesEstimados -= maisAntiga.getValue().bytes;
+                maisAntigas.remove();
+                despejos++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return valor;
+    }
+
+    private void remover(Chave chave, Entrada entrada) {
+        entradas.remove(chave);
+        bytesEstimados -= entrada.bytes;
+    }
+
+    /**
+     * Estima a memoria ocupada pelas listas e mapas do resultado (sem contar os funcionarios).
+     */
+    static long estimarBytes(Object valor) {
+        if (valor instanceof List<?> lista) {
+            return BYTES_POR_LISTA + (long) lista.size() * BYTES_POR_REFERENCIA;
+        }
+        if (valor instanceof Map<?, ?> mapa) {
+            long bytes = BYTES_POR_LISTA;
+            for (Object lista : mapa.values()) {
+                bytes += BYTES_POR_ENTRADA_MAPA + estimarBytes(lista);
+            }
+            return bytes;
+        }
+        return BYTES_POR_LISTA;
+    }
+
+    private enum Consulta { POR_FUNCAO, POR_ANIVERSARIO, ORDEM_ALFABETICA }
+
+    private record Chave(Consulta consulta, int mesInicial, int mesFinal) {}
+
+    private record Entrada(Object valor, long versao, long criadaEm, long bytes) {}
+}
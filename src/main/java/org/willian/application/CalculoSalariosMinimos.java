@@ -0,0 +1,130 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Calcula, em uma unica passada pelos funcionarios, a quantidade de salarios minimos de cada um
+ * (entregue a um destino, sem montar uma lista) e o histograma de faixas salariais.
+ *
+ * A quantidade de salarios minimos e calculada como na App: salario / salarioMinimo, arredondado HALF_UP
+ * para 2 casas decimais. Os limites das faixas sao convertidos para valores em reais uma unica vez,
+ * entao classificar um funcionario custa apenas comparacoes. Instancias sao imutaveis e podem ser
+ * usadas por varias threads.
+ */
+public final class CalculoSalariosMinimos {
+
+    private final BigDecimal salarioMinimo;
+    private final List<BigDecimal> limites;
+    private final BigDecimal[] limitesEmReais;
+
+    public CalculoSalariosMinimos(BigDecimal salarioMinimo) {
+        this(salarioMinimo, FaixasSalariais.LIMITES_PADRAO);
+    }
+
+    /**
+     * Cria o calculo.
+     *
+     * @param salarioMinimo o valor do salario minimo.
+     * @param limites os limites das faixas, em salarios minimos, em ordem estritamente crescente.
+     */
+    public CalculoSalariosMinimos(BigDecimal salarioMinimo, List<BigDecimal> limites) {
+        if (Objects.requireNonNull(salarioMinimo).signum() <= 0) {
+            throw new IllegalArgumentException("Salario minimo invalido: " + salarioMinimo);
+        }
+        this.salarioMinimo = salarioMinimo;
+        this.limites = List.copyOf(limites);
+        this.limitesEmReais = new BigDecimal[this.limites.size()];
+        for (int i = 0; i < limitesEmReais.length; i++) {
+            if (i > 0 && this.limites.get(i).compareTo(this.limites.get(i - 1)) <= 0) {
+                throw new IllegalArgumentException("Os limites das faixas devem ser crescentes: " + limites);
+            }
+            limitesEmReais[i] = this.limites.get(i).multiply(salarioMinimo);
+        }
+    }
+
+    /**
+     * Cria o calculo com o salario minimo vigente no ano informado.
+     *
+     * @param tabela a tabela de salarios minimos.
+     * @param ano o ano de referencia.
+     * @return o calculo com os limites padrao.
+     */
+    public static CalculoSalariosMinimos doAno(TabelaSalarioMinimo tabela, int ano) {
+        return new CalculoSalariosMinimos(tabela.valor(ano));
+    }
+
+    public BigDecimal getSalarioMinimo() {
+        return salarioMinimo;
+    }
+
+    /**
+     * Retorna a quantidade de salarios minimos de um funcionario.
+     *
+     * @param funcionario o funcionario.
+     * @return o salario dividido pelo salario minimo, com 2 casas decimais.
+     */
+    public BigDecimal quantidade(Funcionario funcionario) {
+        return TarefasFolha.salariosMinimos(funcionario, salarioMinimo);
+    }
+
+    /**
+     * Retorna a faixa do salario informado.
+     *
+     * @param salario o salario.
+     * @return o indice da faixa (ver FaixasSalariais).
+     */
+    public int faixa(BigDecimal salario) {
+        int inicio = 0;
+        int fim = limitesEmReais.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (salario.compareTo(limitesEmReais[meio]) <= 0) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Percorre os funcionarios uma vez, entregando a quantidade de salarios minimos de cada um ao destino
+     * e contando os funcionarios por faixa.
+     *
+     * @param funcionarios os funcionarios.
+     * @param destino recebe cada funcionario e a sua quantidade de salarios minimos, na ordem de iteracao;
+     *                se for null, as quantidades nao sao calculadas e apenas o histograma e montado.
+     * @return o histograma de faixas salariais.
+     */
+    public FaixasSalariais calcular(Iterable<Funcionario> funcionarios,
+                                    BiConsumer<? super Funcionario, ? super BigDecimal> destino) {
+        long[] contagens = new long[limitesEmReais.length + 1];
+        for (Funcionario funcionario : funcionarios) {
+            contagens[faixa(funcionario.getSalario())]++;
+            if (destino != null) {
+                destino.accept(funcionario, quantidade(funcionario));
+            }
+        }
+        return new FaixasSalariais(salarioMinimo, limites, contagens);
+    }
+
+    /**
+     * Calcula as quantidades de salarios minimos de todos os funcionarios em uma lista.
+     *
+     * @param funcionarios os funcionarios.
+     * @return as quantidades, na ordem de iteracao.
+     */
+    public List<BigDecimal> quantidades(List<Funcionario> funcionarios) {
+        List<BigDecimal> resultado = new ArrayList<>(funcionarios.size());
+        for (Funcionario funcionario : funcionarios) {
+            resultado.add(quantidade(funcionario));
+        }
+        return resultado;
+    }
+}
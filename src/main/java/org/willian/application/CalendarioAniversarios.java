@@ -0,0 +1,241 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Indice imutavel das datas de nascimento dos funcionarios, para consultas de aniversario e de idade.
+ *
+ * Ha duas estruturas:
+ *  - buckets por dia do ano (366 dias, como em um ano bissexto): os funcionarios ficam ordenados pelo dia
+ *    do aniversario em um unico array, e inicioDia[d] aponta para o primeiro do dia d. Um intervalo de dias
+ *    e um trecho continuo desse array (ou dois, se passar da virada do ano);
+ *  - as datas de nascimento em epoch-day, ordenadas: a quantidade de funcionarios com pelo menos k anos em
+ *    uma data e encontrada com uma busca binaria pela data limite (referencia menos k anos).
+ *
+ * Quem nasceu em 29 de fevereiro aparece nos aniversariantes de 28 de fevereiro nos anos que nao sao
+ * bissextos; ja a idade segue Period.between, que so conta o ano completo em 1 de marco. Dentro de um mesmo
+ * dia, os funcionarios ficam na ordem da colecao usada para criar o indice. Funcionarios sem data de
+ * nascimento nao sao indexados.
+ */
+public final class CalendarioAniversarios {
+
+    private static final int DIAS = 366;
+    private static final int DIA_29_FEVEREIRO = diaDoAno(MonthDay.of(2, 29));
+
+    private final Funcionario[] porDia;
+    private final int[] inicioDia;
+    private final Funcionario[] porNascimento;
+    private final long[] nascimentos;
+
+    private CalendarioAniversarios(Funcionario[] porDia, int[] inicioDia, Funcionario[] porNascimento, long[] nascimentos) {
+        this.porDia = porDia;
+        this.inicioDia = inicioDia;
+        this.porNascimento = porNascimento;
+        this.nascimentos = nascimentos;
+    }
+
+    /**
+     * Cria o indice.
+     *
+     * @param funcionarios os funcionarios; a data de nascimento deles nao deve mudar enquanto o indice for usado.
+     * @return o indice.
+     */
+    public static CalendarioAniversarios de(Collection<Funcionario> funcionarios) {
+        List<Funcionario> comData = new ArrayList<>(funcionarios.size());
+        for (Funcionario funcionario : funcionarios) {
+            if (funcionario.getDataNascimento() != null) {
+                comData.add(funcionario);
+            }
+        }
+
+        int[] inicioDia = new int[DIAS + 1];
+        for (Funcionario funcionario : comData) {
+            inicioDia[diaDoAno(funcionario.getDataNascimento()) + 1]++;
+        }
+        for (int dia = 0; dia < DIAS; dia++) {
+            inicioDia[dia + 1] += inicioDia[dia];
+        }
+        Funcionario[] porDia = new Funcionario[comData.size()];
+        int[] proximo = Arrays.copyOf(inicioDia, DIAS);
+        for (Funcionario funcionario : comData) {
+            porDia[proximo[diaDoAno(funcionario.getDataNascimento())]++] = funcionario;
+        }
+
+        Funcionario[] porNascimento = comData.toArray(new Funcionario[0]);
+        Arrays.sort(porNascimento, Comparator.comparing(Funcionario::getDataNascimento));
+        long[] nascimentos = new long[porNascimento.length];
+        for (int i = 0; i < nascimentos.length; i++) {
+            nascimentos[i] = porNascimento[i].getDataNascimento().toEpochDay();
+        }
+        return new CalendarioAniversarios(porDia, inicioDia, porNascimento, nascimentos);
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios indexados.
+     */
+    public int quantidade() {
+        return porNascimento.length;
+    }
+
+    /**
+     * Retorna os funcionarios que fazem aniversario entre duas datas do calendario, inclusive. Se inicio for
+     * depois de fim, o intervalo passa pela virada do ano (por exemplo de 15/12 a 15/01). Como o intervalo nao
+     * tem ano, 29/02 fica entre 28/02 e 01/03.
+     *
+     * @param inicio o primeiro dia.
+     * @param fim o ultimo dia.
+     * @return os funcionarios, em ordem de aniversario a partir de inicio.
+     */
+    public List<Funcionario> aniversariantesEntre(MonthDay inicio, MonthDay fim) {
+        int diaInicial = diaDoAno(inicio);
+        int diaFinal = diaDoAno(fim);
+        if (diaInicial <= diaFinal) {
+            return trecho(diaInicial, diaFinal);
+        }
+        return concatenar(trecho(diaInicial, DIAS - 1), trecho(0, diaFinal));
+    }
+
+    /**
+     * Retorna os funcionarios que fazem aniversario nos proximos dias, a partir de hoje (inclusive).
+     *
+     * @param hoje o primeiro dia considerado.
+     * @param dias a quantidade de dias (1 considera apenas hoje); com 366 ou mais, todos os funcionarios.
+     * @return os funcionarios, na ordem em que os aniversarios acontecem; cada um aparece uma vez.
+     */
+    public List<Funcionario> aniversariantesProximosDias(LocalDate hoje, int dias) {
+        if (dias < 1) {
+            throw new IllegalArgumentException("A quantidade de dias deve ser maior que zero: " + dias);
+        }
+        int diaHoje = diaDoAno(hoje);
+        if (dias >= DIAS) {
+            return concatenar(trecho(diaHoje, DIAS - 1), trecho(0, diaHoje - 1));
+        }
+
+        LocalDate ultimo = hoje.plusDays(dias - 1);
+        if (ultimo.getYear() == hoje.getYear()) {
+            return trecho(diaHoje, diaNoAno(ultimo));
+        }
+        // Com menos de 366 dias o intervalo passa por no maximo uma virada de ano.
+        return concatenar(trecho(diaHoje, DIAS - 1), trecho(0, diaNoAno(ultimo)));
+    }
+
+    /**
+     * Conta os funcionarios por faixa etaria na data de referencia.
+     *
+     * Com os limites [18, 30, 60] ha quatro faixas: menos de 18 anos, de 18 a 29, de 30 a 59 e 60 ou mais.
+     *
+     * @param referencia a data em que as idades sao calculadas.
+     * @param limites as idades que iniciam cada faixa, em ordem estritamente crescente.
+     * @return a quantidade de funcionarios em cada faixa (limites.length + 1 posicoes).
+     */
+    public int[] quantidadePorFaixaEtaria(LocalDate referencia, int... limites) {
+        int[] quantidades = new int[limites.length + 1];
+        int anterior = 0;
+        for (int i = 0; i < limites.length; i++) {
+            if (limites[i] < 0 || (i > 0 && limites[i] <= limites[i - 1])) {
+                throw new IllegalArgumentException("Os limites das faixas etarias devem ser crescentes: "
+                        + Arrays.toString(limites));
+            }
+            int menores = nascimentos.length - quantidadeComIdadeMinima(referencia, limites[i]);
+            quantidades[i] = menores - anterior;
+            anterior = menores;
+        }
+        quantidades[limites.length] = nascimentos.length - anterior;
+        return quantidades;
+    }
+
+    /**
+     * Retorna os funcionarios com idade entre idadeMinima e idadeMaxima anos (inclusive) na data de referencia.
+     *
+     * @param referencia a data em que as idades sao calculadas.
+     * @param idadeMinima a menor idade.
+     * @param idadeMaxima a maior idade.
+     * @return os funcionarios, do mais velho para o mais novo.
+     */
+    public List<Funcionario> funcionariosComIdadeEntre(LocalDate referencia, int idadeMinima, int idadeMaxima) {
+        if (idadeMinima < 0 || idadeMaxima < idadeMinima) {
+            throw new IllegalArgumentException("Intervalo de idades invalido: " + idadeMinima + " a " + idadeMaxima);
+        }
+        int fim = quantidadeComIdadeMinima(referencia, idadeMinima);
+        int inicio = quantidadeComIdadeMinima(referencia, idadeMaxima + 1);
+        return Collections.unmodifiableList(Arrays.asList(porNascimento).subList(inicio, fim));
+    }
+
+    /**
+     * Retorna a idade, em anos completos, de quem nasceu em nascimento; para nascimentos ate a referencia,
+     * e o mesmo que Period.between(nascimento, referencia).getYears().
+     */
+    public static int idade(LocalDate nascimento, LocalDate referencia) {
+        int idade = referencia.getYear() - nascimento.getYear();
+        return MonthDay.from(referencia).isBefore(MonthDay.from(nascimento)) ? idade - 1 : idade;
+    }
+
+    /**
+     * Quantidade de funcionarios com pelo menos a idade informada: os nascidos ate referencia menos idade anos
+     * (minusYears leva 29/02 para 28/02, entao quem nasceu em 29/02 so e contado em 1/03, como em Period.between).
+     */
+    private int quantidadeComIdadeMinima(LocalDate referencia, int idade) {
+        long limite = referencia.minusYears(idade).toEpochDay();
+        int inicio = 0;
+        int fim = nascimentos.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (nascimentos[meio] <= limite) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Dia de data no calendario de 366 dias, considerando o ano de data: em um ano que nao e bissexto,
+     * o dia 28/02 tambem inclui quem nasceu em 29/02.
+     */
+    private static int diaNoAno(LocalDate data) {
+        int dia = diaDoAno(data);
+        if (!Year.isLeap(data.getYear()) && dia == DIA_29_FEVEREIRO - 1) {
+            return DIA_29_FEVEREIRO;
+        }
+        return dia;
+    }
+
+    private List<Funcionario> trecho(int diaInicial, int diaFinal) {
+        if (diaFinal < diaInicial) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(porDia).subList(inicioDia[diaInicial], inicioDia[diaFinal + 1]));
+    }
+
+    private static List<Funcionario> concatenar(List<Funcionario> primeiros, List<Funcionario> ultimos) {
+        if (ultimos.isEmpty()) {
+            return primeiros;
+        }
+        List<Funcionario> resultado = new ArrayList<>(primeiros.size() + ultimos.size());
+        resultado.addAll(primeiros);
+        resultado.addAll(ultimos);
+        return Collections.unmodifiableList(resultado);
+    }
+
+    private static int diaDoAno(LocalDate data) {
+        return diaDoAno(MonthDay.from(data));
+    }
+
+    /**
+     * Posicao (0 a 365) do dia no calendario de um ano bissexto.
+     */
+    private static int diaDoAno(MonthDay dia) {
+        return dia.atYear(2000).getDayOfYear() - 1;
+    }
+}
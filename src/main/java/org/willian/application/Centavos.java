@@ -0,0 +1,170 @@
+package org.willian.application;
+
+import java.math.BigDecimal;
+
+/**
+ * Aritmetica monetaria em ponto fixo: valores em centavos (long), sem criar BigDecimal por operacao.
+ *
+ * As operacoes reproduzem exatamente o resultado das versoes em BigDecimal usadas pela App:
+ *  - aumento: salario.multiply(new BigDecimal(fator)).setScale(2, HALF_UP), com o valor exato do double;
+ *  - salarios minimos: salario.divide(salarioMinimo, 2, HALF_UP), em centesimos;
+ *  - soma: adicao exata.
+ * Quando o resultado nao cabe em um long, e lancada ArithmeticException em vez de um valor errado.
+ */
+public final class Centavos {
+
+    private Centavos() {}
+
+    /**
+     * Converte um valor com ate 2 casas decimais para centavos.
+     *
+     * @param valor o valor monetario.
+     * @return o valor em centavos.
+     * @throws ArithmeticException se o valor tiver mais de 2 casas decimais ou nao couber em um long.
+     */
+    public static long de(BigDecimal valor) {
+        return valor.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Converte centavos para BigDecimal com 2 casas decimais.
+     *
+     * @param centavos o valor em centavos.
+     * @return o valor monetario.
+     */
+    public static BigDecimal paraBigDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    /**
+     * Soma dois valores em centavos.
+     *
+     * @throws ArithmeticException se a soma nao couber em um long.
+     */
+    public static long somar(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Calcula a quantidade de salarios minimos, em centesimos, arredondada HALF_UP
+     * (o mesmo que salario.divide(salarioMinimo, 2, RoundingMode.HALF_UP)).
+     *
+     * @param salarioCentavos o salario em centavos.
+     * @param salarioMinimoCentavos o salario minimo em centavos.
+     * @return a quantidade de salarios minimos multiplicada por 100 (ex.: 150 para 1,50).
+     * @throws ArithmeticException se o salario minimo for zero ou o resultado nao couber em um long.
+     */
+    public static long quantidadeSalariosMinimos(long salarioCentavos, long salarioMinimoCentavos) {
+        if (salarioMinimoCentavos == 0) {
+            throw new ArithmeticException("Divisao por zero");
+        }
+        long dividendo = Math.multiplyExact(salarioCentavos, 100L);
+        long quociente = dividendo / salarioMinimoCentavos;
+        long resto = Math.abs(dividendo % salarioMinimoCentavos);
+        long divisor = Math.abs(salarioMinimoCentavos);
+        if (resto >= divisor - resto) {
+            quociente += (dividendo < 0) == (salarioMinimoCentavos < 0) ? 1 : -1;
+        }
+        return quociente;
+    }
+
+    /**
+     * Fator de aumento decomposto a partir do valor exato de um double (mantissa * 2^expoente),
+     * criado uma vez e aplicado a varios salarios sem alocacao.
+     */
+    public static final class Fator {
+        private final long mantissa;
+        private final int expoente;
+        private final boolean negativo;
+
+        private Fator(long mantissa, int expoente, boolean negativo) {
+            this.mantissa = mantissa;
+            this.expoente = expoente;
+            this.negativo = negativo;
+        }
+
+        /**
+         * Decompoe o double no seu valor binario exato, o mesmo usado por new BigDecimal(double).
+         *
+         * @param valor o fator (ex.: 1.10 para 10%).
+         * @return o fator decomposto.
+         * @throws NumberFormatException se o valor for infinito ou NaN, como em new BigDecimal(double).
+         */
+        public static Fator de(double valor) {
+            if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+                throw new NumberFormatException("Infinite or NaN");
+            }
+            long bits = Double.doubleToRawLongBits(valor);
+            boolean negativo = bits < 0;
+            int expoenteBruto = (int) ((bits >> 52) & 0x7ff);
+            long mantissa = bits & ((1L << 52) - 1);
+            int expoente;
+            if (expoenteBruto == 0) {
+                expoente = -1074;
+            } else {
+                mantissa |= 1L << 52;
+                expoente = expoenteBruto - 1075;
+            }
+            if (mantissa == 0) {
+                return new Fator(0, 0, false);
+            }
+            int zeros = Long.numberOfTrailingZeros(mantissa);
+            return new Fator(mantissa >> zeros, expoente + zeros, negativo);
+        }
+
+        /**
+         * Multiplica o valor em centavos pelo fator e arredonda HALF_UP para centavos
+         * (o mesmo que salario.multiply(new BigDecimal(fator)).setScale(2, RoundingMode.HALF_UP)).
+         *
+         * @param centavos o valor em centavos.
+         * @return o valor com o aumento, em centavos.
+         * @throws ArithmeticException se o resultado nao couber em um long.
+         */
+        public long aplicar(long centavos) {
+            if (centavos == 0 || mantissa == 0) {
+                return 0;
+            }
+            if (centavos == Long.MIN_VALUE) {
+                throw new ArithmeticException("long overflow");
+            }
+            long magnitude = Math.abs(centavos);
+            long resultado;
+            if (expoente >= 0) {
+                long produto = Math.multiplyExact(magnitude, mantissa);
+                if (expoente >= 63 || produto > (Long.MAX_VALUE >> expoente)) {
+                    throw new ArithmeticException("long overflow");
+                }
+                resultado = produto << expoente;
+            } else {
+                resultado = deslocarArredondando(Math.multiplyHigh(magnitude, mantissa), magnitude * mantissa, -expoente);
+            }
+            return (centavos < 0) != negativo ? -resultado : resultado;
+        }
+
+        /**
+         * Divide o valor de 128 bits (alto:baixo, sem sinal) por 2^deslocamento, arredondando HALF_UP.
+         */
+        private static long deslocarArredondando(long alto, long baixo, int deslocamento) {
+            if (deslocamento >= 128) {
+                return 0;
+            }
+            long quocienteAlto;
+            long quocienteBaixo;
+            boolean arredondar;
+            if (deslocamento >= 64) {
+                int d = deslocamento - 64;
+                quocienteAlto = 0;
+                quocienteBaixo = d == 0 ? alto : alto >>> d;
+                arredondar = d == 0 ? baixo < 0 : ((alto >>> (d - 1)) & 1) != 0;
+            } else {
+                quocienteAlto = alto >>> deslocamento;
+                quocienteBaixo = (baixo >>> deslocamento) | (alto << (64 - deslocamento));
+                arredondar = ((baixo >>> (deslocamento - 1)) & 1) != 0;
+            }
+            if (quocienteAlto != 0 || quocienteBaixo < 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            return arredondar ? Math.addExact(quocienteBaixo, 1) : quocienteBaixo;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Variante thread-safe do armazenamento de funcionarios, com as mesmas operacoes da classe App.
+ *
+ * Usa snapshots copy-on-write: cada alteracao (insercao, remocao ou aumento) monta uma nova lista
+ * imutavel e a publica de uma so vez. As escritas sao serializadas por um lock; as leituras nunca
+ * bloqueiam e sempre enxergam um snapshot completo, portanto nenhuma thread ve um aumento aplicado pela metade.
+ *
+ * Os funcionarios devolvidos pertencem ao snapshot e sao imutaveis: os setters lancam
+ * UnsupportedOperationException.
+ */
+public class ConcurrentFuncionarioStore {
+
+    private final ReentrantLock lockEscrita = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public ConcurrentFuncionarioStore() {
+        this(List.of());
+    }
+
+    /**
+     * Cria o armazenamento com copias dos funcionarios informados.
+     *
+     * @param funcionarios os funcionarios iniciais.
+     */
+    public ConcurrentFuncionarioStore(Collection<Funcionario> funcionarios) {
+        List<Funcionario> copias = new ArrayList<>(funcionarios.size());
+        funcionarios.forEach(funcionario -> copias.add(FuncionarioImutavel.copiar(funcionario, funcionario.getSalario())));
+        this.snapshot = new Snapshot(0, copias);
+    }
+
+    /**
+     * Retorna o snapshot atual. Varias consultas feitas sobre o mesmo snapshot enxergam exatamente os mesmos dados.
+     *
+     * @return o snapshot publicado mais recentemente.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Adiciona um funcionario (uma copia imutavel dele).
+     *
+     * @param funcionario o funcionario a ser adicionado.
+     */
+    public void adicionar(Funcionario funcionario) {
+        lockEscrita.lock();
+        try {
+            Snapshot atual = snapshot;
+            List<Funcionario> novos = new ArrayList<>(atual.funcionarios.size() + 1);
+            novos.addAll(atual.funcionarios);
+            novos.add(FuncionarioImutavel.copiar(funcionario, funcionario.getSalario()));
+            snapshot = new Snapshot(atual.versao + 1, novos);
+        } finally {
+            lockEscrita.unlock();
+        }
+    }
+
+    /**
+     * Remove os funcionarios cujo nome corresponda ao informado (ignora maiusculas e minusculas).
+     *
+     * @param nome o nome do funcionario a ser removido.
+     * @return a quantidade de funcionarios removidos.
+     */
+    public int removerFuncionario(String nome) {
+        lockEscrita.lock();
+        try {
+            Snapshot atual = snapshot;
+            List<Funcionario> novos = new ArrayList<>(atual.funcionarios.size());
+            for (Funcionario funcionario : atual.funcionarios) {
+                if (!funcionario.getNome().equalsIgnoreCase(nome)) {
+                    novos.add(funcionario);
+                }
+            }
+            int removidos = atual.funcionarios.size() - novos.size();
+            if (removidos > 0) {
+                snapshot = new Snapshot(atual.versao + 1, novos);
+            }
+            return removidos;
+        } finally {
+            lockEscrita.unlock();
+        }
+    }
+
+    /**
+     * Aplica um aumento no salario de todos os funcionarios, com o mesmo arredondamento da classe App.
+     * O novo snapshot so e publicado depois que todos os salarios foram recalculados.
+     *
+     * @param valor o fator de multiplicacao para o aumento (ex.: 1.10 para 10%).
+     */
+    public void adicionarAumentoDeSalario(Double valor) {
+        BigDecimal fator = TarefasFolha.fatorDeAumento(valor);
+        lockEscrita.lock();
+        try {
+            Snapshot atual = snapshot;
+            List<Funcionario> novos = new ArrayList<>(atual.funcionarios.size());
+            for (Funcionario funcionario : atual.funcionarios) {
+                BigDecimal novoSalario = funcionario.getSalario().multiply(fator).setScale(2, RoundingMode.HALF_UP);
+                novos.add(FuncionarioImutavel.copiar(funcionario, novoSalario));
+            }
+            snapshot = new Snapshot(atual.versao + 1, novos);
+        } finally {
+            lockEscrita.unlock();
+        }
+    }
+
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        return snapshot.funcionariosPorFuncao();
+    }
+
+    public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
+        return snapshot.funcionariosPorAniversario(mesInicial, mesFinal);
+    }
+
+    public Funcionario funcionarioComMaiorIdade() {
+        return snapshot.funcionarioComMaiorIdade();
+    }
+
+    public List<Funcionario> funcionarioOrdemAlfabetica() {
+        return snapshot.funcionarioOrdemAlfabetica();
+    }
+
+    public BigDecimal totalSalarioFuncionarios() {
+        return snapshot.totalSalarioFuncionarios();
+    }
+
+    /**
+     * Estado imutavel da folha em uma versao. O total dos salarios e o funcionario mais velho
+     * sao calculados uma unica vez, quando o snapshot e criado.
+     */
+    public static final class Snapshot {
+        private final long versao;
+        private final List<Funcionario> funcionarios;
+        private final BigDecimal totalSalarios;
+        private final Funcionario maisVelho;
+
+        private Snapshot(long versao, List<Funcionario> funcionarios) {
+            this.versao = versao;
+            this.funcionarios = Collections.unmodifiableList(funcionarios);
+
+            BigDecimal total = BigDecimal.ZERO;
+            Funcionario maisVelho = null;
+            for (Funcionario funcionario : funcionarios) {
+                total = total.add(funcionario.getSalario());
+                if (maisVelho == null || funcionario.getDataNascimento().isBefore(maisVelho.getDataNascimento())) {
+                    maisVelho = funcionario;
+                }
+            }
+            this.totalSalarios = total;
+            this.maisVelho = maisVelho;
+        }
+
+        public long versao() {
+            return versao;
+        }
+
+        public List<Funcionario> funcionarios() {
+            return funcionarios;
+        }
+
+        public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+            return funcionarios.stream().collect(Collectors.groupingBy(Funcionario::getFuncao));
+        }
+
+        public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
+            return funcionarios.stream()
+                    .filter(funcionario -> {
+                        int mes = funcionario.getDataNascimento().getMonthValue();
+                        return mes == mesInicial || mes == mesFinal;
+                    }).toList();
+        }
+
+        public Funcionario funcionarioComMaiorIdade() {
+            return maisVelho;
+        }
+
+        public List<Funcionario> funcionarioOrdemAlfabetica() {
+            List<Funcionario> funcionariosOrdenados = new ArrayList<>(funcionarios);
+            funcionariosOrdenados.sort(Comparator.comparing(Funcionario::getNome));
+            return funcionariosOrdenados;
+        }
+
+        public BigDecimal totalSalarioFuncionarios() {
+            return totalSalarios;
+        }
+    }
+
+    /**
+     * Funcionario que nao pode ser alterado depois de publicado em um snapshot.
+     */
+    private static final class FuncionarioImutavel extends Funcionario {
+
+        private FuncionarioImutavel(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+            super(nome, dataNascimento, salario, funcao);
+        }
+
+        static Funcionario copiar(Funcionario funcionario, BigDecimal salario) {
+            return new FuncionarioImutavel(funcionario.getNome(), funcionario.getDataNascimento(), salario, funcionario.getFuncao());
+        }
+
+        @Override
+        public void setSalario(BigDecimal salario) {
+            throw new UnsupportedOperationException("Funcionario de snapshot nao pode ser alterado.");
+        }
+
+        @Override
+        public void setFuncao(String funcao) {
+            throw new UnsupportedOperationException("Funcionario de snapshot nao pode ser alterado.");
+        }
+
+        @Override
+        public void setNome(String nome) {
+            throw new UnsupportedOperationException("Funcionario de snapshot nao pode ser alterado.");
+        }
+
+        @Override
+        public void setDataNascimento(LocalDate dataNascimento) {
+            throw new UnsupportedOperationException("Funcionario de snapshot nao pode ser alterado.");
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.text.Collator;
+import java.util.*;
+
+/**
+ * Consultas ordenadas sobre os funcionarios de uma App que devolvem apenas os primeiros k resultados.
+ *
+ * Em vez de copiar e ordenar toda a lista a cada chamada (O(n log n)), cada consulta percorre a lista uma vez
+ * mantendo um heap limitado aos k melhores elementos (O(n log k)) e ordena somente esses k no final.
+ *
+ * A ordem alfabetica usa a colacao pt-BR (acentos e maiusculas nao separam nomes como "Ícaro" e "Igor").
+ * Empates sao desfeitos pela posicao do funcionario na lista da App, entao os resultados sao deterministicos.
+ * Cada instancia tem o seu proprio Collator e nao deve ser compartilhada entre threads.
+ */
+public class ConsultasOrdenadas {
+
+    private final App app;
+    private final Collator collator;
+
+    public ConsultasOrdenadas(App app) {
+        this.app = app;
+        this.collator = Collator.getInstance(Locale.of("pt", "BR"));
+    }
+
+    /**
+     * Retorna uma pagina da lista de funcionarios em ordem alfabetica (colacao pt-BR).
+     *
+     * @param pagina o numero da pagina, comecando em 0.
+     * @param tamanhoPagina a quantidade de funcionarios por pagina.
+     * @return os funcionarios da pagina; lista vazia se a pagina estiver alem do fim.
+     */
+    public List<Funcionario> paginaAlfabetica(int pagina, int tamanhoPagina) {
+        if (pagina < 0 || tamanhoPagina < 1) {
+            throw new IllegalArgumentException("Pagina deve ser >= 0 e tamanho da pagina deve ser >= 1.");
+        }
+        long inicio = (long) pagina * tamanhoPagina;
+        int k = (int) Math.min(Integer.MAX_VALUE, inicio + tamanhoPagina);
+
+        List<Funcionario> primeiros = primeiros(Comparator.comparing(Funcionario::getNome, collator), k);
+        if (inicio >= primeiros.size()) {
+            return List.of();
+        }
+        return primeiros.subList((int) inicio, primeiros.size());
+    }
+
+    /**
+     * Retorna os k funcionarios com os maiores salarios, do maior para o menor.
+     *
+     * @param k a quantidade de funcionarios.
+     * @return os k maiores salarios.
+     */
+    public List<Funcionario> maioresSalarios(int k) {
+        return primeiros(Comparator.comparing(Funcionario::getSalario).reversed(), k);
+    }
+
+    /**
+     * Retorna os k funcionarios mais velhos, do mais velho para o mais novo.
+     *
+     * @param k a quantidade de funcionarios.
+     * @return os k funcionarios mais velhos.
+     */
+    public List<Funcionario> maisVelhos(int k) {
+        return primeiros(Comparator.comparing(Funcionario::getDataNascimento), k);
+    }
+
+    /**
+     * Retorna os k funcionarios mais novos, do mais novo para o mais velho.
+     *
+     * @param k a quantidade de funcionarios.
+     * @return os k funcionarios mais novos.
+     */
+    public List<Funcionario> maisNovos(int k) {
+        return primeiros(Comparator.comparing(Funcionario::getDataNascimento).reversed(), k);
+    }
+
+    /**
+     * Seleciona os k primeiros funcionarios segundo o comparador, com um heap limitado a k elementos.
+     */
+    private List<Funcionario> primeiros(Comparator<Funcionario> comparador, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k deve ser >= 0.");
+        }
+        List<Funcionario> funcionarios = app.funcionarios instanceof RandomAccess
+                ? app.funcionarios
+                : new ArrayList<>(app.funcionarios);
+        int limite = Math.min(k, funcionarios.size());
+        if (limite == 0) {
+            return List.of();
+        }
+
+        Comparator<Integer> ordem = (a, b) -> {
+            int comparacao = comparador.compare(funcionarios.get(a), funcionarios.get(b));
+            return comparacao != 0 ? comparacao : Integer.compare(a, b);
+        };
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limite, ordem.reversed());
+        for (int i = 0; i < funcionarios.size(); i++) {
+            if (heap.size() < limite) {
+                heap.add(i);
+            } else if (ordem.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        Integer[] indices = heap.toArray(new Integer[0]);
+        Arrays.sort(indices, ordem);
+        List<Funcionario> resultado = new ArrayList<>(indices.length);
+        for (Integer indice : indices) {
+            resultado.add(funcionarios.get(indice));
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,70 @@
+package org.willian.application;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dicionario das funcoes de uma folha de pagamento.
+ *
+ * Cada funcao distinta recebe um id inteiro (0, 1, 2... na ordem em que aparece), usado nos agrupamentos
+ * como indice de array; a funcao null tambem recebe um id. O dicionario pertence a um
+ * IndexedFuncionarioRepository, que guarda o id junto de cada funcionario ao adiciona-lo, e e recriado com
+ * ele a cada carga da lista da App. Esta classe nao e thread-safe.
+ */
+final class DicionarioFuncoes {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] funcoes = new String[16];
+
+    /**
+     * Retorna o id da funcao, registrando-a se for a primeira vez que aparece.
+     *
+     * @param funcao a funcao.
+     * @return o id da funcao.
+     */
+    int id(String funcao) {
+        Integer id = ids.get(funcao);
+        if (id != null) {
+            return id;
+        }
+        int novo = ids.size();
+        if (novo == funcoes.length) {
+            funcoes = Arrays.copyOf(funcoes, funcoes.length * 2);
+        }
+        funcoes[novo] = funcao;
+        ids.put(funcao, novo);
+        return novo;
+    }
+
+    /**
+     * Retorna o id de uma funcao ja registrada, sem registra-la.
+     *
+     * @param funcao a funcao procurada.
+     * @return o id da funcao, ou -1 se ela nunca foi registrada.
+     */
+    int buscar(String funcao) {
+        Integer id = ids.get(funcao);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Retorna a funcao com o id informado.
+     *
+     * @param id o id da funcao.
+     * @return a funcao.
+     */
+    String funcao(int id) {
+        if (id < 0 || id >= ids.size()) {
+            throw new IllegalArgumentException("Id de funcao desconhecido: " + id);
+        }
+        return funcoes[id];
+    }
+
+    /**
+     * Retorna a quantidade de funcoes registradas; todo id valido e menor que esse valor.
+     */
+    int quantidade() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,24 @@
+package org.willian.application;
+
+/**
+ * Estatisticas de uso de um CacheConsultas.
+ *
+ * @param acertos consultas respondidas pelo cache.
+ * @param falhas consultas que precisaram ser calculadas (inclui as entradas invalidadas ou expiradas).
+ * @param invalidadas entradas descartadas porque a versao dos dados da App mudou.
+ * @param expiradas entradas descartadas por terem passado do tempo de vida.
+ * @param despejos entradas removidas para respeitar o limite de entradas ou de memoria.
+ * @param entradas a quantidade de entradas no cache.
+ * @param bytesEstimados o tamanho estimado das entradas no cache.
+ */
+public record EstatisticasCache(long acertos, long falhas, long invalidadas, long expiradas, long despejos,
+                                int entradas, long bytesEstimados) {
+
+    /**
+     * Retorna a proporcao de consultas respondidas pelo cache, entre 0 e 1.
+     */
+    public double taxaAcerto() {
+        long total = acertos + falhas;
+        return total == 0 ? 0 : (double) acertos / total;
+    }
+}
@@ -0,0 +1,86 @@
+package org.willian.application;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Histograma de funcionarios por faixa de salarios minimos.
+ *
+ * Com os limites [1, 2, 3] ha quatro faixas: ate 1 salario minimo, mais de 1 ate 2, mais de 2 ate 3
+ * e mais de 3. A faixa de cada funcionario e definida pelo salario exato, nao pela quantidade arredondada.
+ */
+public final class FaixasSalariais {
+
+    /** Limites das classes de rendimento usadas pelo IBGE, em salarios minimos. */
+    public static final List<BigDecimal> LIMITES_PADRAO = List.of(
+            BigDecimal.ONE, BigDecimal.valueOf(2), BigDecimal.valueOf(3), BigDecimal.valueOf(5),
+            BigDecimal.TEN, BigDecimal.valueOf(20));
+
+    private final BigDecimal salarioMinimo;
+    private final List<BigDecimal> limites;
+    private final long[] contagens;
+
+    FaixasSalariais(BigDecimal salarioMinimo, List<BigDecimal> limites, long[] contagens) {
+        this.salarioMinimo = salarioMinimo;
+        this.limites = limites;
+        this.contagens = contagens;
+    }
+
+    public BigDecimal getSalarioMinimo() {
+        return salarioMinimo;
+    }
+
+    /**
+     * Retorna os limites das faixas, em salarios minimos, em ordem crescente.
+     */
+    public List<BigDecimal> getLimites() {
+        return limites;
+    }
+
+    /**
+     * Retorna a quantidade de faixas (quantidade de limites + 1).
+     */
+    public int quantidadeFaixas() {
+        return contagens.length;
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios na faixa.
+     *
+     * @param faixa o indice da faixa, de 0 (ate o primeiro limite) a quantidadeFaixas() - 1 (acima do ultimo).
+     * @return a quantidade de funcionarios.
+     */
+    public long quantidade(int faixa) {
+        return contagens[faixa];
+    }
+
+    /**
+     * Retorna a descricao da faixa, por exemplo "ate 1", "mais de 1 ate 2" ou "mais de 20".
+     *
+     * @param faixa o indice da faixa.
+     * @return a descricao, em salarios minimos.
+     */
+    public String descricao(int faixa) {
+        if (faixa == 0) {
+            return "ate " + limites.get(0).toPlainString();
+        }
+        if (faixa == limites.size()) {
+            return "mais de " + limites.get(faixa - 1).toPlainString();
+        }
+        return "mais de " + limites.get(faixa - 1).toPlainString() + " ate " + limites.get(faixa).toPlainString();
+    }
+
+    public long total() {
+        return Arrays.stream(contagens).sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder texto = new StringBuilder("FaixasSalariais{salarioMinimo=").append(salarioMinimo);
+        for (int faixa = 0; faixa < contagens.length; faixa++) {
+            texto.append(", ").append(descricao(faixa)).append('=').append(contagens[faixa]);
+        }
+        return texto.append('}').toString();
+    }
+}
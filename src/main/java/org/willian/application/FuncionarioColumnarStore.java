@@ -0,0 +1,384 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Armazenamento colunar dos funcionarios, com a mesma superficie de consultas da classe App.
+ *
+ * Cada atributo e guardado em um array primitivo:
+ *  - nome em um array de String;
+ *  - salario em centavos (long);
+ *  - data de nascimento em dias desde 1970-01-01 (int), com o mes de nascimento em uma coluna propria (byte);
+ *  - funcao codificada em um id inteiro (int) de um dicionario de funcoes.
+ *
+ * As varreduras e agregacoes percorrem apenas os arrays primitivos; objetos Funcionario sao
+ * materializados somente para as linhas que fazem parte do resultado.
+ *
+ * Os salarios precisam ter no maximo duas casas decimais; caso contrario uma ArithmeticException e lancada.
+ * Esta classe nao e thread-safe.
+ */
+public class FuncionarioColumnarStore {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+    private static final int TAMANHO_TRECHO_ORDENACAO = 32;
+
+    private String[] nomes;
+    private long[] salariosCentavos;
+    private int[] nascimentosEpochDay;
+    private byte[] mesesNascimento;
+    private int[] funcaoIds;
+    private int tamanho;
+
+    private final List<String> funcoes = new ArrayList<>();
+    private final Map<String, Integer> idsPorFuncao = new HashMap<>();
+
+    public FuncionarioColumnarStore() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    public FuncionarioColumnarStore(int capacidadeInicial) {
+        int capacidade = Math.max(capacidadeInicial, 1);
+        this.nomes = new String[capacidade];
+        this.salariosCentavos = new long[capacidade];
+        this.nascimentosEpochDay = new int[capacidade];
+        this.mesesNascimento = new byte[capacidade];
+        this.funcaoIds = new int[capacidade];
+    }
+
+    /**
+     * Cria um armazenamento colunar com os funcionarios informados, na mesma ordem.
+     *
+     * @param funcionarios os funcionarios a serem copiados.
+     * @return o armazenamento colunar preenchido.
+     */
+    public static FuncionarioColumnarStore de(Collection<Funcionario> funcionarios) {
+        FuncionarioColumnarStore store = new FuncionarioColumnarStore(funcionarios.size());
+        funcionarios.forEach(store::adicionar);
+        return store;
+    }
+
+    /**
+     * Adiciona um funcionario ao final do armazenamento.
+     *
+     * @param funcionario o funcionario a ser adicionado.
+     */
+    public void adicionar(Funcionario funcionario) {
+        garantirCapacidade(tamanho + 1);
+        LocalDate dataNascimento = funcionario.getDataNascimento();
+
+        nomes[tamanho] = funcionario.getNome();
+        salariosCentavos[tamanho] = paraCentavos(funcionario.getSalario());
+        nascimentosEpochDay[tamanho] = Math.toIntExact(dataNascimento.toEpochDay());
+        mesesNascimento[tamanho] = (byte) dataNascimento.getMonthValue();
+        funcaoIds[tamanho] = idFuncao(funcionario.getFuncao());
+        tamanho++;
+    }
+
+    /**
+     * Remove todos os funcionarios cujo nome corresponda ao informado (ignora maiusculas e minusculas).
+     *
+     * @param nome o nome do funcionario a ser removido.
+     * @return a quantidade de funcionarios removidos.
+     */
+    public int removerFuncionario(String nome) {
+        int destino = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (nome != null && nome.equalsIgnoreCase(nomes[i])) {
+                continue;
+            }
+            if (destino != i) {
+                nomes[destino] = nomes[i];
+                salariosCentavos[destino] = salariosCentavos[i];
+                nascimentosEpochDay[destino] = nascimentosEpochDay[i];
+                mesesNascimento[destino] = mesesNascimento[i];
+                funcaoIds[destino] = funcaoIds[i];
+            }
+            destino++;
+        }
+        int removidos = tamanho - destino;
+        Arrays.fill(nomes, destino, tamanho, null);
+        tamanho = destino;
+        return removidos;
+    }
+
+    /**
+     * Aplica um aumento no salario de todos os funcionarios, com o mesmo arredondamento da classe App
+     * (multiplicacao pelo valor exato do double e arredondamento HALF_UP para 2 casas decimais).
+     * O calculo e feito em centavos (Centavos.Fator), sem alocacao por funcionario.
+     *
+     * @param valor o fator de multiplicacao para o aumento (ex.: 1.10 para 10%).
+     * @throws ArithmeticException se algum salario resultante nao couber em um long.
+     */
+    public void adicionarAumentoDeSalario(Double valor) {
+        Centavos.Fator fator = Centavos.Fator.de(valor);
+        for (int i = 0; i < tamanho; i++) {
+            salariosCentavos[i] = fator.aplicar(salariosCentavos[i]);
+        }
+    }
+
+    /**
+     * Calcula a quantidade de salarios minimos que cada funcionario recebe, com o mesmo arredondamento da App
+     * (divisao HALF_UP para 2 casas decimais), sem alocacao por funcionario.
+     *
+     * @param salarioMinimo o valor do salario minimo, com ate 2 casas decimais.
+     * @return as quantidades em centesimos (ex.: 150 para 1,50), na ordem das linhas.
+     */
+    public long[] quantidadeSalariosMinimos(BigDecimal salarioMinimo) {
+        long salarioMinimoCentavos = Centavos.de(salarioMinimo);
+        long[] quantidades = new long[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            quantidades[i] = Centavos.quantidadeSalariosMinimos(salariosCentavos[i], salarioMinimoCentavos);
+        }
+        return quantidades;
+    }
+
+    /**
+     * Agrupa os funcionarios por sua funcao.
+     *
+     * @return um Map onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao, com as
+     *         funcoes na ordem em que apareceram pela primeira vez.
+     */
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        List<List<Funcionario>> grupos = new ArrayList<>(funcoes.size());
+        for (int id = 0; id < funcoes.size(); id++) {
+            grupos.add(null);
+        }
+        for (int i = 0; i < tamanho; i++) {
+            List<Funcionario> grupo = grupos.get(funcaoIds[i]);
+            if (grupo == null) {
+                grupo = new ArrayList<>();
+                grupos.set(funcaoIds[i], grupo);
+            }
+            grupo.add(funcionario(i));
+        }
+
+        Map<String, List<Funcionario>> funcionariosPorFuncao = new LinkedHashMap<>();
+        for (int id = 0; id < grupos.size(); id++) {
+            if (grupos.get(id) != null) {
+                funcionariosPorFuncao.put(funcoes.get(id), grupos.get(id));
+            }
+        }
+        return funcionariosPorFuncao;
+    }
+
+    /**
+     * Filtra os funcionarios que fazem aniversario em um dos dois meses especificados.
+     *
+     * @param mesInicial o primeiro mes a ser considerado (valor entre 1 e 12).
+     * @param mesFinal o segundo mes a ser considerado (valor entre 1 e 12).
+     * @return uma lista de funcionarios que fazem aniversario em mesInicial ou mesFinal.
+     */
+    public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
+        List<Funcionario> funcionariosAniversario = new ArrayList<>();
+        for (int i = 0; i < tamanho; i++) {
+            int mes = mesesNascimento[i];
+            if (mes == mesInicial || mes == mesFinal) {
+                funcionariosAniversario.add(funcionario(i));
+            }
+        }
+        return funcionariosAniversario;
+    }
+
+    /**
+     * Retorna o funcionario com maior idade, com base na data de nascimento.
+     * Em caso de empate, retorna o primeiro na ordem de insercao.
+     *
+     * @return o funcionario mais velho; se nao houver funcionarios, retorna null.
+     */
+    public Funcionario funcionarioComMaiorIdade() {
+        if (tamanho == 0) {
+            return null;
+        }
+        int maisVelho = 0;
+        for (int i = 1; i < tamanho; i++) {
+            if (nascimentosEpochDay[i] < nascimentosEpochDay[maisVelho]) {
+                maisVelho = i;
+            }
+        }
+        return funcionario(maisVelho);
+    }
+
+    /**
+     * Retorna uma lista de funcionarios ordenada alfabeticamente pelo nome.
+     * Funcionarios com o mesmo nome ficam na ordem de insercao.
+     *
+     * A ordenacao e feita sobre um array primitivo de indices (merge sort estavel), sem criar um Integer
+     * por linha.
+     *
+     * @return a lista de funcionarios ordenada em ordem alfabetica.
+     */
+    public List<Funcionario> funcionarioOrdemAlfabetica() {
+        int[] indices = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            indices[i] = i;
+        }
+        ordenarPorNome(indices);
+
+        List<Funcionario> funcionariosOrdenados = new ArrayList<>(tamanho);
+        for (int indice : indices) {
+            funcionariosOrdenados.add(funcionario(indice));
+        }
+        return funcionariosOrdenados;
+    }
+
+    /**
+     * Ordena os indices pelo nome da linha: trechos curtos por insercao e depois intercalacoes de baixo para
+     * cima, sempre preferindo o trecho da esquerda nos empates para manter a ordenacao estavel.
+     */
+    private void ordenarPorNome(int[] indices) {
+        int quantidade = indices.length;
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_TRECHO_ORDENACAO) {
+            ordenarPorInsercao(indices, inicio, Math.min(inicio + TAMANHO_TRECHO_ORDENACAO, quantidade));
+        }
+
+        int[] origem = indices;
+        int[] destino = new int[quantidade];
+        for (int largura = TAMANHO_TRECHO_ORDENACAO; largura < quantidade; largura *= 2) {
+            for (int inicio = 0; inicio < quantidade; inicio += 2 * largura) {
+                int meio = Math.min(inicio + largura, quantidade);
+                int fim = Math.min(inicio + 2 * largura, quantidade);
+                intercalar(origem, destino, inicio, meio, fim);
+            }
+            int[] troca = origem;
+            origem = destino;
+            destino = troca;
+        }
+        if (origem != indices) {
+            System.arraycopy(origem, 0, indices, 0, quantidade);
+        }
+    }
+
+    private void ordenarPorInsercao(int[] indices, int inicio, int fim) {
+        for (int i = inicio + 1; i < fim; i++) {
+            int indice = indices[i];
+            int j = i - 1;
+            while (j >= inicio && compararNomes(indices[j], indice) > 0) {
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            indices[j + 1] = indice;
+        }
+    }
+
+    private void intercalar(int[] origem, int[] destino, int inicio, int meio, int fim) {
+        if (meio >= fim || compararNomes(origem[meio - 1], origem[meio]) <= 0) {
+            System.arraycopy(origem, inicio, destino, inicio, fim - inicio);
+            return;
+        }
+        int esquerda = inicio;
+        int direita = meio;
+        for (int k = inicio; k < fim; k++) {
+            if (direita >= fim || (esquerda < meio && compararNomes(origem[esquerda], origem[direita]) <= 0)) {
+                destino[k] = origem[esquerda++];
+            } else {
+                destino[k] = origem[direita++];
+            }
+        }
+    }
+
+    private int compararNomes(int a, int b) {
+        return nomes[a].compareTo(nomes[b]);
+    }
+
+    /**
+     * Calcula o total dos salarios de todos os funcionarios.
+     *
+     * @return o valor total dos salarios, com 2 casas decimais.
+     */
+    public BigDecimal totalSalarioFuncionarios() {
+        long totalCentavos = 0;
+        for (int i = 0; i < tamanho; i++) {
+            totalCentavos = Math.addExact(totalCentavos, salariosCentavos[i]);
+        }
+        return BigDecimal.valueOf(totalCentavos, 2);
+    }
+
+    /**
+     * Materializa a linha informada como um Funcionario.
+     *
+     * @param indice a posicao da linha (entre 0 e tamanho() - 1).
+     * @return um novo Funcionario com os valores da linha.
+     */
+    public Funcionario funcionario(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return new Funcionario(
+                nomes[indice],
+                LocalDate.ofEpochDay(nascimentosEpochDay[indice]),
+                BigDecimal.valueOf(salariosCentavos[indice], 2),
+                funcoes.get(funcaoIds[indice])
+        );
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public String nome(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return nomes[indice];
+    }
+
+    public long salarioCentavos(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return salariosCentavos[indice];
+    }
+
+    public int nascimentoEpochDay(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return nascimentosEpochDay[indice];
+    }
+
+    public int funcaoId(int indice) {
+        Objects.checkIndex(indice, tamanho);
+        return funcaoIds[indice];
+    }
+
+    /**
+     * Retorna a funcao correspondente ao id do dicionario.
+     *
+     * @param funcaoId o id da funcao.
+     * @return o nome da funcao.
+     */
+    public String funcao(int funcaoId) {
+        return funcoes.get(funcaoId);
+    }
+
+    /**
+     * Retorna a quantidade de funcoes distintas ja registradas no dicionario.
+     *
+     * @return o tamanho do dicionario de funcoes.
+     */
+    public int quantidadeFuncoes() {
+        return funcoes.size();
+    }
+
+    private int idFuncao(String funcao) {
+        Integer id = idsPorFuncao.get(funcao);
+        if (id == null) {
+            id = funcoes.size();
+            funcoes.add(funcao);
+            idsPorFuncao.put(funcao, id);
+        }
+        return id;
+    }
+
+    private static long paraCentavos(BigDecimal salario) {
+        return Centavos.de(salario);
+    }
+
+    private void garantirCapacidade(int capacidadeMinima) {
+        if (capacidadeMinima <= nomes.length) {
+            return;
+        }
+        int novaCapacidade = Math.max(capacidadeMinima, nomes.length + (nomes.length >> 1));
+        nomes = Arrays.copyOf(nomes, novaCapacidade);
+        salariosCentavos = Arrays.copyOf(salariosCentavos, novaCapacidade);
+        nascimentosEpochDay = Arrays.copyOf(nascimentosEpochDay, novaCapacidade);
+        mesesNascimento = Arrays.copyOf(mesesNascimento, novaCapacidade);
+        funcaoIds = Arrays.copyOf(funcaoIds, novaCapacidade);
+    }
+}
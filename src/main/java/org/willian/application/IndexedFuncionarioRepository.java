@@ -0,0 +1,256 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.util.*;
+
+/**
+ * Repositorio de funcionarios com indices secundarios por nome, funcao e mes de aniversario.
+ *
+ * Os indices sao atualizados a cada insercao e remocao, de modo que as buscas, remocoes
+ * e agrupamentos custam tempo proporcional ao tamanho do resultado e nao ao tamanho da folha:
+ *  - nome, sem diferenciar maiusculas e minusculas (mesma regra do equalsIgnoreCase); um funcionario sem
+ *    nome nao entra nesse indice;
+ *  - funcao, pelo id que a funcao recebe em um DicionarioFuncoes ao ser vista pela primeira vez, com os
+ *    membros na ordem de insercao;
+ *  - mes de aniversario, em 12 buckets; um funcionario sem data de nascimento nao entra em nenhum deles.
+ *
+ * Cada funcionario recebe, ao ser adicionado, um numero de sequencia (usado para devolver na ordem de insercao
+ * os resultados que juntam mais de um indice) e o id da sua funcao, guardados junto dele. Assim o agrupamento
+ * por funcao e a remocao nao consultam o dicionario de novo.
+ *
+ * O nome, a funcao e a data de nascimento de um funcionario nao devem ser alterados enquanto ele
+ * estiver no repositorio; para isso, remova-o e adicione-o novamente. O salario pode ser alterado livremente.
+ * Esta classe nao e thread-safe.
+ */
+public class IndexedFuncionarioRepository {
+
+    private final Map<Funcionario, Registro> registros = new LinkedHashMap<>();
+    private long proximaSequencia;
+    private final Map<String, List<Funcionario>> indicePorNome = new HashMap<>();
+    private final DicionarioFuncoes funcoes = new DicionarioFuncoes();
+    private final List<Set<Funcionario>> indicePorFuncao = new ArrayList<>();
+    private final List<Set<Funcionario>> indicePorMes = new ArrayList<>(12);
+
+    public IndexedFuncionarioRepository() {
+        for (int mes = 1; mes <= 12; mes++) {
+            indicePorMes.add(new LinkedHashSet<>());
+        }
+    }
+
+    public IndexedFuncionarioRepository(Collection<Funcionario> funcionarios) {
+        this();
+        funcionarios.forEach(this::registrar);
+    }
+
+    /**
+     * Adiciona um funcionario e o registra em todos os indices.
+     * Adicionar a mesma instancia mais de uma vez nao tem efeito.
+     *
+     * @param funcionario o funcionario a ser adicionado.
+     * @return true se o funcionario ainda nao estava no repositorio.
+     */
+    public boolean adicionar(Funcionario funcionario) {
+        return registrar(funcionario);
+    }
+
+    /**
+     * Implementacao de adicionar; privada para que o construtor nao chame um metodo sobrescrevivel.
+     */
+    private boolean registrar(Funcionario funcionario) {
+        if (registros.containsKey(funcionario)) {
+            return false;
+        }
+        int funcaoId = funcoes.id(funcionario.getFuncao());
+        registros.put(funcionario, new Registro(proximaSequencia++, funcaoId));
+        if (funcionario.getNome() != null) {
+            indicePorNome.computeIfAbsent(chaveNome(funcionario.getNome()), chave -> new ArrayList<>(1)).add(funcionario);
+        }
+        if (funcaoId == indicePorFuncao.size()) {
+            indicePorFuncao.add(new LinkedHashSet<>());
+        }
+        indicePorFuncao.get(funcaoId).add(funcionario);
+        if (funcionario.getDataNascimento() != null) {
+            bucketDoMes(funcionario.getDataNascimento().getMonthValue()).add(funcionario);
+        }
+        return true;
+    }
+
+    /**
+     * Remove os funcionarios cujo nome corresponda ao informado (ignora maiusculas e minusculas).
+     *
+     * @param nome o nome do funcionario a ser removido.
+     * @return os funcionarios removidos; lista vazia se nenhum foi encontrado.
+     */
+    public List<Funcionario> removerFuncionario(String nome) {
+        List<Funcionario> removidos = nome == null ? null : indicePorNome.remove(chaveNome(nome));
+        if (removidos == null) {
+            return List.of();
+        }
+        for (Funcionario funcionario : removidos) {
+            removerDosIndicesDeFuncaoEMes(funcionario, registros.remove(funcionario));
+        }
+        return removidos;
+    }
+
+    /**
+     * Remove uma instancia especifica de funcionario de todos os indices.
+     *
+     * @param funcionario o funcionario a ser removido.
+     * @return true se o funcionario estava no repositorio.
+     */
+    public boolean remover(Funcionario funcionario) {
+        Registro registro = registros.remove(funcionario);
+        if (registro == null) {
+            return false;
+        }
+        if (funcionario.getNome() != null) {
+            String chave = chaveNome(funcionario.getNome());
+            List<Funcionario> homonimos = indicePorNome.get(chave);
+            homonimos.remove(funcionario);
+            if (homonimos.isEmpty()) {
+                indicePorNome.remove(chave);
+            }
+        }
+        removerDosIndicesDeFuncaoEMes(funcionario, registro);
+        return true;
+    }
+
+    /**
+     * Busca os funcionarios pelo nome (ignora maiusculas e minusculas).
+     *
+     * @param nome o nome procurado.
+     * @return os funcionarios com o nome informado, na ordem de insercao.
+     */
+    public List<Funcionario> buscarPorNome(String nome) {
+        List<Funcionario> encontrados = nome == null ? null : indicePorNome.get(chaveNome(nome));
+        return encontrados == null ? List.of() : Collections.unmodifiableList(encontrados);
+    }
+
+    /**
+     * Retorna os funcionarios de uma funcao.
+     *
+     * @param funcao a funcao procurada.
+     * @return os funcionarios da funcao, na ordem de insercao.
+     */
+    public List<Funcionario> funcionariosDaFuncao(String funcao) {
+        int funcaoId = funcoes.buscar(funcao);
+        return funcaoId < 0 ? List.of() : List.copyOf(indicePorFuncao.get(funcaoId));
+    }
+
+    /**
+     * Agrupa os funcionarios por sua funcao a partir do indice de funcoes, percorrendo os ids das funcoes.
+     *
+     * @return um Map onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao, com as
+     *         funcoes na ordem em que apareceram pela primeira vez neste repositorio.
+     */
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        Map<String, List<Funcionario>> funcionariosPorFuncao = new LinkedHashMap<>();
+        for (int funcaoId = 0; funcaoId < indicePorFuncao.size(); funcaoId++) {
+            Set<Funcionario> membros = indicePorFuncao.get(funcaoId);
+            if (!membros.isEmpty()) {
+                funcionariosPorFuncao.put(funcoes.funcao(funcaoId), new ArrayList<>(membros));
+            }
+        }
+        return funcionariosPorFuncao;
+    }
+
+    /**
+     * Retorna as funcoes com ao menos um funcionario.
+     *
+     * @return as funcoes, na ordem em que apareceram pela primeira vez.
+     */
+    public Set<String> funcoes() {
+        Set<String> comFuncionarios = new LinkedHashSet<>();
+        for (int funcaoId = 0; funcaoId < indicePorFuncao.size(); funcaoId++) {
+            if (!indicePorFuncao.get(funcaoId).isEmpty()) {
+                comFuncionarios.add(funcoes.funcao(funcaoId));
+            }
+        }
+        return Collections.unmodifiableSet(comFuncionarios);
+    }
+
+    /**
+     * Filtra os funcionarios que fazem aniversario em um dos dois meses especificados.
+     *
+     * @param mesInicial o primeiro mes a ser considerado (valor entre 1 e 12).
+     * @param mesFinal o segundo mes a ser considerado (valor entre 1 e 12).
+     * @return uma lista com os aniversariantes dos dois meses, na ordem de insercao.
+     */
+    public List<Funcionario> funcionariosPorAniversario(int mesInicial, int mesFinal) {
+        Set<Funcionario> primeiro = bucketDoMes(mesInicial);
+        if (mesFinal == mesInicial) {
+            return new ArrayList<>(primeiro);
+        }
+        Set<Funcionario> segundo = bucketDoMes(mesFinal);
+
+        // Os buckets ja estao em ordem de insercao; basta intercala-los pela sequencia.
+        List<Funcionario> funcionariosAniversario = new ArrayList<>(primeiro.size() + segundo.size());
+        Iterator<Funcionario> iteradorPrimeiro = primeiro.iterator();
+        Iterator<Funcionario> iteradorSegundo = segundo.iterator();
+        Funcionario proximoPrimeiro = iteradorPrimeiro.hasNext() ? iteradorPrimeiro.next() : null;
+        Funcionario proximoSegundo = iteradorSegundo.hasNext() ? iteradorSegundo.next() : null;
+        while (proximoPrimeiro != null && proximoSegundo != null) {
+            if (registros.get(proximoPrimeiro).sequencia() < registros.get(proximoSegundo).sequencia()) {
+                funcionariosAniversario.add(proximoPrimeiro);
+                proximoPrimeiro = iteradorPrimeiro.hasNext() ? iteradorPrimeiro.next() : null;
+            } else {
+                funcionariosAniversario.add(proximoSegundo);
+                proximoSegundo = iteradorSegundo.hasNext() ? iteradorSegundo.next() : null;
+            }
+        }
+        if (proximoPrimeiro != null) {
+            funcionariosAniversario.add(proximoPrimeiro);
+            iteradorPrimeiro.forEachRemaining(funcionariosAniversario::add);
+        }
+        if (proximoSegundo != null) {
+            funcionariosAniversario.add(proximoSegundo);
+            iteradorSegundo.forEachRemaining(funcionariosAniversario::add);
+        }
+        return funcionariosAniversario;
+    }
+
+    /**
+     * Retorna todos os funcionarios, na ordem de insercao.
+     *
+     * @return uma copia da lista de funcionarios.
+     */
+    public List<Funcionario> funcionarios() {
+        return new ArrayList<>(registros.keySet());
+    }
+
+    public int tamanho() {
+        return registros.size();
+    }
+
+    private void removerDosIndicesDeFuncaoEMes(Funcionario funcionario, Registro registro) {
+        indicePorFuncao.get(registro.funcaoId()).remove(funcionario);
+        if (funcionario.getDataNascimento() != null) {
+            bucketDoMes(funcionario.getDataNascimento().getMonthValue()).remove(funcionario);
+        }
+    }
+
+    private Set<Funcionario> bucketDoMes(int mes) {
+        if (mes < 1 || mes > 12) {
+            throw new IllegalArgumentException("Mes invalido: " + mes);
+        }
+        return indicePorMes.get(mes - 1);
+    }
+
+    /**
+     * Sequencia de insercao e id da funcao de um funcionario do repositorio.
+     */
+    private record Registro(long sequencia, int funcaoId) {}
+
+    /**
+     * Normaliza o nome com a mesma regra do String.equalsIgnoreCase:
+     * cada caractere e convertido para maiuscula e depois para minuscula. Dois nomes iguais pelo
+     * equalsIgnoreCase tem sempre a mesma chave.
+     */
+    public static String chaveNome(String nome) {
+        StringBuilder chave = new StringBuilder(nome.length());
+        nome.codePoints().forEach(codePoint ->
+                chave.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return chave.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package org.willian.application;
+
+/**
+ * Modo de armazenamento dos funcionarios nas consultas da App (agrupamento por funcao, aniversariantes
+ * por mes, funcionario mais velho e total dos salarios).
+ */
+public enum ModoArmazenamento {
+    /** Consulta os objetos Funcionario da lista, pelos indices e agregados mantidos pela App. */
+    OBJETOS,
+    /** Consulta uma copia colunar dos funcionarios (FuncionarioColumnarStore), com arrays primitivos. */
+    COLUNAR
+}
@@ -0,0 +1,12 @@
+package org.willian.application;
+
+/**
+ * Modo de execucao das operacoes em lote da App (aumento de salario, soma dos salarios
+ * e quantidade de salarios minimos).
+ */
+public enum ModoExecucao {
+    /** Executa as operacoes na thread chamadora. */
+    SEQUENCIAL,
+    /** Divide as operacoes em tarefas fork-join executadas no ForkJoinPool configurado. */
+    PARALELO
+}
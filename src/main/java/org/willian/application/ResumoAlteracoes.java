@@ -0,0 +1,14 @@
+package org.willian.application;
+
+/**
+ * Resultado da aplicacao de um arquivo de alteracoes.
+ *
+ * @param inseridos a quantidade de funcionarios incluidos.
+ * @param removidos a quantidade de funcionarios removidos.
+ * @param salariosAlterados a quantidade de funcionarios que receberam um novo salario (eventos SALARIO).
+ * @param salariosReajustados a quantidade de funcionarios reajustados por eventos AUMENTO_FUNCAO.
+ * @param semCorrespondencia a quantidade de eventos cujo nome ou funcao nao foi encontrado.
+ */
+public record ResumoAlteracoes(long inseridos, long removidos, long salariosAlterados, long salariosReajustados,
+                               long semCorrespondencia) {
+}
@@ -0,0 +1,82 @@
+package org.willian.application;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Tabela de valores do salario minimo por ano.
+ *
+ * O valor de um ano sem entrada propria e o do ultimo ano anterior que tem entrada,
+ * ja que o salario minimo vale ate ser reajustado. Instancias sao imutaveis.
+ */
+public final class TabelaSalarioMinimo {
+
+    private static final TabelaSalarioMinimo NACIONAL = de(Map.of(
+            2022, new BigDecimal("1212.00"),
+            2023, new BigDecimal("1320.00"),
+            2024, new BigDecimal("1412.00"),
+            2025, new BigDecimal("1518.00")
+    ));
+
+    private final NavigableMap<Integer, BigDecimal> valoresPorAno;
+
+    private TabelaSalarioMinimo(NavigableMap<Integer, BigDecimal> valoresPorAno) {
+        this.valoresPorAno = valoresPorAno;
+    }
+
+    /**
+     * Retorna a tabela do salario minimo nacional a partir de 2022
+     * (para 2023, o valor vigente a partir de maio, R$1320.00).
+     *
+     * @return a tabela nacional.
+     */
+    public static TabelaSalarioMinimo nacional() {
+        return NACIONAL;
+    }
+
+    /**
+     * Cria uma tabela com os valores informados.
+     *
+     * @param valoresPorAno o valor do salario minimo de cada ano.
+     * @return a tabela.
+     */
+    public static TabelaSalarioMinimo de(Map<Integer, BigDecimal> valoresPorAno) {
+        if (valoresPorAno.isEmpty()) {
+            throw new IllegalArgumentException("A tabela de salario minimo deve ter ao menos um ano.");
+        }
+        NavigableMap<Integer, BigDecimal> valores = new TreeMap<>();
+        valoresPorAno.forEach((ano, valor) -> {
+            if (Objects.requireNonNull(valor).signum() <= 0) {
+                throw new IllegalArgumentException("Salario minimo invalido para " + ano + ": " + valor);
+            }
+            valores.put(ano, valor);
+        });
+        return new TabelaSalarioMinimo(valores);
+    }
+
+    /**
+     * Retorna o salario minimo vigente no ano informado.
+     *
+     * @param ano o ano.
+     * @return o valor do salario minimo.
+     * @throws IllegalArgumentException se o ano for anterior ao primeiro ano da tabela.
+     */
+    public BigDecimal valor(int ano) {
+        Map.Entry<Integer, BigDecimal> entrada = valoresPorAno.floorEntry(ano);
+        if (entrada == null) {
+            throw new IllegalArgumentException("Sem salario minimo para o ano " + ano);
+        }
+        return entrada.getValue();
+    }
+
+    public int primeiroAno() {
+        return valoresPorAno.firstKey();
+    }
+
+    public int ultimoAno() {
+        return valoresPorAno.lastKey();
+    }
+}
@@ -0,0 +1,118 @@
+package org.willian.application;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tarefas fork-join usadas pela App no modo de execucao PARALELO.
+ *
+ * Cada tarefa trabalha sobre um intervalo [inicio, fim) de um array de funcionarios e se divide ao meio
+ * enquanto o intervalo for maior que LIMIAR. Os resultados sao deterministicos: cada posicao e calculada
+ * de forma independente e a soma de BigDecimal e exata, entao a ordem de combinacao nao altera o valor.
+ */
+final class TarefasFolha {
+
+    static final int LIMIAR = 4096;
+
+    private TarefasFolha() {}
+
+    /**
+     * Converte o fator de aumento para BigDecimal pelo valor exato do double (1.15 vale 1.1499999...), a
+     * convencao de todos os caminhos de aumento: App, AplicadorAlteracoes, ConcurrentFuncionarioStore e
+     * Centavos.Fator. Assim o mesmo reajuste nominal da sempre o mesmo salario.
+     */
+    static BigDecimal fatorDeAumento(double valor) {
+        return new BigDecimal(valor);
+    }
+
+    static BigDecimal salarioComAumento(BigDecimal salario, BigDecimal fator) {
+        return salario.multiply(fator).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static BigDecimal salariosMinimos(Funcionario funcionario, BigDecimal salarioMinimo) {
+        return funcionario.getSalario().divide(salarioMinimo, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calcula o salario com aumento de cada posicao do intervalo em novosSalarios e retorna a soma das
+     * diferencas de salario (novo - anterior) por funcao, usada para atualizar os AgregadosFolha sem percorrer
+     * a lista novamente. Os funcionarios nao sao alterados: quem invoca a tarefa grava os novos salarios
+     * depois que ela termina, de modo que uma falha em qualquer subtarefa nao deixa aumentos aplicados pela
+     * metade.
+     */
+    static final class AumentoSalarial extends RecursiveTask<Map<String, BigDecimal>> {
+        private static final long serialVersionUID = 1L;
+
+        // As tarefas nao sao serializadas; o ForkJoinTask so e Serializable por heranca.
+        private final transient Funcionario[] funcionarios;
+        private final BigDecimal[] novosSalarios;
+        private final int inicio;
+        private final int fim;
+        private final BigDecimal fator;
+
+        AumentoSalarial(Funcionario[] funcionarios, BigDecimal[] novosSalarios, int inicio, int fim, BigDecimal fator) {
+            this.funcionarios = funcionarios;
+            this.novosSalarios = novosSalarios;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.fator = fator;
+        }
+
+        @Override
+        protected Map<String, BigDecimal> compute() {
+            if (fim - inicio <= LIMIAR) {
+                Map<String, BigDecimal> diferencas = new HashMap<>();
+                for (int i = inicio; i < fim; i++) {
+                    BigDecimal salarioAnterior = funcionarios[i].getSalario();
+                    novosSalarios[i] = salarioComAumento(salarioAnterior, fator);
+                    diferencas.merge(funcionarios[i].getFuncao(),
+                            novosSalarios[i].subtract(salarioAnterior), BigDecimal::add);
+                }
+                return diferencas;
+            }
+            int meio = (inicio + fim) >>> 1;
+            AumentoSalarial esquerda = new AumentoSalarial(funcionarios, novosSalarios, inicio, meio, fator);
+            esquerda.fork();
+            Map<String, BigDecimal> diferencas = new AumentoSalarial(funcionarios, novosSalarios, meio, fim, fator).compute();
+            esquerda.join().forEach((funcao, diferenca) -> diferencas.merge(funcao, diferenca, BigDecimal::add));
+            return diferencas;
+        }
+    }
+
+    static final class SalariosMinimos extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Funcionario[] funcionarios;
+        private final BigDecimal[] resultado;
+        private final int inicio;
+        private final int fim;
+        private final BigDecimal salarioMinimo;
+
+        SalariosMinimos(Funcionario[] funcionarios, BigDecimal[] resultado, int inicio, int fim, BigDecimal salarioMinimo) {
+            this.funcionarios = funcionarios;
+            this.resultado = resultado;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.salarioMinimo = salarioMinimo;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR) {
+                for (int i = inicio; i < fim; i++) {
+                    resultado[i] = salariosMinimos(funcionarios[i], salarioMinimo);
+                }
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new SalariosMinimos(funcionarios, resultado, inicio, meio, salarioMinimo),
+                    new SalariosMinimos(funcionarios, resultado, meio, fim, salarioMinimo));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.willian.application.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * InputStream que conta os bytes lidos, usado para medir a vazao da leitura do JSON.
+ */
+final class ContadorBytesInputStream extends FilterInputStream {
+
+    private long bytesLidos;
+
+    ContadorBytesInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int lido = super.read();
+        if (lido >= 0) {
+            bytesLidos++;
+        }
+        return lido;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int lidos = super.read(b, off, len);
+        if (lidos > 0) {
+            bytesLidos += lidos;
+        }
+        return lidos;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long pulados = super.skip(n);
+        bytesLidos += pulados;
+        return pulados;
+    }
+
+    long bytesLidos() {
+        return bytesLidos;
+    }
+}
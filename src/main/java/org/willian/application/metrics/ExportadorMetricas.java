@@ -0,0 +1,11 @@
+package org.willian.application.metrics;
+
+/**
+ * Destino das metricas da App (log, arquivo, sistema de monitoramento...).
+ * Recebe um snapshot imutavel, entao a implementacao pode processa-lo fora da thread que o gerou.
+ */
+@FunctionalInterface
+public interface ExportadorMetricas {
+
+    void exportar(SnapshotMetricas snapshot);
+}
@@ -0,0 +1,94 @@
+package org.willian.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias em nanossegundos com buckets log-lineares, no estilo do HdrHistogram.
+ *
+ * Valores ate 31 ns tem bucket proprio; acima disso, cada potencia de 2 e dividida em 16 sub-buckets,
+ * o que da um erro relativo de no maximo 1/16 (~6%) em qualquer faixa, com tamanho fixo de 960 contadores.
+ * O registro e lock-free e pode ser feito por varias threads ao mesmo tempo.
+ */
+public final class HistogramaLatencia {
+
+    private static final int SUB_BUCKETS = 16;
+    private static final int BITS_SUB_BUCKET = 5;
+    private static final int QUANTIDADE_BUCKETS = 60 * SUB_BUCKETS;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(QUANTIDADE_BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra uma latencia.
+     *
+     * @param nanos a latencia em nanossegundos; valores negativos sao tratados como zero.
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        contagens.incrementAndGet(indice(valor));
+        total.increment();
+        soma.add(valor);
+        maximo.accumulate(valor);
+    }
+
+    public long contagem() {
+        return total.sum();
+    }
+
+    public long somaNanos() {
+        return soma.sum();
+    }
+
+    public long maximoNanos() {
+        return maximo.get();
+    }
+
+    public double mediaNanos() {
+        long contagem = contagem();
+        return contagem == 0 ? 0 : (double) somaNanos() / contagem;
+    }
+
+    /**
+     * Retorna o percentil informado, aproximado pelo limite superior do bucket em que ele cai.
+     *
+     * @param percentil o percentil, entre 0 e 100.
+     * @return a latencia em nanossegundos; 0 se nao houver registros.
+     */
+    public long percentilNanos(double percentil) {
+        long contagem = contagem();
+        if (contagem == 0) {
+            return 0;
+        }
+        long alvo = Math.max(1, (long) Math.ceil(contagem * Math.min(Math.max(percentil, 0), 100) / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < QUANTIDADE_BUCKETS; i++) {
+            acumulado += contagens.get(i);
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximoNanos());
+            }
+        }
+        return maximoNanos();
+    }
+
+    static int indice(long valor) {
+        if (valor < 1 << BITS_SUB_BUCKET) {
+            return (int) valor;
+        }
+        int bitMaisAlto = 63 - Long.numberOfLeadingZeros(valor);
+        int deslocamento = bitMaisAlto - BITS_SUB_BUCKET + 1;
+        return deslocamento * SUB_BUCKETS + (int) (valor >>> deslocamento);
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < 1 << BITS_SUB_BUCKET) {
+            return indice;
+        }
+        int deslocamento = indice / SUB_BUCKETS - 1;
+        long subBucket = indice % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << deslocamento) - 1;
+    }
+}
@@ -0,0 +1,236 @@
+package org.willian.application.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metricas das operacoes da App: histograma de latencia por operacao, registros processados,
+ * bytes de JSON lidos (e a vazao de leitura) e falhas de leitura.
+ *
+ * Quando desativadas, iniciar() retorna SEM_MEDICAO sem chamar System.nanoTime() e registrar() retorna
+ * imediatamente, entao o custo no caminho das operacoes e uma leitura de campo volatile e um desvio.
+ * Podem ser expostas via JMX (registrarMBean) e enviadas a um ExportadorMetricas.
+ * Todos os metodos podem ser chamados por varias threads.
+ */
+public final class MetricasApp implements MetricasAppMBean {
+
+    /** Valor retornado por iniciar() quando as metricas estao desativadas. */
+    public static final long SEM_MEDICAO = Long.MIN_VALUE;
+
+    private static final MetricasApp DESATIVADAS = new MetricasApp(false, false);
+
+    private final boolean alteravel;
+    private volatile boolean ativo;
+    private volatile Map<OperacaoApp, HistogramaLatencia> histogramas;
+    private final LongAdder registrosProcessados = new LongAdder();
+    private final LongAdder bytesLidos = new LongAdder();
+    private final LongAdder falhasLeitura = new LongAdder();
+
+    public MetricasApp() {
+        this(true, true);
+    }
+
+    private MetricasApp(boolean ativo, boolean alteravel) {
+        this.ativo = ativo;
+        this.alteravel = alteravel;
+        this.histogramas = novosHistogramas();
+    }
+
+    /**
+     * Retorna uma instancia compartilhada e sempre desativada, usada pela App quando nenhuma metrica e configurada.
+     *
+     * @return as metricas desativadas.
+     */
+    public static MetricasApp desativadas() {
+        return DESATIVADAS;
+    }
+
+    /**
+     * Inicia a medicao de uma operacao.
+     *
+     * @return o instante atual em nanossegundos, ou SEM_MEDICAO se as metricas estiverem desativadas.
+     */
+    public long iniciar() {
+        return ativo ? System.nanoTime() : SEM_MEDICAO;
+    }
+
+    /**
+     * Registra o fim de uma operacao iniciada com iniciar().
+     *
+     * @param operacao a operacao executada.
+     * @param inicio o valor retornado por iniciar().
+     * @param registros a quantidade de funcionarios processados pela operacao.
+     */
+    public void registrar(OperacaoApp operacao, long inicio, long registros) {
+        if (inicio == SEM_MEDICAO) {
+            return;
+        }
+        histogramas.get(operacao).registrar(System.nanoTime() - inicio);
+        registrosProcessados.add(registros);
+    }
+
+    /**
+     * Envolve o InputStream do JSON para contar os bytes lidos, se as metricas estiverem ativas.
+     *
+     * @param entrada o InputStream original.
+     * @return o InputStream a ser usado na leitura.
+     */
+    public InputStream medirLeitura(InputStream entrada) {
+        return ativo ? new ContadorBytesInputStream(entrada) : entrada;
+    }
+
+    /**
+     * Registra o fim da leitura de um JSON envolvido por medirLeitura().
+     *
+     * @param entrada o InputStream retornado por medirLeitura().
+     * @param sucesso false se a leitura falhou.
+     */
+    public void registrarLeitura(InputStream entrada, boolean sucesso) {
+        if (entrada instanceof ContadorBytesInputStream contador) {
+            bytesLidos.add(contador.bytesLidos());
+            if (!sucesso) {
+                falhasLeitura.increment();
+            }
+        }
+    }
+
+    /**
+     * Gera um snapshot imutavel das metricas atuais.
+     *
+     * @return o snapshot.
+     */
+    public SnapshotMetricas snapshot() {
+        Map<OperacaoApp, SnapshotMetricas.Latencias> operacoes = new EnumMap<>(OperacaoApp.class);
+        histogramas.forEach((operacao, histograma) -> {
+            if (histograma.contagem() > 0) {
+                operacoes.put(operacao, SnapshotMetricas.Latencias.de(histograma));
+            }
+        });
+        return new SnapshotMetricas(Instant.now(), Map.copyOf(operacoes), getRegistrosProcessados(),
+                getBytesLidos(), getFalhasLeitura(), getBytesLidosPorSegundo());
+    }
+
+    /**
+     * Envia um snapshot das metricas atuais ao exportador.
+     *
+     * @param exportador o destino das metricas.
+     */
+    public void exportar(ExportadorMetricas exportador) {
+        exportador.exportar(snapshot());
+    }
+
+    /**
+     * Registra estas metricas no MBeanServer da plataforma com o nome org.willian:type=MetricasApp,name=&lt;nome&gt;.
+     *
+     * @param nome o nome que identifica a App no JMX.
+     * @return o ObjectName registrado.
+     * @throws JMException se o nome for invalido ou ja estiver registrado.
+     */
+    public ObjectName registrarMBean(String nome) throws JMException {
+        if (!alteravel) {
+            throw new InstanceAlreadyExistsException("As metricas desativadas compartilhadas nao podem ser registradas.");
+        }
+        ObjectName objectName = new ObjectName("org.willian:type=MetricasApp,name=" + ObjectName.quote(nome));
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        servidor.registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    @Override
+    public void setAtivo(boolean ativo) {
+        if (!alteravel) {
+            throw new UnsupportedOperationException("As metricas desativadas compartilhadas nao podem ser ativadas.");
+        }
+        this.ativo = ativo;
+    }
+
+    @Override
+    public long getRegistrosProcessados() {
+        return registrosProcessados.sum();
+    }
+
+    @Override
+    public long getBytesLidos() {
+        return bytesLidos.sum();
+    }
+
+    @Override
+    public long getFalhasLeitura() {
+        return falhasLeitura.sum();
+    }
+
+    @Override
+    public double getBytesLidosPorSegundo() {
+        long nanos = histogramas.get(OperacaoApp.CRIAR_LISTA_FUNCIONARIOS).somaNanos();
+        return nanos == 0 ? 0 : getBytesLidos() * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String[] getOperacoes() {
+        return Arrays.stream(OperacaoApp.values()).map(Enum::name).toArray(String[]::new);
+    }
+
+    @Override
+    public long contagem(String operacao) {
+        return histograma(operacao).contagem();
+    }
+
+    @Override
+    public double mediaNanos(String operacao) {
+        return histograma(operacao).mediaNanos();
+    }
+
+    @Override
+    public long percentilNanos(String operacao, double percentil) {
+        return histograma(operacao).percentilNanos(percentil);
+    }
+
+    @Override
+    public long maximoNanos(String operacao) {
+        return histograma(operacao).maximoNanos();
+    }
+
+    @Override
+    public void zerar() {
+        histogramas = novosHistogramas();
+        registrosProcessados.reset();
+        bytesLidos.reset();
+        falhasLeitura.reset();
+    }
+
+    /**
+     * Retorna o histograma de latencias de uma operacao.
+     *
+     * @param operacao a operacao.
+     * @return o histograma atual da operacao.
+     */
+    public HistogramaLatencia histograma(OperacaoApp operacao) {
+        return histogramas.get(operacao);
+    }
+
+    private HistogramaLatencia histograma(String operacao) {
+        return histograma(OperacaoApp.valueOf(operacao));
+    }
+
+    private static Map<OperacaoApp, HistogramaLatencia> novosHistogramas() {
+        Map<OperacaoApp, HistogramaLatencia> histogramas = new EnumMap<>(OperacaoApp.class);
+        for (OperacaoApp operacao : OperacaoApp.values()) {
+            histogramas.put(operacao, new HistogramaLatencia());
+        }
+        return histogramas;
+    }
+}
@@ -0,0 +1,31 @@
+package org.willian.application.metrics;
+
+/**
+ * Interface JMX das MetricasApp. As latencias sao em nanossegundos.
+ */
+public interface MetricasAppMBean {
+
+    boolean isAtivo();
+
+    void setAtivo(boolean ativo);
+
+    long getRegistrosProcessados();
+
+    long getBytesLidos();
+
+    long getFalhasLeitura();
+
+    double getBytesLidosPorSegundo();
+
+    String[] getOperacoes();
+
+    long contagem(String operacao);
+
+    double mediaNanos(String operacao);
+
+    long percentilNanos(String operacao, double percentil);
+
+    long maximoNanos(String operacao);
+
+    void zerar();
+}
@@ -0,0 +1,18 @@
+package org.willian.application.metrics;
+
+/**
+ * Operacoes da App instrumentadas pelas MetricasApp.
+ */
+public enum OperacaoApp {
+    CRIAR_LISTA_FUNCIONARIOS,
+    REMOVER_FUNCIONARIO,
+    ADICIONAR_AUMENTO_DE_SALARIO,
+    FUNCIONARIOS_POR_FUNCAO,
+    FUNCIONARIOS_POR_ANIVERSARIO,
+    ANIVERSARIANTES,
+    FAIXAS_ETARIAS,
+    FUNCIONARIO_COM_MAIOR_IDADE,
+    FUNCIONARIO_ORDEM_ALFABETICA,
+    TOTAL_SALARIO_FUNCIONARIOS,
+    SALARIOS_MINIMOS
+}
@@ -0,0 +1,30 @@
+package org.willian.application.metrics;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Copia imutavel das metricas da App em um instante.
+ *
+ * @param instante o momento em que o snapshot foi gerado.
+ * @param operacoes as latencias de cada operacao que foi executada ao menos uma vez.
+ * @param registrosProcessados a quantidade de funcionarios processados por todas as operacoes.
+ * @param bytesLidos a quantidade de bytes de JSON lidos por criarListaFuncionarios.
+ * @param falhasLeitura a quantidade de leituras de JSON que falharam.
+ * @param bytesLidosPorSegundo a vazao de leitura do JSON, considerando apenas o tempo gasto em criarListaFuncionarios.
+ */
+public record SnapshotMetricas(Instant instante, Map<OperacaoApp, Latencias> operacoes, long registrosProcessados,
+                               long bytesLidos, long falhasLeitura, double bytesLidosPorSegundo) {
+
+    /**
+     * Resumo do histograma de latencias de uma operacao, em nanossegundos.
+     */
+    public record Latencias(long contagem, double media, long p50, long p90, long p99, long p999, long maximo) {
+
+        static Latencias de(HistogramaLatencia histograma) {
+            return new Latencias(histograma.contagem(), histograma.mediaNanos(), histograma.percentilNanos(50),
+                    histograma.percentilNanos(90), histograma.percentilNanos(99), histograma.percentilNanos(99.9),
+                    histograma.maximoNanos());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.willian.application.particao;
+
+import org.willian.application.IndexedFuncionarioRepository;
+import org.willian.domain.entities.Funcionario;
+
+/**
+ * Campo usado para distribuir os funcionarios entre as particoes.
+ *
+ * Com NOME, funcionarios com o mesmo nome (sem diferenciar maiusculas, como em removerFuncionario) ficam
+ * sempre na mesma particao, entao uma remocao e enviada a uma unica particao. Com FUNCAO, cada funcao fica
+ * inteira em uma particao, mas as remocoes precisam ser enviadas a todas.
+ */
+public enum ChaveParticao {
+    NOME,
+    FUNCAO;
+
+    /**
+     * Retorna a particao do funcionario.
+     *
+     * @param funcionario o funcionario.
+     * @param quantidade a quantidade de particoes.
+     * @return o indice da particao, de 0 a quantidade - 1.
+     */
+    public int particao(Funcionario funcionario, int quantidade) {
+        return this == NOME ? particaoDoNome(funcionario.getNome(), quantidade) : particao(funcionario.getFuncao(), quantidade);
+    }
+
+    /**
+     * Retorna a particao de um nome, com a mesma regra do equalsIgnoreCase.
+     *
+     * @param nome o nome.
+     * @param quantidade a quantidade de particoes.
+     * @return o indice da particao, de 0 a quantidade - 1.
+     */
+    public static int particaoDoNome(String nome, int quantidade) {
+        return particao(nome == null ? null : IndexedFuncionarioRepository.chaveNome(nome), quantidade);
+    }
+
+    private static int particao(String chave, int quantidade) {
+        int hash = chave == null ? 0 : chave.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), quantidade);
+    }
+}
@@ -0,0 +1,81 @@
+package org.willian.application.particao;
+
+import org.willian.application.particao.ProtocoloParticao.Comando;
+import org.willian.application.particao.ProtocoloParticao.Resposta;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conexao do coordenador com um processo TrabalhadorParticao, pelos pipes de entrada e saida padrao.
+ *
+ * Comandos podem ser enviados antes de as respostas anteriores serem lidas, mas quem envia deve ler as
+ * respostas na mesma ordem e nao deixar muitas acumuladas, ou o pipe de saida do trabalhador enche.
+ */
+final class ConexaoParticao implements AutoCloseable {
+
+    private static final long ESPERA_ENCERRAMENTO_SEGUNDOS = 10;
+
+    private final int indice;
+    private final Process processo;
+    private final OutputStream entrada;
+    private final BufferedReader saida;
+
+    ConexaoParticao(int indice, Process processo) {
+        this.indice = indice;
+        this.processo = processo;
+        this.entrada = new BufferedOutputStream(processo.getOutputStream(), 1 << 16);
+        this.saida = new BufferedReader(new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    void enviar(Comando comando) throws IOException {
+        ProtocoloParticao.escrever(entrada, comando);
+    }
+
+    /**
+     * Le a proxima resposta.
+     *
+     * @throws IOException se o processo terminou ou se o comando falhou no trabalhador.
+     */
+    Resposta receber() throws IOException {
+        Resposta resposta = ProtocoloParticao.ler(saida, Resposta.class);
+        if (resposta == null) {
+            throw new IOException("A particao " + indice + " terminou inesperadamente");
+        }
+        if (!resposta.ok()) {
+            throw new IOException("Erro na particao " + indice + ": " + resposta.erro());
+        }
+        return resposta;
+    }
+
+    Resposta executar(Comando comando) throws IOException {
+        enviar(comando);
+        return receber();
+    }
+
+    /**
+     * Envia ENCERRAR e espera o processo terminar; se ele nao terminar a tempo, e destruido.
+     */
+    @Override
+    public void close() {
+        try {
+            if (processo.isAlive()) {
+                enviar(Comando.de(ProtocoloParticao.ENCERRAR));
+                entrada.close();
+            }
+            if (!processo.waitFor(ESPERA_ENCERRAMENTO_SEGUNDOS, TimeUnit.SECONDS)) {
+                processo.destroyForcibly();
+            }
+        } catch (IOException e) {
+            processo.destroyForcibly();
+        } catch (InterruptedException e) {
+            processo.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
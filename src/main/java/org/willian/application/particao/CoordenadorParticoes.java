@@ -0,0 +1,419 @@
+package org.willian.application.particao;
+
+import org.willian.application.particao.ProtocoloParticao.Comando;
+import org.willian.application.particao.ProtocoloParticao.FuncionarioParticao;
+import org.willian.application.particao.ProtocoloParticao.Resposta;
+import org.willian.domain.entities.Funcionario;
+import org.willian.infrastructure.reader.FuncionarioJsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Folha particionada entre varios processos TrabalhadorParticao na mesma maquina, cada um com uma App
+ * que guarda apenas os funcionarios da sua particao (veja ChaveParticao). O coordenador distribui os
+ * funcionarios, repassa remocoes e aumentos as particoes e junta os resultados parciais das consultas.
+ *
+ * Cada funcionario recebe um numero de sequencia na ordem em que e adicionado; com ele os resultados
+ * juntados ficam na mesma ordem que uma unica App com todos os funcionarios produziria: os grupos de
+ * funcionariosPorFuncao (com as funcoes na ordem em que foram vistas pela primeira vez), os empates de
+ * data em funcionarioComMaiorIdade e os empates de nome na ordem alfabetica. Os Maps de totais e quantidades tem os mesmos valores, mas as funcoes aparecem na ordem das
+ * particoes.
+ *
+ * Os funcionarios retornados sao copias dos que estao nas particoes; altera-los nao afeta a folha.
+ * Falhas de comunicacao ou de um comando em uma particao sao lancadas como UncheckedIOException.
+ * As instancias nao sao thread-safe.
+ */
+public final class CoordenadorParticoes implements AutoCloseable {
+
+    private static final int TAMANHO_LOTE = 4096;
+
+    private static final Comparator<FuncionarioParticao> POR_NOME = Comparator
+            .comparing(FuncionarioParticao::nome)
+            .thenComparingLong(FuncionarioParticao::sequencia);
+
+    private static final Comparator<FuncionarioParticao> POR_NASCIMENTO = Comparator
+            .comparing(FuncionarioParticao::dataNascimento)
+            .thenComparingLong(FuncionarioParticao::sequencia);
+
+    private final ConexaoParticao[] particoes;
+    private final ChaveParticao chave;
+    private final Map<String, Integer> ordemFuncoes = new HashMap<>();
+    private long proximaSequencia;
+
+    /**
+     * Inicia os processos das particoes com o mesmo java e classpath deste processo.
+     *
+     * @param quantidade a quantidade de particoes (processos).
+     * @param chave o campo usado para distribuir os funcionarios.
+     * @throws IOException se algum processo nao puder ser iniciado.
+     */
+    public CoordenadorParticoes(int quantidade, ChaveParticao chave) throws IOException {
+        this(List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), TrabalhadorParticao.class.getName()), quantidade, chave);
+    }
+
+    /**
+     * Inicia os processos das particoes com o comando informado, por exemplo para passar opcoes de JVM.
+     *
+     * @param comando o comando que inicia um TrabalhadorParticao.
+     * @param quantidade a quantidade de particoes (processos).
+     * @param chave o campo usado para distribuir os funcionarios.
+     * @throws IOException se algum processo nao puder ser iniciado.
+     */
+    public CoordenadorParticoes(List<String> comando, int quantidade, ChaveParticao chave) throws IOException {
+        if (quantidade < 1) {
+            throw new IllegalArgumentException("A quantidade de particoes deve ser maior que zero: " + quantidade);
+        }
+        this.chave = Objects.requireNonNull(chave);
+        this.particoes = new ConexaoParticao[quantidade];
+        ProcessBuilder builder = new ProcessBuilder(comando).redirectError(ProcessBuilder.Redirect.INHERIT);
+        try {
+            for (int i = 0; i < quantidade; i++) {
+                particoes[i] = new ConexaoParticao(i, builder.start());
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public int getQuantidadeParticoes() {
+        return particoes.length;
+    }
+
+    public ChaveParticao getChave() {
+        return chave;
+    }
+
+    /**
+     * Le os funcionarios de um JSON no formato do data.json em modo streaming e os adiciona as particoes,
+     * em lotes; enquanto uma particao processa um lote, os proximos sao lidos e enviados as demais.
+     *
+     * @param jsonInputStream o InputStream contendo o JSON com a lista de funcionarios.
+     * @return a quantidade de funcionarios adicionados.
+     * @throws IOException se o JSON for invalido ou se uma particao falhar.
+     */
+    public long adicionar(InputStream jsonInputStream) throws IOException {
+        Distribuicao distribuicao = new Distribuicao();
+        try {
+            FuncionarioJsonReader.lerFuncionarios(jsonInputStream, distribuicao);
+        } catch (UncheckedIOException e) {
+            distribuicao.descartar(e.getCause());
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            distribuicao.descartar(e);
+            throw e;
+        }
+        return distribuicao.concluir();
+    }
+
+    /**
+     * Adiciona os funcionarios as particoes, ao fim da folha.
+     *
+     * @param funcionarios os funcionarios, na ordem em que devem ser adicionados.
+     * @return a quantidade de funcionarios adicionados.
+     */
+    public long adicionar(Iterable<Funcionario> funcionarios) {
+        Distribuicao distribuicao = new Distribuicao();
+        try {
+            funcionarios.forEach(distribuicao);
+            return distribuicao.concluir();
+        } catch (IOException e) {
+            distribuicao.descartar(e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            distribuicao.descartar(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove os funcionarios cujo nome corresponda ao informado (ignora maiusculas e minusculas). Com a
+     * chave NOME apenas a particao do nome e consultada; com FUNCAO, todas.
+     *
+     * @param nome o nome do funcionario a ser removido.
+     * @return a quantidade de funcionarios removidos.
+     */
+    public int removerFuncionario(String nome) {
+        Comando comando = new Comando(ProtocoloParticao.REMOVER, null, nome, null, null);
+        if (chave == ChaveParticao.NOME) {
+            try {
+                return particoes[ChaveParticao.particaoDoNome(nome, particoes.length)].executar(comando).removidos();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        int removidos = 0;
+        for (Resposta resposta : executarEmTodas(comando)) {
+            removidos += resposta.removidos();
+        }
+        return removidos;
+    }
+
+    /**
+     * Aplica um aumento no salario de todos os funcionarios, como App.adicionarAumentoDeSalario.
+     *
+     * @param valor o fator de multiplicacao para o aumento (ex.: 1.10 para 10%).
+     */
+    public void adicionarAumentoDeSalario(Double valor) {
+        executarEmTodas(new Comando(ProtocoloParticao.AUMENTO, null, null, Objects.requireNonNull(valor), null));
+    }
+
+    /**
+     * Agrupa os funcionarios por sua funcao, juntando os grupos de todas as particoes.
+     *
+     * @return um Map onde a chave e a funcao e o valor e a lista de funcionarios com aquela funcao,
+     *         igual ao de App.funcionariosPorFuncao.
+     */
+    public Map<String, List<Funcionario>> funcionariosPorFuncao() {
+        Map<String, List<FuncionarioParticao>> grupos = new HashMap<>();
+        for (Resposta resposta : executarEmTodas(Comando.de(ProtocoloParticao.POR_FUNCAO))) {
+            resposta.grupos().forEach((funcao, lista) -> grupos.computeIfAbsent(funcao, f -> new ArrayList<>()).addAll(lista));
+        }
+
+        // Cada particao devolve os grupos em ordem de sequencia; as funcoes entram no Map na ordem em que
+        // foram vistas pela primeira vez, como em App.funcionariosPorFuncao.
+        List<Map.Entry<String, List<FuncionarioParticao>>> ordenados = new ArrayList<>(grupos.entrySet());
+        ordenados.forEach(grupo -> grupo.getValue().sort(Comparator.comparingLong(FuncionarioParticao::sequencia)));
+        ordenados.sort(Comparator.comparingInt(grupo -> ordemFuncoes.get(grupo.getKey())));
+
+        Map<String, List<Funcionario>> resultado = new LinkedHashMap<>();
+        for (Map.Entry<String, List<FuncionarioParticao>> grupo : ordenados) {
+            resultado.put(grupo.getKey(), paraFuncionarios(grupo.getValue()));
+        }
+        return resultado;
+    }
+
+    /**
+     * Retorna o total dos salarios de todos os funcionarios.
+     *
+     * @return o valor total dos salarios; BigDecimal.ZERO se nao houver funcionarios.
+     */
+    public BigDecimal totalSalarioFuncionarios() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Resposta resposta : executarEmTodas(Comando.de(ProtocoloParticao.TOTAIS))) {
+            total = total.add(resposta.total());
+        }
+        return total;
+    }
+
+    /**
+     * Retorna o total dos salarios de cada funcao, somando as particoes.
+     *
+     * @return um Map onde a chave e a funcao e o valor e o total dos salarios daquela funcao.
+     */
+    public Map<String, BigDecimal> totalSalarioPorFuncao() {
+        Map<String, BigDecimal> totais = new LinkedHashMap<>();
+        for (Resposta resposta : executarEmTodas(Comando.de(ProtocoloParticao.TOTAIS))) {
+            resposta.totalPorFuncao().forEach((funcao, total) -> totais.merge(funcao, total, BigDecimal::add));
+        }
+        return totais;
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios de cada funcao, somando as particoes.
+     *
+     * @return um Map onde a chave e a funcao e o valor e a quantidade de funcionarios.
+     */
+    public Map<String, Integer> quantidadePorFuncao() {
+        Map<String, Integer> quantidades = new LinkedHashMap<>();
+        for (Resposta resposta : executarEmTodas(Comando.de(ProtocoloParticao.TOTAIS))) {
+            resposta.quantidadePorFuncao().forEach((funcao, quantidade) -> quantidades.merge(funcao, quantidade, Integer::sum));
+        }
+        return quantidades;
+    }
+
+    /**
+     * Retorna o funcionario com maior idade entre os mais velhos de cada particao; em caso de empate,
+     * o que foi adicionado primeiro.
+     *
+     * @return o funcionario mais velho; se nao houver funcionarios, retorna null.
+     */
+    public Funcionario funcionarioComMaiorIdade() {
+        FuncionarioParticao maisVelho = null;
+        for (Resposta resposta : executarEmTodas(Comando.de(ProtocoloParticao.MAIS_VELHO))) {
+            for (FuncionarioParticao candidato : resposta.funcionarios()) {
+                if (maisVelho == null || POR_NASCIMENTO.compare(candidato, maisVelho) < 0) {
+                    maisVelho = candidato;
+                }
+            }
+        }
+        return maisVelho == null ? null : maisVelho.paraFuncionario();
+    }
+
+    /**
+     * Retorna os k primeiros funcionarios em ordem alfabetica do nome. Cada particao envia apenas os seus
+     * k primeiros, que sao intercalados aqui; nomes iguais ficam na ordem em que foram adicionados.
+     *
+     * @param k a quantidade maxima de funcionarios retornados.
+     * @return os funcionarios, em ordem alfabetica.
+     */
+    public List<Funcionario> funcionarioOrdemAlfabetica(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("A quantidade deve ser maior ou igual a zero: " + k);
+        }
+        List<Resposta> respostas = executarEmTodas(new Comando(ProtocoloParticao.ORDEM_ALFABETICA, null, null, null, k));
+
+        // Intercala as listas ja ordenadas com um heap de (particao, posicao).
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(1, respostas.size()),
+                (a, b) -> POR_NOME.compare(respostas.get(a[0]).funcionarios().get(a[1]),
+                        respostas.get(b[0]).funcionarios().get(b[1])));
+        int recebidos = 0;
+        for (int i = 0; i < respostas.size(); i++) {
+            recebidos += respostas.get(i).funcionarios().size();
+            if (!respostas.get(i).funcionarios().isEmpty()) {
+                heap.add(new int[] {i, 0});
+            }
+        }
+        List<Funcionario> resultado = new ArrayList<>(Math.min(k, recebidos));
+        while (resultado.size() < k && !heap.isEmpty()) {
+            int[] proximo = heap.poll();
+            List<FuncionarioParticao> lista = respostas.get(proximo[0]).funcionarios();
+            resultado.add(lista.get(proximo[1]).paraFuncionario());
+            if (++proximo[1] < lista.size()) {
+                heap.add(proximo);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Encerra os processos das particoes.
+     */
+    @Override
+    public void close() {
+        for (ConexaoParticao particao : particoes) {
+            if (particao != null) {
+                particao.close();
+            }
+        }
+    }
+
+    /**
+     * Envia o comando a todas as particoes antes de ler as respostas, para que elas o executem ao mesmo
+     * tempo. Todas as respostas sao lidas mesmo se alguma falhar, para nao deixar respostas pendentes.
+     */
+    private List<Resposta> executarEmTodas(Comando comando) {
+        IOException erro = null;
+        boolean[] enviado = new boolean[particoes.length];
+        for (int i = 0; i < particoes.length; i++) {
+            try {
+                particoes[i].enviar(comando);
+                enviado[i] = true;
+            } catch (IOException e) {
+                erro = erro == null ? e : erro;
+            }
+        }
+        List<Resposta> respostas = new ArrayList<>(particoes.length);
+        for (int i = 0; i < particoes.length; i++) {
+            if (!enviado[i]) {
+                continue;
+            }
+            try {
+                respostas.add(particoes[i].receber());
+            } catch (IOException e) {
+                erro = erro == null ? e : erro;
+            }
+        }
+        if (erro != null) {
+            throw new UncheckedIOException(erro);
+        }
+        return respostas;
+    }
+
+    private static List<Funcionario> paraFuncionarios(List<FuncionarioParticao> lista) {
+        List<Funcionario> funcionarios = new ArrayList<>(lista.size());
+        for (FuncionarioParticao funcionario : lista) {
+            funcionarios.add(funcionario.paraFuncionario());
+        }
+        return funcionarios;
+    }
+
+    /**
+     * Distribui os funcionarios em lotes por particao. Cada particao tem no maximo um lote enviado sem
+     * resposta lida: antes de enviar o proximo, a resposta do anterior e lida.
+     */
+    private final class Distribuicao implements Consumer<Funcionario> {
+
+        private final List<List<FuncionarioParticao>> lotes = new ArrayList<>();
+        private final boolean[] aguardando = new boolean[particoes.length];
+        private long quantidade;
+
+        Distribuicao() {
+            for (int i = 0; i < particoes.length; i++) {
+                lotes.add(new ArrayList<>());
+            }
+        }
+
+        @Override
+        public void accept(Funcionario funcionario) {
+            int particao = chave.particao(funcionario, particoes.length);
+            List<FuncionarioParticao> lote = lotes.get(particao);
+            lote.add(FuncionarioParticao.de(funcionario, proximaSequencia++));
+            ordemFuncoes.putIfAbsent(funcionario.getFuncao(), ordemFuncoes.size());
+            quantidade++;
+            if (lote.size() >= TAMANHO_LOTE) {
+                try {
+                    enviar(particao);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        long concluir() throws IOException {
+            for (int i = 0; i < particoes.length; i++) {
+                if (!lotes.get(i).isEmpty()) {
+                    enviar(i);
+                }
+            }
+            for (int i = 0; i < particoes.length; i++) {
+                if (aguardando[i]) {
+                    aguardando[i] = false;
+                    particoes[i].receber();
+                }
+            }
+            return quantidade;
+        }
+
+        /**
+         * Le as respostas dos lotes ja enviados, apos uma falha, para que os proximos comandos recebam as
+         * suas proprias respostas; os funcionarios ainda nao enviados sao descartados.
+         */
+        void descartar(Exception falha) {
+            for (int i = 0; i < particoes.length; i++) {
+                if (aguardando[i]) {
+                    aguardando[i] = false;
+                    try {
+                        particoes[i].receber();
+                    } catch (IOException e) {
+                        falha.addSuppressed(e);
+                    }
+                }
+            }
+        }
+
+        private void enviar(int particao) throws IOException {
+            if (aguardando[particao]) {
+                aguardando[particao] = false;
+                particoes[particao].receber();
+            }
+            particoes[particao].enviar(new Comando(ProtocoloParticao.ADICIONAR, lotes.get(particao), null, null, null));
+            aguardando[particao] = true;
+            lotes.set(particao, new ArrayList<>());
+        }
+    }
+}
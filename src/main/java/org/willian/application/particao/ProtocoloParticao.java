@@ -0,0 +1,103 @@
+package org.willian.application.particao;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Protocolo entre o CoordenadorParticoes e os processos TrabalhadorParticao: cada mensagem e um objeto JSON
+ * em uma linha, enviado pela entrada padrao do trabalhador (comandos) e pela saida padrao (respostas).
+ * Para cada comando o trabalhador envia exatamente uma resposta, na ordem em que os comandos chegaram.
+ *
+ * Os salarios sao enviados como BigDecimal exatos; cada funcionario leva o seu numero de sequencia (a ordem
+ * em que foi carregado), para que o coordenador junte os resultados das particoes na ordem original.
+ */
+final class ProtocoloParticao {
+
+    static final String ADICIONAR = "ADICIONAR";
+    static final String REMOVER = "REMOVER";
+    static final String AUMENTO = "AUMENTO";
+    static final String POR_FUNCAO = "POR_FUNCAO";
+    static final String TOTAIS = "TOTAIS";
+    static final String MAIS_VELHO = "MAIS_VELHO";
+    static final String ORDEM_ALFABETICA = "ORDEM_ALFABETICA";
+    static final String ENCERRAR = "ENCERRAR";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private ProtocoloParticao() {}
+
+    /**
+     * Comando enviado ao trabalhador; os campos usados dependem do tipo.
+     */
+    record Comando(String tipo, List<FuncionarioParticao> funcionarios, String nome, Double fator, Integer k) {
+
+        static Comando de(String tipo) {
+            return new Comando(tipo, null, null, null, null);
+        }
+    }
+
+    /**
+     * Resposta do trabalhador; se ok for false, erro descreve a falha e os demais campos ficam vazios.
+     */
+    record Resposta(boolean ok, String erro, List<FuncionarioParticao> funcionarios,
+                    Map<String, List<FuncionarioParticao>> grupos, Integer removidos, BigDecimal total,
+                    Map<String, BigDecimal> totalPorFuncao, Map<String, Integer> quantidadePorFuncao) {
+
+        static Resposta sucesso() {
+            return new Resposta(true, null, null, null, null, null, null, null);
+        }
+
+        static Resposta falha(String erro) {
+            return new Resposta(false, erro, null, null, null, null, null, null);
+        }
+    }
+
+    /**
+     * Funcionario com o seu numero de sequencia.
+     */
+    record FuncionarioParticao(long sequencia, String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+
+        static FuncionarioParticao de(Funcionario funcionario, long sequencia) {
+            return new FuncionarioParticao(sequencia, funcionario.getNome(), funcionario.getDataNascimento(),
+                    funcionario.getSalario(), funcionario.getFuncao());
+        }
+
+        Funcionario paraFuncionario() {
+            return new Funcionario(nome, dataNascimento, salario, funcao);
+        }
+    }
+
+    static void escrever(OutputStream saida, Object mensagem) throws IOException {
+        saida.write(MAPPER.writeValueAsBytes(mensagem));
+        saida.write('\n');
+        saida.flush();
+    }
+
+    /**
+     * Le a proxima mensagem.
+     *
+     * @return a mensagem, ou null se a entrada terminou.
+     */
+    static <T> T ler(BufferedReader entrada, Class<T> tipo) throws IOException {
+        String linha = entrada.readLine();
+        return linha == null ? null : MAPPER.readValue(linha, tipo);
+    }
+}
@@ -0,0 +1,137 @@
+package org.willian.application.particao;
+
+import org.willian.application.App;
+import org.willian.application.particao.ProtocoloParticao.Comando;
+import org.willian.application.particao.ProtocoloParticao.FuncionarioParticao;
+import org.willian.application.particao.ProtocoloParticao.Resposta;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Processo que guarda uma particao da folha em uma App e atende aos comandos do CoordenadorParticoes,
+ * recebidos pela entrada padrao no formato do ProtocoloParticao. Termina com o comando ENCERRAR ou quando
+ * a entrada padrao e fechada.
+ *
+ * A saida padrao e reservada ao protocolo: System.out e redirecionado para a saida de erro, para que
+ * mensagens de log nao corrompam as respostas.
+ */
+public final class TrabalhadorParticao {
+
+    private final App app = new App();
+    private final List<Funcionario> funcionarios = new ArrayList<>();
+    private final Map<Funcionario, Long> sequencias = new IdentityHashMap<>();
+    private boolean pendente;
+
+    private TrabalhadorParticao() {
+        app.carregarFuncionarios(funcionarios);
+    }
+
+    public static void main(String[] args) throws IOException {
+        OutputStream saida = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16);
+        System.setOut(System.err);
+        BufferedReader entrada = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), 1 << 16);
+
+        TrabalhadorParticao trabalhador = new TrabalhadorParticao();
+        Comando comando;
+        while ((comando = ProtocoloParticao.ler(entrada, Comando.class)) != null) {
+            Resposta resposta;
+            try {
+                resposta = trabalhador.executar(comando);
+            } catch (RuntimeException e) {
+                resposta = Resposta.falha(e.toString());
+            }
+            ProtocoloParticao.escrever(saida, resposta);
+            if (ProtocoloParticao.ENCERRAR.equals(comando.tipo())) {
+                break;
+            }
+        }
+    }
+
+    private Resposta executar(Comando comando) {
+        if (ProtocoloParticao.ADICIONAR.equals(comando.tipo())) {
+            adicionar(comando.funcionarios());
+            return Resposta.sucesso();
+        }
+        if (ProtocoloParticao.ENCERRAR.equals(comando.tipo())) {
+            return Resposta.sucesso();
+        }
+
+        atualizarApp();
+        switch (comando.tipo()) {
+            case ProtocoloParticao.REMOVER -> {
+                int antes = funcionarios.size();
+                app.removerFuncionario(comando.nome());
+                int removidos = antes - funcionarios.size();
+                if (removidos > 0) {
+                    sequencias.keySet().removeIf(funcionario -> funcionario.getNome().equalsIgnoreCase(comando.nome()));
+                }
+                return new Resposta(true, null, null, null, removidos, null, null, null);
+            }
+            case ProtocoloParticao.AUMENTO -> {
+                app.adicionarAumentoDeSalario(comando.fator());
+                return Resposta.sucesso();
+            }
+            case ProtocoloParticao.POR_FUNCAO -> {
+                Map<String, List<FuncionarioParticao>> grupos = new LinkedHashMap<>();
+                app.funcionariosPorFuncao().forEach((funcao, lista) -> grupos.put(funcao, paraParticao(lista)));
+                return new Resposta(true, null, null, grupos, null, null, null, null);
+            }
+            case ProtocoloParticao.TOTAIS -> {
+                return new Resposta(true, null, null, null, null, app.totalSalarioFuncionarios(),
+                        app.totalSalarioPorFuncao(), app.quantidadePorFuncao());
+            }
+            case ProtocoloParticao.MAIS_VELHO -> {
+                Funcionario maisVelho = app.funcionarioComMaiorIdade();
+                List<FuncionarioParticao> resultado = maisVelho == null ? List.of() : paraParticao(List.of(maisVelho));
+                return new Resposta(true, null, resultado, null, null, null, null, null);
+            }
+            case ProtocoloParticao.ORDEM_ALFABETICA -> {
+                List<Funcionario> ordenados = app.funcionarioOrdemAlfabetica();
+                int k = Math.min(comando.k(), ordenados.size());
+                return new Resposta(true, null, paraParticao(ordenados.subList(0, k)), null, null, null, null, null);
+            }
+            default -> throw new IllegalArgumentException("Comando desconhecido: " + comando.tipo());
+        }
+    }
+
+    /**
+     * Acrescenta os funcionarios ao fim da lista; os agregados da App so sao recalculados na proxima consulta,
+     * para que uma carga em varios lotes nao os recalcule a cada lote.
+     */
+    private void adicionar(List<FuncionarioParticao> novos) {
+        for (FuncionarioParticao novo : novos) {
+            Funcionario funcionario = novo.paraFuncionario();
+            funcionarios.add(funcionario);
+            sequencias.put(funcionario, novo.sequencia());
+        }
+        pendente = pendente || !novos.isEmpty();
+    }
+
+    private void atualizarApp() {
+        if (pendente) {
+            app.carregarFuncionarios(funcionarios);
+            pendente = false;
+        }
+    }
+
+    private List<FuncionarioParticao> paraParticao(List<Funcionario> lista) {
+        List<FuncionarioParticao> resultado = new ArrayList<>(lista.size());
+        for (Funcionario funcionario : lista) {
+            resultado.add(FuncionarioParticao.de(funcionario, sequencias.get(funcionario)));
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,53 @@
+package org.willian.application.pipeline;
+
+import org.willian.application.App;
+
+/**
+ * Operacao aplicada pelo PipelineFolhas a App de cada arquivo de folha, na ordem em que foi configurada.
+ *
+ * Operacoes que alteram a folha (remocao, aumento) mudam a App; operacoes de consulta registram
+ * o seu resultado no ResultadoArquivo, que depois e consolidado com o dos outros arquivos.
+ */
+@FunctionalInterface
+public interface OperacaoFolha {
+
+    void aplicar(App app, ResultadoArquivo resultado);
+
+    /**
+     * Remove os funcionarios com o nome informado (ignora maiusculas e minusculas).
+     */
+    static OperacaoFolha remover(String nome) {
+        return (app, resultado) -> app.removerFuncionario(nome);
+    }
+
+    /**
+     * Aplica o aumento de salario com o fator informado (ex.: 1.10 para 10%).
+     */
+    static OperacaoFolha aumento(double fator) {
+        return (app, resultado) -> app.adicionarAumentoDeSalario(fator);
+    }
+
+    /**
+     * Registra a quantidade de funcionarios de cada funcao.
+     */
+    static OperacaoFolha agrupar() {
+        return (app, resultado) -> resultado.setQuantidadePorFuncao(app.quantidadePorFuncao());
+    }
+
+    /**
+     * Registra o total dos salarios e o total por funcao.
+     */
+    static OperacaoFolha totais() {
+        return (app, resultado) -> {
+            resultado.setTotalSalarios(app.totalSalarioFuncionarios());
+            resultado.setTotalPorFuncao(app.totalSalarioPorFuncao());
+        };
+    }
+
+    /**
+     * Registra a quantidade de salarios minimos de cada funcionario.
+     */
+    static OperacaoFolha salariosMinimos() {
+        return (app, resultado) -> resultado.setSalariosMinimos(app.quantidadeSalariosMinimos());
+    }
+}
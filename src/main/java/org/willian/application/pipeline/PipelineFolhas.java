@@ -0,0 +1,139 @@
+package org.willian.application.pipeline;
+
+import org.willian.application.App;
+import org.willian.domain.entities.Funcionario;
+import org.willian.infrastructure.reader.FuncionarioReaders;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Processa varios arquivos de folha (um por filial, no formato do data.json ou outro formato suportado
+ * pelos FuncionarioReader) ao mesmo tempo.
+ *
+ * Cada arquivo e lido em uma virtual thread, carregado em uma App propria e submetido a cadeia de operacoes
+ * configurada. Os resultados sao consolidados em um RelatorioConsolidado, na ordem dos arquivos.
+ *
+ * A concorrencia e limitada em dois pontos:
+ *  - no maximo maxArquivosEmAndamento arquivos estao abertos ou carregados em memoria ao mesmo tempo;
+ *    a thread que submete os arquivos bloqueia ate que um deles termine (backpressure);
+ *  - no maximo maxOperacoesSimultaneas Apps executam a cadeia de operacoes ao mesmo tempo, para que o
+ *    trabalho de CPU nao passe do numero de nucleos enquanto outros arquivos continuam sendo lidos.
+ */
+public class PipelineFolhas {
+
+    private final List<OperacaoFolha> operacoes;
+    private final Semaphore arquivosEmAndamento;
+    private final Semaphore operacoesSimultaneas;
+
+    /**
+     * Cria o pipeline com os limites padrao: 2 arquivos por nucleo em andamento e 1 cadeia de operacoes por nucleo.
+     *
+     * @param operacoes as operacoes aplicadas a cada arquivo, na ordem.
+     */
+    public PipelineFolhas(List<OperacaoFolha> operacoes) {
+        this(operacoes, 2 * Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria o pipeline.
+     *
+     * @param operacoes as operacoes aplicadas a cada arquivo, na ordem.
+     * @param maxArquivosEmAndamento quantos arquivos podem estar abertos ou carregados ao mesmo tempo.
+     * @param maxOperacoesSimultaneas quantas cadeias de operacoes podem executar ao mesmo tempo.
+     */
+    public PipelineFolhas(List<OperacaoFolha> operacoes, int maxArquivosEmAndamento, int maxOperacoesSimultaneas) {
+        if (maxArquivosEmAndamento < 1 || maxOperacoesSimultaneas < 1) {
+            throw new IllegalArgumentException("Os limites de concorrencia devem ser maiores que zero.");
+        }
+        this.operacoes = List.copyOf(operacoes);
+        this.arquivosEmAndamento = new Semaphore(maxArquivosEmAndamento);
+        this.operacoesSimultaneas = new Semaphore(maxOperacoesSimultaneas);
+    }
+
+    /**
+     * Processa todos os arquivos do diretorio com um formato suportado (ver FuncionarioReaders), em ordem alfabetica.
+     *
+     * @param diretorio o diretorio com os arquivos de folha.
+     * @return o relatorio consolidado.
+     * @throws IOException se o diretorio nao puder ser listado.
+     * @throws InterruptedException se a thread for interrompida enquanto aguarda os arquivos.
+     */
+    public RelatorioConsolidado processarDiretorio(Path diretorio) throws IOException, InterruptedException {
+        List<Path> arquivos = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(diretorio,
+                arquivo -> Files.isRegularFile(arquivo) && FuncionarioReaders.paraArquivo(arquivo).isPresent())) {
+            stream.forEach(arquivos::add);
+        }
+        arquivos.sort(null);
+        return processar(arquivos);
+    }
+
+    /**
+     * Processa os arquivos informados. Um erro em um arquivo nao interrompe os demais;
+     * ele e registrado nas falhas do relatorio.
+     *
+     * @param arquivos os arquivos de folha.
+     * @return o relatorio consolidado, com os resultados na ordem dos arquivos.
+     * @throws InterruptedException se a thread for interrompida enquanto aguarda os arquivos.
+     */
+    public RelatorioConsolidado processar(List<Path> arquivos) throws InterruptedException {
+        List<Future<ResultadoArquivo>> futuros = new ArrayList<>(arquivos.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Path arquivo : arquivos) {
+                arquivosEmAndamento.acquire();
+                try {
+                    futuros.add(executor.submit(() -> {
+                        try {
+                            return processarArquivo(arquivo);
+                        } finally {
+                            arquivosEmAndamento.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    arquivosEmAndamento.release();
+                    throw e;
+                }
+            }
+
+            RelatorioConsolidado relatorio = new RelatorioConsolidado();
+            for (int i = 0; i < futuros.size(); i++) {
+                try {
+                    relatorio.adicionar(futuros.get(i).get());
+                } catch (ExecutionException e) {
+                    relatorio.adicionarFalha(arquivos.get(i), e.getCause());
+                }
+            }
+            return relatorio;
+        }
+    }
+
+    private ResultadoArquivo processarArquivo(Path arquivo) throws IOException, InterruptedException {
+        List<Funcionario> funcionarios = FuncionarioReaders.lerArquivo(arquivo);
+
+        operacoesSimultaneas.acquire();
+        try {
+            App app = new App();
+            app.carregarFuncionarios(funcionarios);
+
+            ResultadoArquivo resultado = new ResultadoArquivo(arquivo);
+            for (OperacaoFolha operacao : operacoes) {
+                operacao.aplicar(app, resultado);
+            }
+            resultado.setQuantidadeFuncionarios(funcionarios.size());
+            return resultado;
+        } finally {
+            operacoesSimultaneas.release();
+        }
+    }
+}
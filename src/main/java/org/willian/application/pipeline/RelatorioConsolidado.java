@@ -0,0 +1,82 @@
+package org.willian.application.pipeline;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Consolidacao dos resultados de todos os arquivos processados pelo PipelineFolhas.
+ *
+ * Os totais e agrupamentos somam os valores dos arquivos em que a operacao correspondente foi executada.
+ * Os arquivos que falharam ficam em getFalhas() e nao entram na consolidacao. Os mapas por funcao ficam em
+ * ordem alfabetica, com a funcao null (funcionarios sem funcao) em primeiro lugar.
+ */
+public class RelatorioConsolidado {
+    private final List<ResultadoArquivo> resultados = new ArrayList<>();
+    private final Map<Path, Throwable> falhas = new LinkedHashMap<>();
+    private final Map<String, BigDecimal> totalPorFuncao = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+    private final Map<String, Integer> quantidadePorFuncao = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+    private BigDecimal totalSalarios = BigDecimal.ZERO;
+    private BigDecimal somaSalariosMinimos = BigDecimal.ZERO;
+    private long quantidadeSalariosMinimos;
+    private long quantidadeFuncionarios;
+
+    void adicionar(ResultadoArquivo resultado) {
+        resultados.add(resultado);
+        quantidadeFuncionarios += resultado.getQuantidadeFuncionarios();
+        if (resultado.getTotalSalarios() != null) {
+            totalSalarios = totalSalarios.add(resultado.getTotalSalarios());
+        }
+        if (resultado.getTotalPorFuncao() != null) {
+            resultado.getTotalPorFuncao().forEach((funcao, total) -> totalPorFuncao.merge(funcao, total, BigDecimal::add));
+        }
+        if (resultado.getQuantidadePorFuncao() != null) {
+            resultado.getQuantidadePorFuncao().forEach((funcao, quantidade) -> quantidadePorFuncao.merge(funcao, quantidade, Integer::sum));
+        }
+        if (resultado.getSomaSalariosMinimos() != null) {
+            somaSalariosMinimos = somaSalariosMinimos.add(resultado.getSomaSalariosMinimos());
+            quantidadeSalariosMinimos += resultado.getQuantidadeSalariosMinimos();
+        }
+    }
+
+    void adicionarFalha(Path arquivo, Throwable erro) {
+        falhas.put(arquivo, erro);
+    }
+
+    public List<ResultadoArquivo> getResultados() {
+        return Collections.unmodifiableList(resultados);
+    }
+
+    public Map<Path, Throwable> getFalhas() {
+        return Collections.unmodifiableMap(falhas);
+    }
+
+    public long getQuantidadeFuncionarios() {
+        return quantidadeFuncionarios;
+    }
+
+    public BigDecimal getTotalSalarios() {
+        return totalSalarios;
+    }
+
+    public Map<String, BigDecimal> getTotalPorFuncao() {
+        return Collections.unmodifiableMap(totalPorFuncao);
+    }
+
+    public Map<String, Integer> getQuantidadePorFuncao() {
+        return Collections.unmodifiableMap(quantidadePorFuncao);
+    }
+
+    /**
+     * Retorna a media da quantidade de salarios minimos por funcionario, arredondada HALF_UP para 2 casas.
+     *
+     * @return a media; BigDecimal.ZERO se a operacao nao foi executada em nenhum arquivo.
+     */
+    public BigDecimal getMediaSalariosMinimos() {
+        if (quantidadeSalariosMinimos == 0) {
+            return BigDecimal.ZERO;
+        }
+        return somaSalariosMinimos.divide(BigDecimal.valueOf(quantidadeSalariosMinimos), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,95 @@
+package org.willian.application.pipeline;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado do processamento de um arquivo de folha pelo PipelineFolhas.
+ *
+ * Os campos de consulta ficam nulos quando a operacao correspondente nao foi configurada no pipeline.
+ * Os mapas por funcao aceitam a funcao null como chave. Das quantidades de salarios minimos so a soma e a
+ * quantidade sao guardadas, para que o relatorio nao mantenha um valor por funcionario de cada arquivo.
+ */
+public class ResultadoArquivo {
+    private final Path arquivo;
+    private int quantidadeFuncionarios;
+    private BigDecimal totalSalarios;
+    private Map<String, BigDecimal> totalPorFuncao;
+    private Map<String, Integer> quantidadePorFuncao;
+    private BigDecimal somaSalariosMinimos;
+    private int quantidadeSalariosMinimos;
+
+    public ResultadoArquivo(Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    public Path getArquivo() {
+        return arquivo;
+    }
+
+    /**
+     * Retorna a quantidade de funcionarios do arquivo depois de aplicadas as operacoes (por exemplo, remocoes).
+     */
+    public int getQuantidadeFuncionarios() {
+        return quantidadeFuncionarios;
+    }
+
+    void setQuantidadeFuncionarios(int quantidadeFuncionarios) {
+        this.quantidadeFuncionarios = quantidadeFuncionarios;
+    }
+
+    public BigDecimal getTotalSalarios() {
+        return totalSalarios;
+    }
+
+    public void setTotalSalarios(BigDecimal totalSalarios) {
+        this.totalSalarios = totalSalarios;
+    }
+
+    public Map<String, BigDecimal> getTotalPorFuncao() {
+        return totalPorFuncao;
+    }
+
+    public void setTotalPorFuncao(Map<String, BigDecimal> totalPorFuncao) {
+        this.totalPorFuncao = Collections.unmodifiableMap(new HashMap<>(totalPorFuncao));
+    }
+
+    public Map<String, Integer> getQuantidadePorFuncao() {
+        return quantidadePorFuncao;
+    }
+
+    public void setQuantidadePorFuncao(Map<String, Integer> quantidadePorFuncao) {
+        this.quantidadePorFuncao = Collections.unmodifiableMap(new HashMap<>(quantidadePorFuncao));
+    }
+
+    /**
+     * Retorna a soma das quantidades de salarios minimos dos funcionarios do arquivo.
+     *
+     * @return a soma; null se a operacao nao foi executada.
+     */
+    public BigDecimal getSomaSalariosMinimos() {
+        return somaSalariosMinimos;
+    }
+
+    public int getQuantidadeSalariosMinimos() {
+        return quantidadeSalariosMinimos;
+    }
+
+    /**
+     * Registra a soma e a quantidade das quantidades de salarios minimos de cada funcionario; a lista nao e guardada.
+     *
+     * @param salariosMinimos a quantidade de salarios minimos de cada funcionario.
+     */
+    public void setSalariosMinimos(List<BigDecimal> salariosMinimos) {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (BigDecimal quantidade : salariosMinimos) {
+            soma = soma.add(quantidade);
+        }
+        this.somaSalariosMinimos = soma;
+        this.quantidadeSalariosMinimos = salariosMinimos.size();
+    }
+}
@@ -0,0 +1,53 @@
+package org.willian.domain.entities;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Um evento de um arquivo de alteracoes da folha (inclusao, desligamento, novo salario ou reajuste de uma funcao).
+ */
+public sealed interface Alteracao {
+
+    /**
+     * Inclui um novo funcionario; o nome, a data de nascimento e o salario dele sao obrigatorios.
+     */
+    record Inserir(Funcionario funcionario) implements Alteracao {
+        public Inserir {
+            Objects.requireNonNull(funcionario, "funcionario");
+            Objects.requireNonNull(funcionario.getNome(), "funcionario.nome");
+            Objects.requireNonNull(funcionario.getDataNascimento(), "funcionario.dataNascimento");
+            Objects.requireNonNull(funcionario.getSalario(), "funcionario.salario");
+        }
+    }
+
+    /**
+     * Remove os funcionarios com o nome informado (ignora maiusculas e minusculas).
+     */
+    record Remover(String nome) implements Alteracao {
+        public Remover {
+            Objects.requireNonNull(nome, "nome");
+        }
+    }
+
+    /**
+     * Define o salario dos funcionarios com o nome informado (ignora maiusculas e minusculas).
+     */
+    record AlterarSalario(String nome, BigDecimal salario) implements Alteracao {
+        public AlterarSalario {
+            Objects.requireNonNull(nome, "nome");
+            Objects.requireNonNull(salario, "salario");
+        }
+    }
+
+    /**
+     * Multiplica o salario de todos os funcionarios da funcao pelo fator (ex.: 1.10 para 10%),
+     * arredondando para 2 casas decimais. O fator e aplicado como em App.adicionarAumentoDeSalario, pelo valor
+     * exato do double mais proximo, para que o mesmo reajuste de o mesmo salario pelos dois caminhos.
+     */
+    record AumentoFuncao(String funcao, BigDecimal fator) implements Alteracao {
+        public AumentoFuncao {
+            Objects.requireNonNull(funcao, "funcao");
+            Objects.requireNonNull(fator, "fator");
+        }
+    }
+}
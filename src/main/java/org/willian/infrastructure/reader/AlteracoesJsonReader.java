@@ -0,0 +1,101 @@
+package org.willian.infrastructure.reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.willian.domain.entities.Alteracao;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+/**
+ * Classe responsavel por ler arquivos de alteracoes da folha no formato NDJSON (um objeto JSON por linha).
+ *
+ * Cada objeto tem um campo "tipo" e os campos do evento:
+ *  - {"tipo": "INSERIR", "funcionario": {"nome": ..., "dataNascimento": ..., "salario": ..., "funcao": ...}}
+ *  - {"tipo": "REMOVER", "nome": "João"}
+ *  - {"tipo": "SALARIO", "nome": "Maria", "salario": 3000.00}
+ *  - {"tipo": "AUMENTO_FUNCAO", "funcao": "Operador", "fator": 1.10}
+ *
+ * A leitura e feita em modo streaming: cada evento e entregue ao consumidor antes do proximo ser lido.
+ * Os valores de salario e fator sao lidos como BigDecimal exatos, sem passar por double (o fator so e
+ * convertido ao ser aplicado, ver Alteracao.AumentoFuncao).
+ */
+public final class AlteracoesJsonReader {
+
+    private static final ObjectReader EVENTO_READER = FuncionarioJsonReader.reader().forType(EventoJson.class);
+
+    private AlteracoesJsonReader() {}
+
+    /**
+     * Le todos os eventos do arquivo de alteracoes e os entrega, um a um, ao consumidor.
+     *
+     * @param ndjsonInputStream o InputStream com um evento JSON por linha.
+     * @param consumidor recebe cada alteracao assim que ela e lida.
+     * @return a quantidade de alteracoes lidas.
+     * @throws IOException se um evento for invalido ou tiver um tipo desconhecido.
+     */
+    public static long lerAlteracoes(InputStream ndjsonInputStream, Consumer<? super Alteracao> consumidor) throws IOException {
+        long quantidade = 0;
+        try (JsonParser parser = EVENTO_READER.createParser(ndjsonInputStream)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Esperado um objeto de alteracao, encontrado: " + token
+                            + " na linha " + parser.currentLocation().getLineNr());
+                }
+                int linha = parser.currentLocation().getLineNr();
+                EventoJson evento = EVENTO_READER.readValue(parser);
+                consumidor.accept(converter(evento, linha));
+                quantidade++;
+            }
+        }
+        return quantidade;
+    }
+
+    private static Alteracao converter(EventoJson evento, int linha) throws IOException {
+        String tipo = obrigatorio(evento.tipo, "tipo", linha);
+        return switch (tipo) {
+            case "INSERIR" -> new Alteracao.Inserir(funcionario(evento.funcionario, linha));
+            case "REMOVER" -> new Alteracao.Remover(obrigatorio(evento.nome, "nome", linha));
+            case "SALARIO" -> new Alteracao.AlterarSalario(obrigatorio(evento.nome, "nome", linha),
+                    obrigatorio(evento.salario, "salario", linha));
+            case "AUMENTO_FUNCAO" -> new Alteracao.AumentoFuncao(obrigatorio(evento.funcao, "funcao", linha),
+                    obrigatorio(evento.fator, "fator", linha));
+            default -> throw new IOException("Tipo de alteracao desconhecido na linha " + linha + ": " + tipo);
+        };
+    }
+
+    /**
+     * Valida os campos do funcionario de um INSERIR antes de o evento chegar ao aplicador.
+     */
+    private static Funcionario funcionario(Funcionario funcionario, int linha) throws IOException {
+        obrigatorio(funcionario, "funcionario", linha);
+        obrigatorio(funcionario.getNome(), "funcionario.nome", linha);
+        obrigatorio(funcionario.getDataNascimento(), "funcionario.dataNascimento", linha);
+        obrigatorio(funcionario.getSalario(), "funcionario.salario", linha);
+        return funcionario;
+    }
+
+    private static <T> T obrigatorio(T valor, String campo, int linha) throws IOException {
+        if (valor == null) {
+            throw new IOException("Campo obrigatorio ausente na linha " + linha + ": " + campo);
+        }
+        return valor;
+    }
+
+    /**
+     * Formato de um evento no arquivo; os campos usados dependem do tipo.
+     */
+    static final class EventoJson {
+        public String tipo;
+        public Funcionario funcionario;
+        public String nome;
+        public BigDecimal salario;
+        public String funcao;
+        public BigDecimal fator;
+    }
+}
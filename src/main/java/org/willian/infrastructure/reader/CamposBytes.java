@@ -0,0 +1,240 @@
+package org.willian.infrastructure.reader;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Conversao de campos em UTF-8 (intervalos [inicio, fim) de um ByteBuffer) para os tipos do Funcionario,
+ * usada pelos leitores de CSV e NDJSON.
+ *
+ * As datas no formato yyyy-MM-dd e os decimais com ate 18 digitos sao convertidos direto dos bytes, sem
+ * criar Strings intermediarias; os demais casos usam LocalDate.parse e new BigDecimal(String).
+ * Textos repetidos (como a funcao) sao guardados em um cache pequeno por instancia.
+ *
+ * Instancias nao sao thread-safe: cada leitura (ou trecho lido em paralelo) usa a sua.
+ */
+final class CamposBytes {
+
+    private static final int MAX_TEXTOS_REPETIDOS = 64;
+    private static final int MAX_BYTES_TEXTO_REPETIDO = 64;
+    private static final int MAX_DIGITOS_LONG = 18;
+
+    private byte[] auxiliar = new byte[128];
+    private final byte[][] bytesRepetidos = new byte[MAX_TEXTOS_REPETIDOS][];
+    private final String[] textosRepetidos = new String[MAX_TEXTOS_REPETIDOS];
+    private int quantidadeRepetidos;
+
+    /**
+     * Decodifica o texto UTF-8 do intervalo.
+     */
+    String texto(ByteBuffer dados, int inicio, int fim) {
+        if (dados.hasArray()) {
+            return new String(dados.array(), dados.arrayOffset() + inicio, fim - inicio, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = auxiliar(fim - inicio);
+        dados.get(inicio, bytes, 0, fim - inicio);
+        return new String(bytes, 0, fim - inicio, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodifica um texto que costuma se repetir entre as linhas, reaproveitando a String ja criada.
+     */
+    String textoRepetido(ByteBuffer dados, int inicio, int fim) {
+        int tamanho = fim - inicio;
+        if (tamanho > MAX_BYTES_TEXTO_REPETIDO) {
+            return texto(dados, inicio, fim);
+        }
+        for (int i = 0; i < quantidadeRepetidos; i++) {
+            byte[] bytes = bytesRepetidos[i];
+            if (bytes.length == tamanho && iguais(dados, inicio, bytes)) {
+                return textosRepetidos[i];
+            }
+        }
+        String texto = texto(dados, inicio, fim);
+        if (quantidadeRepetidos < MAX_TEXTOS_REPETIDOS) {
+            byte[] bytes = new byte[tamanho];
+            dados.get(inicio, bytes);
+            bytesRepetidos[quantidadeRepetidos] = bytes;
+            textosRepetidos[quantidadeRepetidos++] = texto;
+        }
+        return texto;
+    }
+
+    /**
+     * Decodifica o conteudo de um campo CSV entre aspas, trocando as aspas duplicadas ("") por uma so.
+     */
+    String textoCsvEscapado(ByteBuffer dados, int inicio, int fim) {
+        byte[] bytes = auxiliar(fim - inicio);
+        int tamanho = 0;
+        for (int i = inicio; i < fim; i++) {
+            byte b = dados.get(i);
+            bytes[tamanho++] = b;
+            if (b == '"') {
+                i++;
+            }
+        }
+        return new String(bytes, 0, tamanho, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodifica o conteudo de uma string JSON (sem as aspas) que contem sequencias de escape.
+     */
+    String textoJsonEscapado(ByteBuffer dados, int inicio, int fim) throws IOException {
+        StringBuilder texto = new StringBuilder(fim - inicio);
+        int trecho = inicio;
+        int i = inicio;
+        while (i < fim) {
+            if (dados.get(i) != '\\') {
+                i++;
+                continue;
+            }
+            if (i > trecho) {
+                texto.append(texto(dados, trecho, i));
+            }
+            if (i + 1 >= fim) {
+                throw new IOException("Escape incompleto no texto JSON");
+            }
+            byte escape = dados.get(i + 1);
+            i += 2;
+            switch (escape) {
+                case '"' -> texto.append('"');
+                case '\\' -> texto.append('\\');
+                case '/' -> texto.append('/');
+                case 'b' -> texto.append('\b');
+                case 'f' -> texto.append('\f');
+                case 'n' -> texto.append('\n');
+                case 'r' -> texto.append('\r');
+                case 't' -> texto.append('\t');
+                case 'u' -> {
+                    if (i + 4 > fim) {
+                        throw new IOException("Escape \\u incompleto no texto JSON");
+                    }
+                    int codigo = 0;
+                    for (int j = 0; j < 4; j++) {
+                        int digito = Character.digit(dados.get(i + j), 16);
+                        if (digito < 0) {
+                            throw new IOException("Escape \\u invalido no texto JSON");
+                        }
+                        codigo = codigo * 16 + digito;
+                    }
+                    texto.append((char) codigo);
+                    i += 4;
+                }
+                default -> throw new IOException("Escape invalido no texto JSON: \\" + (char) escape);
+            }
+            trecho = i;
+        }
+        if (fim > trecho) {
+            texto.append(texto(dados, trecho, fim));
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Converte uma data ISO (yyyy-MM-dd), ignorando espacos nas pontas.
+     */
+    LocalDate data(ByteBuffer dados, int inicio, int fim) throws IOException {
+        while (inicio < fim && dados.get(inicio) == ' ') {
+            inicio++;
+        }
+        while (fim > inicio && dados.get(fim - 1) == ' ') {
+            fim--;
+        }
+        if (fim - inicio == 10 && dados.get(inicio + 4) == '-' && dados.get(inicio + 7) == '-') {
+            int ano = digitos(dados, inicio, inicio + 4);
+            int mes = digitos(dados, inicio + 5, inicio + 7);
+            int dia = digitos(dados, inicio + 8, inicio + 10);
+            if (ano >= 0 && mes >= 0 && dia >= 0) {
+                try {
+                    return LocalDate.of(ano, mes, dia);
+                } catch (DateTimeException e) {
+                    throw new IOException("Data invalida: " + texto(dados, inicio, fim), e);
+                }
+            }
+        }
+        String texto = texto(dados, inicio, fim);
+        try {
+            return LocalDate.parse(texto);
+        } catch (DateTimeException e) {
+            throw new IOException("Data invalida: " + texto, e);
+        }
+    }
+
+    /**
+     * Converte um numero decimal (como 2000.00 ou -12.5), ignorando espacos nas pontas, mantendo a escala escrita.
+     */
+    BigDecimal decimal(ByteBuffer dados, int inicio, int fim) throws IOException {
+        while (inicio < fim && dados.get(inicio) == ' ') {
+            inicio++;
+        }
+        while (fim > inicio && dados.get(fim - 1) == ' ') {
+            fim--;
+        }
+        int i = inicio;
+        boolean negativo = false;
+        if (i < fim && (dados.get(i) == '-' || dados.get(i) == '+')) {
+            negativo = dados.get(i) == '-';
+            i++;
+        }
+        long valor = 0;
+        int quantidadeDigitos = 0;
+        int escala = 0;
+        boolean ponto = false;
+        for (; i < fim; i++) {
+            byte b = dados.get(i);
+            if (b >= '0' && b <= '9') {
+                valor = valor * 10 + (b - '0');
+                quantidadeDigitos++;
+                if (ponto) {
+                    escala++;
+                }
+            } else if (b == '.' && !ponto) {
+                ponto = true;
+            } else {
+                break;
+            }
+        }
+        if (i == fim && quantidadeDigitos > 0 && quantidadeDigitos <= MAX_DIGITOS_LONG) {
+            return BigDecimal.valueOf(negativo ? -valor : valor, escala);
+        }
+        String texto = texto(dados, inicio, fim);
+        try {
+            return new BigDecimal(texto);
+        } catch (NumberFormatException e) {
+            throw new IOException("Numero invalido: " + texto, e);
+        }
+    }
+
+    private static int digitos(ByteBuffer dados, int inicio, int fim) {
+        int valor = 0;
+        for (int i = inicio; i < fim; i++) {
+            int digito = dados.get(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            valor = valor * 10 + digito;
+        }
+        return valor;
+    }
+
+    private static boolean iguais(ByteBuffer dados, int inicio, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (dados.get(inicio + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] auxiliar(int tamanho) {
+        if (auxiliar.length < tamanho) {
+            auxiliar = Arrays.copyOf(auxiliar, Math.max(tamanho, auxiliar.length * 2));
+        }
+        return auxiliar;
+    }
+}
@@ -0,0 +1,201 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Leitor de funcionarios em CSV (RFC 4180, separado por virgulas), por exemplo:
+ *
+ * <pre>
+ * nome,dataNascimento,salario,funcao
+ * Maria,2000-10-18,2009.44,Operador
+ * "Silva, João",1990-05-12,2284.38,Operador
+ * </pre>
+ *
+ * A primeira linha e o cabecalho: as colunas nome, dataNascimento, salario e funcao sao obrigatorias e podem
+ * estar em qualquer ordem (sem diferenciar maiusculas); colunas desconhecidas sao ignoradas. Campos podem
+ * estar entre aspas, com aspas internas duplicadas (""), mas nao podem conter quebras de linha; o cabecalho
+ * segue as mesmas regras. Um campo vazio sem aspas e lido como null; nome, dataNascimento e salario nao podem
+ * ser vazios, com ou sem aspas. A data e ISO (yyyy-MM-dd) e o salario usa ponto como separador decimal.
+ */
+public final class FuncionarioCsvReader extends FuncionarioLinhasReader {
+
+    private static final int NOME = 0;
+    private static final int DATA_NASCIMENTO = 1;
+    private static final int SALARIO = 2;
+    private static final int FUNCAO = 3;
+    private static final int IGNORADA = -1;
+    private static final List<String> COLUNAS = List.of("nome", "datanascimento", "salario", "funcao");
+    private static final List<String> NOMES_COLUNAS = List.of("nome", "dataNascimento", "salario", "funcao");
+
+    @Override
+    public String formato() {
+        return "csv";
+    }
+
+    @Override
+    public List<String> extensoes() {
+        return List.of(".csv");
+    }
+
+    @Override
+    protected boolean temCabecalho() {
+        return true;
+    }
+
+    @Override
+    protected ParserLinha criarParser(String cabecalho) throws IOException {
+        ByteBuffer dados = ByteBuffer.wrap(cabecalho.getBytes(StandardCharsets.UTF_8));
+        int fim = dados.limit();
+        CamposBytes campos = new CamposBytes();
+        CampoCsv campoCabecalho = new CampoCsv();
+        int[] colunas = new int[COLUNAS.size()];
+        boolean[] encontradas = new boolean[COLUNAS.size()];
+        int quantidade = 0;
+        for (int posicao = 0; posicao <= fim; quantidade++) {
+            posicao = campoCabecalho.ler(dados, posicao, fim, quantidade);
+            String nome = campoCabecalho.texto(campos, dados).strip();
+            if (quantidade == colunas.length) {
+                colunas = Arrays.copyOf(colunas, colunas.length * 2);
+            }
+            colunas[quantidade] = COLUNAS.indexOf(nome.toLowerCase(Locale.ROOT));
+            if (colunas[quantidade] != IGNORADA) {
+                if (encontradas[colunas[quantidade]]) {
+                    throw new IOException("Coluna repetida no cabecalho CSV: " + nome);
+                }
+                encontradas[colunas[quantidade]] = true;
+            }
+        }
+        for (int campo = 0; campo < encontradas.length; campo++) {
+            if (!encontradas[campo]) {
+                throw new IOException("Coluna obrigatoria ausente no cabecalho CSV: " + COLUNAS.get(campo));
+            }
+        }
+        return new Parser(Arrays.copyOf(colunas, quantidade));
+    }
+
+    /**
+     * Leitura de um campo de uma linha CSV, usada tanto no cabecalho quanto nas linhas de dados. Depois de ler,
+     * inicio e fim delimitam o conteudo do campo (sem as aspas externas).
+     */
+    private static final class CampoCsv {
+        int inicio;
+        int fim;
+        boolean aspas;
+        boolean escapado;
+
+        /**
+         * Le o campo que comeca em posicao.
+         *
+         * @return a posicao do proximo campo; maior que fimLinha se este era o ultimo campo da linha.
+         */
+        int ler(ByteBuffer dados, int posicao, int fimLinha, int coluna) throws IOException {
+            inicio = posicao;
+            aspas = posicao < fimLinha && dados.get(posicao) == '"';
+            escapado = false;
+            if (aspas) {
+                inicio = ++posicao;
+                while (true) {
+                    if (posicao >= fimLinha) {
+                        throw new IOException("Aspas nao fechadas na coluna " + (coluna + 1));
+                    }
+                    if (dados.get(posicao) == '"') {
+                        if (posicao + 1 < fimLinha && dados.get(posicao + 1) == '"') {
+                            escapado = true;
+                            posicao += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    posicao++;
+                }
+                fim = posicao++;
+                if (posicao < fimLinha && dados.get(posicao) != ',') {
+                    throw new IOException("Esperada virgula depois das aspas na coluna " + (coluna + 1));
+                }
+            } else {
+                while (posicao < fimLinha && dados.get(posicao) != ',') {
+                    posicao++;
+                }
+                fim = posicao;
+            }
+            return posicao + 1;
+        }
+
+        boolean vazio() {
+            return fim == inicio;
+        }
+
+        String texto(CamposBytes campos, ByteBuffer dados) {
+            return escapado ? campos.textoCsvEscapado(dados, inicio, fim) : campos.texto(dados, inicio, fim);
+        }
+    }
+
+    private static final class Parser implements ParserLinha {
+
+        private final int[] colunas;
+        private final int[] posicaoDoCampo = new int[COLUNAS.size()];
+        private final CamposBytes campos = new CamposBytes();
+        private final CampoCsv campo = new CampoCsv();
+
+        Parser(int[] colunas) {
+            this.colunas = colunas;
+            for (int coluna = 0; coluna < colunas.length; coluna++) {
+                if (colunas[coluna] != IGNORADA) {
+                    posicaoDoCampo[colunas[coluna]] = coluna;
+                }
+            }
+        }
+
+        @Override
+        public Funcionario ler(ByteBuffer dados, int inicio, int fim) throws IOException {
+            String nome = null;
+            LocalDate dataNascimento = null;
+            BigDecimal salario = null;
+            String funcao = null;
+
+            int posicao = inicio;
+            for (int coluna = 0; coluna < colunas.length; coluna++) {
+                if (posicao > fim) {
+                    throw new IOException("Esperadas " + colunas.length + " colunas, encontradas " + coluna);
+                }
+                posicao = campo.ler(dados, posicao, fim, coluna);
+
+                // Um campo vazio e null; entre aspas ("") so a funcao, que e opcional, e lida como texto vazio.
+                if (colunas[coluna] == IGNORADA || (campo.vazio() && (!campo.aspas || colunas[coluna] != FUNCAO))) {
+                    continue;
+                }
+                switch (colunas[coluna]) {
+                    case NOME -> nome = campo.texto(campos, dados);
+                    case DATA_NASCIMENTO -> dataNascimento = campos.data(dados, campo.inicio, campo.fim);
+                    case SALARIO -> salario = campos.decimal(dados, campo.inicio, campo.fim);
+                    case FUNCAO -> funcao = campo.escapado
+                            ? campos.textoCsvEscapado(dados, campo.inicio, campo.fim)
+                            : campos.textoRepetido(dados, campo.inicio, campo.fim);
+                }
+            }
+            if (posicao <= fim) {
+                throw new IOException("Esperadas " + colunas.length + " colunas, encontradas mais");
+            }
+            obrigatorio(nome, NOME);
+            obrigatorio(dataNascimento, DATA_NASCIMENTO);
+            obrigatorio(salario, SALARIO);
+            return new Funcionario(nome, dataNascimento, salario, funcao);
+        }
+
+        private void obrigatorio(Object valor, int campo) throws IOException {
+            if (valor == null) {
+                throw new IOException("Campo obrigatorio vazio na coluna " + (posicaoDoCampo[campo] + 1)
+                        + " (" + NOMES_COLUNAS.get(campo) + ")");
+            }
+        }
+    }
+}
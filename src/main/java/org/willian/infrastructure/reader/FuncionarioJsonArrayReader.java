@@ -0,0 +1,34 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * FuncionarioReader do formato do data.json (um array JSON de funcionarios), usando o FuncionarioJsonReader.
+ */
+public final class FuncionarioJsonArrayReader implements FuncionarioReader {
+
+    @Override
+    public String formato() {
+        return "json";
+    }
+
+    @Override
+    public List<String> extensoes() {
+        return List.of(".json");
+    }
+
+    @Override
+    public long lerFuncionarios(InputStream entrada, Consumer<? super Funcionario> consumidor) throws IOException {
+        return FuncionarioJsonReader.lerFuncionarios(entrada, consumidor);
+    }
+
+    @Override
+    public List<Funcionario> lerLista(InputStream entrada) throws IOException {
+        return FuncionarioJsonReader.lerLista(entrada);
+    }
+}
@@ -0,0 +1,193 @@
+package org.willian.infrastructure.reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Classe responsavel por ler funcionarios a partir de um JSON no formato do data.json
+ * (um array de objetos com nome, dataNascimento, salario e funcao).
+ *
+ * A leitura e feita em modo streaming com o JsonParser do Jackson: cada elemento do array
+ * e convertido em um Funcionario e entregue ao consumidor antes do proximo ser lido,
+ * de modo que o uso de memoria nao depende do tamanho da entrada.
+ *
+ * O ObjectReader e compartilhado e pre-configurado; ele e imutavel e pode ser usado
+ * por varias threads ao mesmo tempo.
+ *
+ * Dentro de uma mesma leitura, funcionarios com a mesma funcao compartilham a mesma String.
+ * Opcionalmente, os nomes repetidos dentro de uma mesma leitura tambem podem ser trocados por uma unica instancia.
+ */
+public final class FuncionarioJsonReader {
+
+    /**
+     * O JavaTimeModule e registrado explicitamente: findAndRegisterModules() procuraria os modulos com
+     * ServiceLoader em todo o classpath a cada inicializacao, o que pesa no tempo de partida do Main.
+     */
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+
+    private static final ObjectReader FUNCIONARIO_READER = OBJECT_MAPPER.readerFor(Funcionario.class);
+
+    private FuncionarioJsonReader() {}
+
+    /**
+     * Retorna o ObjectReader compartilhado, configurado para ler um Funcionario.
+     *
+     * @return o ObjectReader de Funcionario.
+     */
+    public static ObjectReader reader() {
+        return FUNCIONARIO_READER;
+    }
+
+    /**
+     * Le todos os funcionarios do array JSON e os entrega, um a um, ao consumidor.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @param consumidor recebe cada funcionario assim que ele e lido.
+     * @return a quantidade de funcionarios lidos.
+     * @throws IOException se o JSON for invalido ou nao for um array.
+     */
+    public static long lerFuncionarios(InputStream jsonInputStream, Consumer<? super Funcionario> consumidor) throws IOException {
+        return lerFuncionarios(jsonInputStream, consumidor, false);
+    }
+
+    /**
+     * Le todos os funcionarios do array JSON e os entrega, um a um, ao consumidor.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @param consumidor recebe cada funcionario assim que ele e lido.
+     * @param internarNomes se true, funcionarios com o mesmo nome nesta leitura compartilham a mesma String.
+     * @return a quantidade de funcionarios lidos.
+     * @throws IOException se o JSON for invalido ou nao for um array.
+     */
+    public static long lerFuncionarios(InputStream jsonInputStream, Consumer<? super Funcionario> consumidor,
+                                       boolean internarNomes) throws IOException {
+        Map<String, String> nomes = internarNomes ? new HashMap<>() : null;
+        Map<String, String> funcoes = new HashMap<>();
+        long quantidade = 0;
+        try (JsonParser parser = abrirArray(jsonInputStream)) {
+            Funcionario funcionario;
+            while ((funcionario = proximo(parser, funcoes)) != null) {
+                if (nomes != null && funcionario.getNome() != null) {
+                    String nome = nomes.putIfAbsent(funcionario.getNome(), funcionario.getNome());
+                    if (nome != null) {
+                        funcionario.setNome(nome);
+                    }
+                }
+                consumidor.accept(funcionario);
+                quantidade++;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Le todo o array JSON em uma lista.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @return a lista de funcionarios lidos, na ordem do arquivo.
+     * @throws IOException se o JSON for invalido ou nao for um array.
+     */
+    public static List<Funcionario> lerLista(InputStream jsonInputStream) throws IOException {
+        return lerLista(jsonInputStream, false);
+    }
+
+    /**
+     * Le todo o array JSON em uma lista.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @param internarNomes se true, funcionarios com o mesmo nome compartilham a mesma String.
+     * @return a lista de funcionarios lidos, na ordem do arquivo.
+     * @throws IOException se o JSON for invalido ou nao for um array.
+     */
+    public static List<Funcionario> lerLista(InputStream jsonInputStream, boolean internarNomes) throws IOException {
+        List<Funcionario> funcionarios = new ArrayList<>();
+        lerFuncionarios(jsonInputStream, funcionarios::add, internarNomes);
+        return funcionarios;
+    }
+
+    /**
+     * Retorna um Stream sequencial e preguicoso dos funcionarios do array JSON.
+     *
+     * O Stream deve ser fechado (por exemplo com try-with-resources) para liberar o parser.
+     * Erros de leitura sao lancados como UncheckedIOException durante o consumo.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @return o Stream de funcionarios.
+     * @throws IOException se o inicio do JSON for invalido ou nao for um array.
+     */
+    public static Stream<Funcionario> streamFuncionarios(InputStream jsonInputStream) throws IOException {
+        JsonParser parser = abrirArray(jsonInputStream);
+        Map<String, String> funcoes = new HashMap<>();
+
+        Spliterator<Funcionario> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Funcionario> action) {
+                try {
+                    Funcionario funcionario = proximo(parser, funcoes);
+                    if (funcionario == null) {
+                        return false;
+                    }
+                    action.accept(funcionario);
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static JsonParser abrirArray(InputStream jsonInputStream) throws IOException {
+        JsonParser parser = OBJECT_MAPPER.getFactory().createParser(jsonInputStream);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            JsonToken token = parser.currentToken();
+            parser.close();
+            throw new IOException("Esperado um array JSON de funcionarios, encontrado: " + token);
+        }
+        return parser;
+    }
+
+    /**
+     * Le o proximo funcionario, trocando a funcao pela instancia ja vista nesta leitura.
+     */
+    private static Funcionario proximo(JsonParser parser, Map<String, String> funcoes) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Esperado um objeto de funcionario, encontrado: " + token);
+        }
+        Funcionario funcionario = FUNCIONARIO_READER.readValue(parser);
+        if (funcionario.getFuncao() != null) {
+            funcionario.setFuncao(funcoes.computeIfAbsent(funcionario.getFuncao(), funcao -> funcao));
+        }
+        return funcionario;
+    }
+}
@@ -0,0 +1,402 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Base dos leitores de formatos com um funcionario por linha (CSV, NDJSON), que convertem os bytes de cada
+ * linha direto nos campos do Funcionario, sem reflexao.
+ *
+ * Como cada registro termina em uma quebra de linha, um arquivo grande pode ser dividido em trechos que
+ * comecam no inicio de uma linha e lidos em paralelo (lerArquivo(Path, int)); o resultado tem a mesma
+ * ordem do arquivo. Linhas vazias sao ignoradas, as quebras de linha podem ser \n ou \r\n e um BOM UTF-8
+ * no inicio do arquivo e descartado.
+ */
+public abstract class FuncionarioLinhasReader implements FuncionarioReader {
+
+    /** Tamanho minimo de cada trecho quando lerArquivo(Path) decide sozinho quantos trechos usar. */
+    public static final int TAMANHO_MINIMO_TRECHO = 4 * 1024 * 1024;
+
+    private static final long TAMANHO_MAXIMO_TRECHO = 1L << 30;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int TAMANHO_BUSCA_LINHA = 8 * 1024;
+
+    /**
+     * Converte uma linha de dados em Funcionario. Cada leitura (ou trecho) usa o seu parser, entao ele pode
+     * guardar estado entre as linhas.
+     */
+    protected interface ParserLinha {
+
+        /**
+         * Converte a linha dados[inicio, fim), sem a quebra de linha.
+         *
+         * @throws IOException se a linha for invalida.
+         */
+        Funcionario ler(ByteBuffer dados, int inicio, int fim) throws IOException;
+    }
+
+    /**
+     * Indica se a primeira linha nao vazia e um cabecalho, e nao um funcionario.
+     */
+    protected abstract boolean temCabecalho();
+
+    /**
+     * Cria o parser das linhas de dados.
+     *
+     * @param cabecalho o texto do cabecalho, ou null se o formato nao tiver cabecalho.
+     * @return um novo parser.
+     * @throws IOException se o cabecalho for invalido.
+     */
+    protected abstract ParserLinha criarParser(String cabecalho) throws IOException;
+
+    @Override
+    public long lerFuncionarios(InputStream entrada, Consumer<? super Funcionario> consumidor) throws IOException {
+        byte[] buffer = new byte[TAMANHO_BUFFER];
+        ByteBuffer dados = ByteBuffer.wrap(buffer);
+        int tamanho = 0;
+        boolean inicioArquivo = true;
+        ParserLinha parser = temCabecalho() ? null : criarParser(null);
+        long linha = 0;
+        long quantidade = 0;
+
+        while (true) {
+            int lidos = entrada.read(buffer, tamanho, buffer.length - tamanho);
+            boolean fimArquivo = lidos < 0;
+            if (!fimArquivo) {
+                tamanho += lidos;
+                if (inicioArquivo && tamanho < 3) {
+                    continue;
+                }
+            }
+            int inicioLinha = 0;
+            if (inicioArquivo) {
+                inicioLinha = pularBom(dados, 0, tamanho);
+                inicioArquivo = false;
+            }
+
+            int quebra;
+            while ((quebra = proximaQuebra(dados, inicioLinha, tamanho)) >= 0 || (fimArquivo && inicioLinha < tamanho)) {
+                int fimLinha = quebra >= 0 ? quebra : tamanho;
+                linha++;
+                int fimConteudo = fimConteudo(dados, inicioLinha, fimLinha);
+                if (fimConteudo > inicioLinha) {
+                    try {
+                        if (parser == null) {
+                            parser = criarParser(texto(dados, inicioLinha, fimConteudo));
+                        } else {
+                            consumidor.accept(parser.ler(dados, inicioLinha, fimConteudo));
+                            quantidade++;
+                        }
+                    } catch (IOException e) {
+                        throw erroNaLinha(linha, e);
+                    }
+                }
+                inicioLinha = quebra >= 0 ? quebra + 1 : tamanho;
+            }
+            if (fimArquivo) {
+                return quantidade;
+            }
+
+            System.arraycopy(buffer, inicioLinha, buffer, 0, tamanho - inicioLinha);
+            tamanho -= inicioLinha;
+            if (tamanho == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                dados = ByteBuffer.wrap(buffer);
+            }
+        }
+    }
+
+    /**
+     * Le o arquivo; arquivos com pelo menos duas vezes TAMANHO_MINIMO_TRECHO sao divididos em trechos
+     * lidos em paralelo (no maximo um por processador).
+     */
+    @Override
+    public List<Funcionario> lerArquivo(Path arquivo) throws IOException {
+        long tamanho;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            tamanho = canal.size();
+        }
+        int partes = (int) Math.min(Runtime.getRuntime().availableProcessors(), tamanho / TAMANHO_MINIMO_TRECHO);
+        if (partes < 2) {
+            return FuncionarioReader.super.lerArquivo(arquivo);
+        }
+        return lerArquivo(arquivo, partes);
+    }
+
+    /**
+     * Le o arquivo dividido em trechos, lidos em paralelo no ForkJoinPool comum. Cada trecho comeca no inicio
+     * de uma linha e e mapeado em memoria separadamente.
+     *
+     * @param arquivo o arquivo no formato deste leitor.
+     * @param partes a quantidade desejada de trechos (pode aumentar para que nenhum trecho passe de 1 GiB).
+     * @return a lista de funcionarios lidos, na ordem do arquivo.
+     * @throws IOException se o arquivo nao puder ser lido ou for invalido; se houver mais de uma linha
+     *                     invalida, o erro informado e o da primeira.
+     */
+    public List<Funcionario> lerArquivo(Path arquivo, int partes) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            return lerEmParalelo(new FonteArquivo(canal), partes);
+        }
+    }
+
+    /**
+     * Le os dados divididos em trechos, lidos em paralelo no ForkJoinPool comum.
+     *
+     * @param dados o conteudo no formato deste leitor.
+     * @param partes a quantidade desejada de trechos.
+     * @return a lista de funcionarios lidos, na ordem dos dados.
+     * @throws IOException se os dados forem invalidos.
+     */
+    public List<Funcionario> lerEmParalelo(byte[] dados, int partes) throws IOException {
+        return lerEmParalelo(new FonteArray(ByteBuffer.wrap(dados)), partes);
+    }
+
+    private List<Funcionario> lerEmParalelo(Fonte fonte, int partes) throws IOException {
+        if (partes < 1) {
+            throw new IllegalArgumentException("A quantidade de partes deve ser maior que zero: " + partes);
+        }
+        long tamanho = fonte.tamanho();
+        long inicioDados = pularBom(fonte.trecho(0, Math.min(3, tamanho)), 0, (int) Math.min(3, tamanho));
+        long linhasIniciais = 0;
+        String cabecalho = null;
+        while (temCabecalho() && cabecalho == null && inicioDados < tamanho) {
+            long fimLinha = fonte.proximaLinha(inicioDados);
+            if (fimLinha - inicioDados > TAMANHO_MAXIMO_TRECHO) {
+                throw new IOException("Cabecalho muito grande");
+            }
+            ByteBuffer linha = fonte.trecho(inicioDados, fimLinha);
+            int fimConteudo = fimConteudo(linha, 0, linha.limit());
+            if (fimConteudo > 0) {
+                cabecalho = texto(linha, 0, fimConteudo);
+            }
+            linhasIniciais++;
+            inicioDados = fimLinha;
+        }
+        if (temCabecalho() && cabecalho == null) {
+            return new ArrayList<>();
+        }
+        try {
+            criarParser(cabecalho);
+        } catch (IOException e) {
+            throw erroNaLinha(linhasIniciais, e);
+        }
+
+        long restante = tamanho - inicioDados;
+        partes = (int) Math.max(partes, (restante + TAMANHO_MAXIMO_TRECHO - 1) / TAMANHO_MAXIMO_TRECHO);
+        long[] limites = new long[partes + 1];
+        limites[0] = inicioDados;
+        for (int i = 1; i < partes; i++) {
+            long alvo = inicioDados + restante * i / partes;
+            limites[i] = Math.max(limites[i - 1], alvo > inicioDados ? fonte.proximaLinha(alvo - 1) : inicioDados);
+        }
+        limites[partes] = tamanho;
+
+        List<Callable<Trecho>> tarefas = new ArrayList<>(partes);
+        for (int i = 0; i < partes; i++) {
+            if (limites[i + 1] - limites[i] > TAMANHO_MAXIMO_TRECHO) {
+                throw new IOException("Linha muito grande perto da posicao " + limites[i]);
+            }
+            if (limites[i + 1] > limites[i]) {
+                ByteBuffer trecho = fonte.trecho(limites[i], limites[i + 1]);
+                String cabecalhoTrecho = cabecalho;
+                tarefas.add(() -> lerTrecho(trecho, criarParser(cabecalhoTrecho)));
+            }
+        }
+
+        List<Trecho> trechos = new ArrayList<>(tarefas.size());
+        for (Future<Trecho> futuro : ForkJoinPool.commonPool().invokeAll(tarefas)) {
+            try {
+                trechos.add(futuro.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Leitura interrompida", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+
+        long linha = linhasIniciais;
+        int quantidade = 0;
+        for (Trecho trecho : trechos) {
+            if (trecho.erro != null) {
+                throw erroNaLinha(linha + trecho.linhas, trecho.erro);
+            }
+            linha += trecho.linhas;
+            quantidade += trecho.funcionarios.size();
+        }
+        // Cada trecho tem as suas Strings de funcao; ao juntar, a mesma funcao passa a usar uma unica instancia.
+        Map<String, String> funcoes = new HashMap<>();
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (Trecho trecho : trechos) {
+            for (Funcionario funcionario : trecho.funcionarios) {
+                if (funcionario.getFuncao() != null) {
+                    funcionario.setFuncao(funcoes.computeIfAbsent(funcionario.getFuncao(), funcao -> funcao));
+                }
+                funcionarios.add(funcionario);
+            }
+        }
+        return funcionarios;
+    }
+
+    /**
+     * Le as linhas de um trecho. Em caso de erro, a leitura para e o trecho guarda o erro e o numero da linha
+     * (relativo ao trecho), para que o erro seja informado com a linha do arquivo.
+     */
+    private static Trecho lerTrecho(ByteBuffer dados, ParserLinha parser) {
+        Trecho trecho = new Trecho();
+        int fim = dados.limit();
+        int inicioLinha = 0;
+        while (inicioLinha < fim) {
+            int quebra = proximaQuebra(dados, inicioLinha, fim);
+            int fimLinha = quebra >= 0 ? quebra : fim;
+            trecho.linhas++;
+            int fimConteudo = fimConteudo(dados, inicioLinha, fimLinha);
+            if (fimConteudo > inicioLinha) {
+                try {
+                    trecho.funcionarios.add(parser.ler(dados, inicioLinha, fimConteudo));
+                } catch (IOException e) {
+                    trecho.erro = e;
+                    return trecho;
+                }
+            }
+            inicioLinha = fimLinha + 1;
+        }
+        return trecho;
+    }
+
+    private static IOException erroNaLinha(long linha, IOException causa) {
+        return new IOException("Erro na linha " + linha + ": " + causa.getMessage(), causa);
+    }
+
+    private static int proximaQuebra(ByteBuffer dados, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            if (dados.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retorna o fim da linha sem o \r final; linhas apenas com espacos sao tratadas como vazias.
+     */
+    private static int fimConteudo(ByteBuffer dados, int inicio, int fim) {
+        while (fim > inicio) {
+            byte b = dados.get(fim - 1);
+            if (b != '\r' && b != ' ' && b != '\t') {
+                break;
+            }
+            fim--;
+        }
+        return fim;
+    }
+
+    private static int pularBom(ByteBuffer dados, int inicio, int fim) {
+        if (fim - inicio >= 3 && dados.get(inicio) == (byte) 0xEF && dados.get(inicio + 1) == (byte) 0xBB
+                && dados.get(inicio + 2) == (byte) 0xBF) {
+            return inicio + 3;
+        }
+        return inicio;
+    }
+
+    private static String texto(ByteBuffer dados, int inicio, int fim) {
+        byte[] bytes = new byte[fim - inicio];
+        dados.get(inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class Trecho {
+        final List<Funcionario> funcionarios = new ArrayList<>();
+        int linhas;
+        IOException erro;
+    }
+
+    /**
+     * Origem dos bytes da leitura em paralelo.
+     */
+    private interface Fonte {
+
+        long tamanho() throws IOException;
+
+        /**
+         * Retorna a posicao logo apos a primeira quebra de linha a partir de posicao, ou o tamanho se nao houver.
+         */
+        long proximaLinha(long posicao) throws IOException;
+
+        /**
+         * Retorna os bytes [inicio, fim), com posicao 0 e limite fim - inicio.
+         */
+        ByteBuffer trecho(long inicio, long fim) throws IOException;
+    }
+
+    private record FonteArray(ByteBuffer dados) implements Fonte {
+
+        @Override
+        public long tamanho() {
+            return dados.limit();
+        }
+
+        @Override
+        public long proximaLinha(long posicao) {
+            int quebra = proximaQuebra(dados, (int) posicao, dados.limit());
+            return quebra >= 0 ? quebra + 1 : dados.limit();
+        }
+
+        @Override
+        public ByteBuffer trecho(long inicio, long fim) {
+            return dados.slice((int) inicio, (int) (fim - inicio));
+        }
+    }
+
+    private record FonteArquivo(FileChannel canal) implements Fonte {
+
+        @Override
+        public long tamanho() throws IOException {
+            return canal.size();
+        }
+
+        @Override
+        public long proximaLinha(long posicao) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUSCA_LINHA);
+            long tamanho = canal.size();
+            while (posicao < tamanho) {
+                buffer.clear();
+                int lidos = canal.read(buffer, posicao);
+                if (lidos <= 0) {
+                    break;
+                }
+                int quebra = proximaQuebra(buffer, 0, lidos);
+                if (quebra >= 0) {
+                    return posicao + quebra + 1;
+                }
+                posicao += lidos;
+            }
+            return tamanho;
+        }
+
+        @Override
+        public ByteBuffer trecho(long inicio, long fim) throws IOException {
+            return canal.map(FileChannel.MapMode.READ_ONLY, inicio, fim - inicio);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Leitor de funcionarios em NDJSON: um objeto JSON por linha, com os mesmos campos do data.json, por exemplo:
+ *
+ * <pre>
+ * {"nome": "Maria", "dataNascimento": "2000-10-18", "salario": 2009.44, "funcao": "Operador"}
+ * </pre>
+ *
+ * Cada linha e convertida por um parser proprio, direto dos bytes. O salario pode ser um numero ou uma string;
+ * nome, dataNascimento e salario sao obrigatorios, a funcao ausente ou null fica null e campos desconhecidos
+ * sao ignorados.
+ */
+public final class FuncionarioNdjsonReader extends FuncionarioLinhasReader {
+
+    private static final byte[] NOME = "nome".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_NASCIMENTO = "dataNascimento".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SALARIO = "salario".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FUNCAO = "funcao".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public String formato() {
+        return "ndjson";
+    }
+
+    @Override
+    public List<String> extensoes() {
+        return List.of(".ndjson", ".jsonl");
+    }
+
+    @Override
+    protected boolean temCabecalho() {
+        return false;
+    }
+
+    @Override
+    protected ParserLinha criarParser(String cabecalho) {
+        return new Parser();
+    }
+
+    private static final class Parser implements ParserLinha {
+
+        private final CamposBytes campos = new CamposBytes();
+        private ByteBuffer dados;
+        private int inicio;
+        private int posicao;
+        private int fim;
+        private boolean escapado;
+
+        @Override
+        public Funcionario ler(ByteBuffer dados, int inicio, int fim) throws IOException {
+            this.dados = dados;
+            this.inicio = inicio;
+            this.posicao = inicio;
+            this.fim = fim;
+
+            String nome = null;
+            LocalDate dataNascimento = null;
+            BigDecimal salario = null;
+            String funcao = null;
+
+            esperar('{');
+            if (proximo() == '}') {
+                posicao++;
+            } else {
+                while (true) {
+                    esperar('"');
+                    int inicioChave = posicao;
+                    int fimChave = fimString();
+                    esperar(':');
+                    byte valor = proximo();
+
+                    if (valor == 'n') {
+                        literal("null");
+                    } else if (chave(inicioChave, fimChave, NOME)) {
+                        nome = string();
+                    } else if (chave(inicioChave, fimChave, DATA_NASCIMENTO)) {
+                        int inicioValor = aposAspas();
+                        dataNascimento = campos.data(dados, inicioValor, fimString());
+                    } else if (chave(inicioChave, fimChave, SALARIO)) {
+                        if (valor == '"') {
+                            int inicioValor = aposAspas();
+                            salario = campos.decimal(dados, inicioValor, fimString());
+                        } else {
+                            int inicioValor = posicao;
+                            salario = campos.decimal(dados, inicioValor, fimNumero());
+                        }
+                    } else if (chave(inicioChave, fimChave, FUNCAO)) {
+                        int inicioValor = aposAspas();
+                        int fimValor = fimString();
+                        funcao = escapado
+                                ? campos.textoJsonEscapado(dados, inicioValor, fimValor)
+                                : campos.textoRepetido(dados, inicioValor, fimValor);
+                    } else {
+                        pularValor(0);
+                    }
+
+                    byte separador = proximo();
+                    posicao++;
+                    if (separador == '}') {
+                        break;
+                    }
+                    if (separador != ',') {
+                        throw erro("Esperado ',' ou '}'");
+                    }
+                }
+            }
+            if (proximo() != 0) {
+                throw erro("Conteudo inesperado depois do objeto");
+            }
+            obrigatorio(nome, NOME);
+            obrigatorio(dataNascimento, DATA_NASCIMENTO);
+            obrigatorio(salario, SALARIO);
+            return new Funcionario(nome, dataNascimento, salario, funcao);
+        }
+
+        private static void obrigatorio(Object valor, byte[] campo) throws IOException {
+            if (valor == null) {
+                throw new IOException("Campo obrigatorio ausente ou null: " + new String(campo, StandardCharsets.UTF_8));
+            }
+        }
+
+        /**
+         * Pula os espacos e retorna o proximo byte, sem consumi-lo (0 no fim da linha).
+         */
+        private byte proximo() {
+            while (posicao < fim) {
+                byte b = dados.get(posicao);
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return b;
+                }
+                posicao++;
+            }
+            return 0;
+        }
+
+        private void esperar(char esperado) throws IOException {
+            if (proximo() != esperado) {
+                throw erro("Esperado '" + esperado + "'");
+            }
+            posicao++;
+        }
+
+        private int aposAspas() throws IOException {
+            esperar('"');
+            return posicao;
+        }
+
+        /**
+         * Avanca ate depois das aspas que fecham a string iniciada em posicao e retorna o fim do seu conteudo.
+         */
+        private int fimString() throws IOException {
+            escapado = false;
+            while (posicao < fim) {
+                byte b = dados.get(posicao++);
+                if (b == '"') {
+                    return posicao - 1;
+                }
+                if (b == '\\') {
+                    escapado = true;
+                    posicao++;
+                }
+            }
+            throw erro("String nao terminada");
+        }
+
+        private String string() throws IOException {
+            int inicioValor = aposAspas();
+            int fimValor = fimString();
+            return escapado
+                    ? campos.textoJsonEscapado(dados, inicioValor, fimValor)
+                    : campos.texto(dados, inicioValor, fimValor);
+        }
+
+        private int fimNumero() {
+            while (posicao < fim) {
+                byte b = dados.get(posicao);
+                if ((b < '0' || b > '9') && b != '-' && b != '+' && b != '.' && b != 'e' && b != 'E') {
+                    break;
+                }
+                posicao++;
+            }
+            return posicao;
+        }
+
+        private void literal(String texto) throws IOException {
+            for (int i = 0; i < texto.length(); i++) {
+                if (posicao >= fim || dados.get(posicao++) != texto.charAt(i)) {
+                    throw erro("Esperado " + texto);
+                }
+            }
+        }
+
+        private void pularValor(int profundidade) throws IOException {
+            if (profundidade > 64) {
+                throw erro("Valor com aninhamento muito profundo");
+            }
+            byte b = proximo();
+            switch (b) {
+                case '"' -> {
+                    posicao++;
+                    fimString();
+                }
+                case '{', '[' -> {
+                    byte fecha = b == '{' ? (byte) '}' : (byte) ']';
+                    posicao++;
+                    if (proximo() == fecha) {
+                        posicao++;
+                        return;
+                    }
+                    while (true) {
+                        if (b == '{') {
+                            esperar('"');
+                            fimString();
+                            esperar(':');
+                        }
+                        pularValor(profundidade + 1);
+                        byte separador = proximo();
+                        posicao++;
+                        if (separador == fecha) {
+                            return;
+                        }
+                        if (separador != ',') {
+                            throw erro("Esperado ',' ou '" + (char) fecha + "'");
+                        }
+                    }
+                }
+                case 't' -> literal("true");
+                case 'f' -> literal("false");
+                case 'n' -> literal("null");
+                default -> {
+                    int inicioValor = posicao;
+                    if (fimNumero() == inicioValor) {
+                        throw erro("Valor JSON invalido");
+                    }
+                }
+            }
+        }
+
+        private boolean chave(int inicio, int fimChave, byte[] nome) {
+            if (fimChave - inicio != nome.length) {
+                return false;
+            }
+            for (int i = 0; i < nome.length; i++) {
+                if (dados.get(inicio + i) != nome[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private IOException erro(String mensagem) {
+            return new IOException(mensagem + " na coluna " + (posicao - inicio + 1));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitor de funcionarios de um formato de arquivo (JSON, CSV, NDJSON...).
+ *
+ * As implementacoes sao carregadas com ServiceLoader a partir de
+ * META-INF/services/org.willian.infrastructure.reader.FuncionarioReader; para suportar um novo formato basta
+ * registrar a implementacao nesse arquivo. Use FuncionarioReaders para obter o leitor de um formato ou arquivo.
+ *
+ * As implementacoes devem ter um construtor publico sem argumentos e poder ser usadas por varias threads.
+ */
+public interface FuncionarioReader {
+
+    /**
+     * Retorna o nome do formato, em minusculas (por exemplo "csv").
+     */
+    String formato();
+
+    /**
+     * Retorna as extensoes de arquivo do formato, em minusculas e com o ponto (por exemplo ".csv").
+     */
+    List<String> extensoes();
+
+    /**
+     * Le todos os funcionarios da entrada e os entrega, um a um, ao consumidor.
+     *
+     * @param entrada o InputStream no formato deste leitor.
+     * @param consumidor recebe cada funcionario assim que ele e lido, na ordem da entrada.
+     * @return a quantidade de funcionarios lidos.
+     * @throws IOException se a entrada for invalida.
+     */
+    long lerFuncionarios(InputStream entrada, Consumer<? super Funcionario> consumidor) throws IOException;
+
+    /**
+     * Le todos os funcionarios da entrada em uma lista.
+     *
+     * @param entrada o InputStream no formato deste leitor.
+     * @return a lista de funcionarios lidos, na ordem da entrada.
+     * @throws IOException se a entrada for invalida.
+     */
+    default List<Funcionario> lerLista(InputStream entrada) throws IOException {
+        List<Funcionario> funcionarios = new ArrayList<>();
+        lerFuncionarios(entrada, funcionarios::add);
+        return funcionarios;
+    }
+
+    /**
+     * Le todos os funcionarios de um arquivo em uma lista.
+     *
+     * @param arquivo o arquivo no formato deste leitor.
+     * @return a lista de funcionarios lidos, na ordem do arquivo.
+     * @throws IOException se o arquivo nao puder ser lido ou for invalido.
+     */
+    default List<Funcionario> lerArquivo(Path arquivo) throws IOException {
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(arquivo))) {
+            return lerLista(entrada);
+        }
+    }
+}
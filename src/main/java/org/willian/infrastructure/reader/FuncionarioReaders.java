@@ -0,0 +1,97 @@
+package org.willian.infrastructure.reader;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Registro dos FuncionarioReader disponiveis, carregados com ServiceLoader na primeira consulta.
+ *
+ * Os leitores sao indexados pelo formato e pelas extensoes de arquivo; se dois leitores declararem o mesmo
+ * formato ou extensao, vale o primeiro encontrado pelo ServiceLoader.
+ */
+public final class FuncionarioReaders {
+
+    private FuncionarioReaders() {}
+
+    /**
+     * Retorna os formatos disponiveis (por exemplo "json", "csv" e "ndjson").
+     */
+    public static Set<String> formatos() {
+        return Registro.POR_FORMATO.keySet();
+    }
+
+    /**
+     * Retorna o leitor do formato.
+     *
+     * @param formato o nome do formato, sem diferenciar maiusculas.
+     * @return o leitor.
+     * @throws IllegalArgumentException se nenhum leitor suportar o formato.
+     */
+    public static FuncionarioReader paraFormato(String formato) {
+        FuncionarioReader leitor = Registro.POR_FORMATO.get(formato.toLowerCase(Locale.ROOT));
+        if (leitor == null) {
+            throw new IllegalArgumentException("Formato de funcionarios nao suportado: " + formato);
+        }
+        return leitor;
+    }
+
+    /**
+     * Retorna o leitor correspondente a extensao do arquivo.
+     *
+     * @param arquivo o arquivo.
+     * @return o leitor, ou vazio se a extensao nao for suportada.
+     */
+    public static Optional<FuncionarioReader> paraArquivo(Path arquivo) {
+        Path nome = arquivo.getFileName();
+        if (nome == null) {
+            return Optional.empty();
+        }
+        String texto = nome.toString().toLowerCase(Locale.ROOT);
+        int ponto = texto.lastIndexOf('.');
+        return ponto < 0 ? Optional.empty() : Optional.ofNullable(Registro.POR_EXTENSAO.get(texto.substring(ponto)));
+    }
+
+    /**
+     * Le o arquivo com o leitor correspondente a sua extensao.
+     *
+     * @param arquivo o arquivo de funcionarios.
+     * @return a lista de funcionarios lidos, na ordem do arquivo.
+     * @throws IOException se a extensao nao for suportada ou se o arquivo nao puder ser lido ou for invalido.
+     */
+    public static List<Funcionario> lerArquivo(Path arquivo) throws IOException {
+        Optional<FuncionarioReader> leitor = paraArquivo(arquivo);
+        if (leitor.isEmpty()) {
+            throw new IOException("Formato de arquivo nao suportado: " + arquivo);
+        }
+        return leitor.get().lerArquivo(arquivo);
+    }
+
+    private static final class Registro {
+
+        static final Map<String, FuncionarioReader> POR_FORMATO;
+        static final Map<String, FuncionarioReader> POR_EXTENSAO;
+
+        static {
+            Map<String, FuncionarioReader> porFormato = new LinkedHashMap<>();
+            Map<String, FuncionarioReader> porExtensao = new LinkedHashMap<>();
+            for (FuncionarioReader leitor : ServiceLoader.load(FuncionarioReader.class, FuncionarioReaders.class.getClassLoader())) {
+                porFormato.putIfAbsent(leitor.formato().toLowerCase(Locale.ROOT), leitor);
+                for (String extensao : leitor.extensoes()) {
+                    porExtensao.putIfAbsent(extensao.toLowerCase(Locale.ROOT), leitor);
+                }
+            }
+            POR_FORMATO = Collections.unmodifiableMap(porFormato);
+            POR_EXTENSAO = Collections.unmodifiableMap(porExtensao);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package org.willian.infrastructure.report;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Escritor de relatorios que formata datas (dd/MM/yyyy) e valores monetarios no padrao pt-BR (#.##0,00)
+ * diretamente em um buffer reutilizavel e escreve em um canal com um buffer grande, em vez de um println por linha.
+ *
+ * Cada thread monta a sua linha em um buffer proprio (obtido por linha()) e a linha completa e copiada para o
+ * buffer de saida sob um lock, entao varias threads podem escrever ao mesmo tempo sem misturar linhas.
+ *
+ * A saida e identica a de DecimalFormat("#,##0.00") com simbolos pt-BR e DateTimeFormatter.ofPattern("dd/MM/yyyy").
+ * Valores com mais de 2 casas decimais ou mais de 18 digitos, e anos fora do intervalo 1..9999,
+ * sao formatados pelas proprias classes do JDK.
+ */
+public final class RelatorioWriter implements Closeable, Flushable {
+
+    public static final int TAMANHO_BUFFER_PADRAO = 1 << 16;
+
+    private static final String SEPARADOR_LINHA = System.lineSeparator();
+
+    private final WritableByteChannel canal;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ThreadLocal<Linha> linhas = ThreadLocal.withInitial(Linha::new);
+
+    public RelatorioWriter(WritableByteChannel canal, Charset charset) {
+        this(canal, charset, TAMANHO_BUFFER_PADRAO);
+    }
+
+    public RelatorioWriter(WritableByteChannel canal, Charset charset, int tamanhoBuffer) {
+        this.canal = canal;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.buffer = ByteBuffer.allocate(Math.max(tamanhoBuffer, 64));
+    }
+
+    /**
+     * Cria um escritor que escreve no PrintStream informado, com o mesmo charset dele.
+     * O PrintStream so e chamado quando o buffer enche ou em flush().
+     *
+     * @param saida o PrintStream de destino (por exemplo System.out).
+     * @return o escritor de relatorio.
+     */
+    public static RelatorioWriter para(PrintStream saida) {
+        return new RelatorioWriter(Channels.newChannel(saida), saida.charset());
+    }
+
+    /**
+     * Retorna o buffer de linha da thread atual, vazio.
+     * A linha so e enviada ao relatorio quando Linha.escrever() e chamado.
+     *
+     * @return a linha reutilizavel da thread atual.
+     */
+    public Linha linha() {
+        Linha linha = linhas.get();
+        linha.relatorio = this;
+        linha.texto.setLength(0);
+        return linha;
+    }
+
+    /**
+     * Escreve uma linha de texto.
+     *
+     * @param texto o conteudo da linha, sem o separador de linha.
+     */
+    public void linha(CharSequence texto) {
+        linha().texto(texto).escrever();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            descarregar();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    private void escrever(StringBuilder texto) {
+        lock.lock();
+        try {
+            CharBuffer caracteres = CharBuffer.wrap(texto);
+            encoder.reset();
+            CoderResult resultado;
+            while ((resultado = encoder.encode(caracteres, buffer, true)).isOverflow()) {
+                descarregar();
+            }
+            if (resultado.isError()) {
+                resultado.throwException();
+            }
+            while (encoder.flush(buffer).isOverflow()) {
+                descarregar();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void descarregar() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Buffer de uma linha do relatorio, reutilizado pela mesma thread. Nao deve ser compartilhado entre threads
+     * nem guardado depois de escrever().
+     */
+    public static final class Linha {
+        private final StringBuilder texto = new StringBuilder(256);
+        private final char[] digitos = new char[32];
+        private RelatorioWriter relatorio;
+
+        private Linha() {}
+
+        public Linha texto(CharSequence valor) {
+            texto.append(valor);
+            return this;
+        }
+
+        public Linha texto(long valor) {
+            texto.append(valor);
+            return this;
+        }
+
+        /**
+         * Acrescenta a data no formato dd/MM/yyyy.
+         */
+        public Linha data(LocalDate data) {
+            int ano = data.getYear();
+            if (ano < 1 || ano > 9999) {
+                texto.append(FormatosJdk.data().format(data));
+                return this;
+            }
+            doisDigitos(data.getDayOfMonth());
+            texto.append('/');
+            doisDigitos(data.getMonthValue());
+            texto.append('/');
+            texto.append((char) ('0' + ano / 1000))
+                    .append((char) ('0' + ano / 100 % 10))
+                    .append((char) ('0' + ano / 10 % 10))
+                    .append((char) ('0' + ano % 10));
+            return this;
+        }
+
+        /**
+         * Acrescenta o valor no formato monetario pt-BR (#.##0,00), sem o simbolo da moeda.
+         */
+        public Linha dinheiro(BigDecimal valor) {
+            if (valor.scale() < 0 || valor.scale() > 2 || valor.precision() > 18) {
+                texto.append(FormatosJdk.dinheiro().format(valor));
+                return this;
+            }
+            return dinheiroCentavos(valor.movePointRight(2).longValue());
+        }
+
+        /**
+         * Acrescenta o valor em centavos no formato monetario pt-BR (#.##0,00), sem o simbolo da moeda.
+         */
+        public Linha dinheiroCentavos(long centavos) {
+            if (centavos == Long.MIN_VALUE) {
+                texto.append(FormatosJdk.dinheiro().format(BigDecimal.valueOf(centavos, 2)));
+                return this;
+            }
+            if (centavos < 0) {
+                texto.append('-');
+                centavos = -centavos;
+            }
+            long inteiro = centavos / 100;
+            int fracao = (int) (centavos % 100);
+
+            int posicao = digitos.length;
+            int grupo = 0;
+            do {
+                if (grupo == 3) {
+                    digitos[--posicao] = '.';
+                    grupo = 0;
+                }
+                digitos[--posicao] = (char) ('0' + inteiro % 10);
+                inteiro /= 10;
+                grupo++;
+            } while (inteiro > 0);
+
+            texto.append(digitos, posicao, digitos.length - posicao).append(',');
+            doisDigitos(fracao);
+            return this;
+        }
+
+        /**
+         * Finaliza a linha com o separador de linha do sistema e a envia ao relatorio.
+         */
+        public void escrever() {
+            texto.append(SEPARADOR_LINHA);
+            relatorio.escrever(texto);
+            texto.setLength(0);
+        }
+
+        private void doisDigitos(int valor) {
+            texto.append((char) ('0' + valor / 10)).append((char) ('0' + valor % 10));
+        }
+    }
+
+    /**
+     * Formatadores do JDK usados apenas nos casos fora do caminho rapido; criados sob demanda, cada um na
+     * primeira vez em que e usado (o formatador de datas fica em uma classe propria para nao carregar os
+     * simbolos pt-BR junto, e vice-versa).
+     */
+    static final class FormatosJdk {
+
+        private static final ThreadLocal<DecimalFormat> DINHEIRO = ThreadLocal.withInitial(() -> {
+            DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.of("pt", "BR"));
+            symbols.setDecimalSeparator(',');
+            symbols.setGroupingSeparator('.');
+            return new DecimalFormat("#,##0.00", symbols);
+        });
+
+        private FormatosJdk() {}
+
+        static DecimalFormat dinheiro() {
+            return DINHEIRO.get();
+        }
+
+        static DateTimeFormatter data() {
+            return Data.FORMATO;
+        }
+
+        private static final class Data {
+            static final DateTimeFormatter FORMATO = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.willian.infrastructure.snapshot;
+
+import org.willian.domain.entities.Funcionario;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Le um snapshot binario gravado pelo FuncionarioSnapshotWriter, mapeando o arquivo em memoria com FileChannel.map.
+ *
+ * Abrir o snapshot apenas le o cabecalho e mapeia as secoes; nenhum funcionario e decodificado.
+ * As colunas de salario e data de nascimento sao acessadas diretamente na memoria mapeada,
+ * e os nomes e funcoes so sao decodificados quando solicitados.
+ *
+ * Cada coluna e mapeada separadamente; a area de strings e mapeada em segmentos de ate 1 GiB,
+ * de modo que o arquivo pode ser maior que 2 GiB. Depois de aberto, o leitor pode ser usado por varias threads.
+ */
+public final class FuncionarioSnapshotReader implements Closeable {
+
+    private static final long TAMANHO_SEGMENTO = 1L << 30;
+
+    private final FileChannel canal;
+    private final int quantidade;
+    private final int quantidadeStrings;
+    private final LongBuffer salarios;
+    private final IntBuffer nascimentos;
+    private final IntBuffer nomeIds;
+    private final IntBuffer funcaoIds;
+    private final LongBuffer offsetsStrings;
+    private final MappedByteBuffer[] segmentosStrings;
+
+    private FuncionarioSnapshotReader(FileChannel canal) throws IOException {
+        this.canal = canal;
+
+        MappedByteBuffer cabecalho = mapear(0, FuncionarioSnapshotWriter.TAMANHO_CABECALHO);
+        if (cabecalho.getInt() != FuncionarioSnapshotWriter.MAGIC) {
+            throw new IOException("Arquivo nao e um snapshot de funcionarios.");
+        }
+        int versao = cabecalho.getInt();
+        if (versao != FuncionarioSnapshotWriter.VERSAO) {
+            throw new IOException("Versao de snapshot nao suportada: " + versao);
+        }
+        this.quantidade = cabecalho.getInt();
+        this.quantidadeStrings = cabecalho.getInt();
+
+        long posicao = FuncionarioSnapshotWriter.TAMANHO_CABECALHO;
+        this.salarios = mapear(posicao, (long) quantidade * Long.BYTES).asLongBuffer();
+        posicao += (long) quantidade * Long.BYTES;
+        this.nascimentos = mapear(posicao, (long) quantidade * Integer.BYTES).asIntBuffer();
+        posicao += (long) quantidade * Integer.BYTES;
+        this.nomeIds = mapear(posicao, (long) quantidade * Integer.BYTES).asIntBuffer();
+        posicao += (long) quantidade * Integer.BYTES;
+        this.funcaoIds = mapear(posicao, (long) quantidade * Integer.BYTES).asIntBuffer();
+        posicao += (long) quantidade * Integer.BYTES;
+        this.offsetsStrings = mapear(posicao, (quantidadeStrings + 1L) * Long.BYTES).asLongBuffer();
+        posicao += (quantidadeStrings + 1L) * Long.BYTES;
+
+        long tamanhoStrings = offsetsStrings.get(quantidadeStrings);
+        if (posicao + tamanhoStrings > canal.size()) {
+            throw new IOException("Snapshot truncado.");
+        }
+        int segmentos = (int) ((tamanhoStrings + TAMANHO_SEGMENTO - 1) / TAMANHO_SEGMENTO);
+        this.segmentosStrings = new MappedByteBuffer[segmentos];
+        for (int s = 0; s < segmentos; s++) {
+            long inicio = s * TAMANHO_SEGMENTO;
+            segmentosStrings[s] = mapear(posicao + inicio, Math.min(TAMANHO_SEGMENTO, tamanhoStrings - inicio));
+        }
+    }
+
+    /**
+     * Abre e mapeia o snapshot em modo somente leitura.
+     *
+     * @param arquivo o caminho do arquivo de snapshot.
+     * @return o leitor do snapshot.
+     * @throws IOException se o arquivo nao puder ser lido ou nao for um snapshot valido.
+     */
+    public static FuncionarioSnapshotReader abrir(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            return new FuncionarioSnapshotReader(canal);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    public int tamanho() {
+        return quantidade;
+    }
+
+    public long salarioCentavos(int indice) {
+        Objects.checkIndex(indice, quantidade);
+        return salarios.get(indice);
+    }
+
+    public int nascimentoEpochDay(int indice) {
+        Objects.checkIndex(indice, quantidade);
+        return nascimentos.get(indice);
+    }
+
+    public String nome(int indice) {
+        Objects.checkIndex(indice, quantidade);
+        return string(nomeIds.get(indice));
+    }
+
+    public String funcao(int indice) {
+        Objects.checkIndex(indice, quantidade);
+        return string(funcaoIds.get(indice));
+    }
+
+    /**
+     * Materializa a linha informada como um Funcionario.
+     *
+     * @param indice a posicao do funcionario (entre 0 e tamanho() - 1).
+     * @return um novo Funcionario com os valores da linha.
+     */
+    public Funcionario funcionario(int indice) {
+        return new Funcionario(
+                nome(indice),
+                LocalDate.ofEpochDay(nascimentoEpochDay(indice)),
+                BigDecimal.valueOf(salarioCentavos(indice), 2),
+                funcao(indice)
+        );
+    }
+
+    /**
+     * Calcula o total dos salarios percorrendo apenas a coluna de salarios.
+     *
+     * @return o valor total dos salarios, com 2 casas decimais.
+     */
+    public BigDecimal totalSalarioFuncionarios() {
+        long totalCentavos = 0;
+        for (int i = 0; i < quantidade; i++) {
+            totalCentavos = Math.addExact(totalCentavos, salarios.get(i));
+        }
+        return BigDecimal.valueOf(totalCentavos, 2);
+    }
+
+    /**
+     * Retorna o funcionario com maior idade percorrendo apenas a coluna de datas de nascimento.
+     *
+     * @return o funcionario mais velho; se o snapshot estiver vazio, retorna null.
+     */
+    public Funcionario funcionarioComMaiorIdade() {
+        if (quantidade == 0) {
+            return null;
+        }
+        int maisVelho = 0;
+        for (int i = 1; i < quantidade; i++) {
+            if (nascimentos.get(i) < nascimentos.get(maisVelho)) {
+                maisVelho = i;
+            }
+        }
+        return funcionario(maisVelho);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private String string(int id) {
+        long inicio = offsetsStrings.get(id);
+        int tamanho = Math.toIntExact(offsetsStrings.get(id + 1) - inicio);
+        byte[] bytes = new byte[tamanho];
+
+        int copiado = 0;
+        while (copiado < tamanho) {
+            long posicao = inicio + copiado;
+            MappedByteBuffer segmento = segmentosStrings[(int) (posicao / TAMANHO_SEGMENTO)];
+            int offsetNoSegmento = (int) (posicao % TAMANHO_SEGMENTO);
+            int parte = Math.min(tamanho - copiado, segmento.limit() - offsetNoSegmento);
+            segmento.get(offsetNoSegmento, bytes, copiado, parte);
+            copiado += parte;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private MappedByteBuffer mapear(long posicao, long tamanho) throws IOException {
+        if (posicao + tamanho > canal.size()) {
+            throw new IOException("Snapshot truncado.");
+        }
+        MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, posicao, tamanho);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+}
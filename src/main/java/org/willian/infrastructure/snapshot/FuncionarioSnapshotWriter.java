@@ -0,0 +1,128 @@
+package org.willian.infrastructure.snapshot;
+
+import org.willian.application.FuncionarioColumnarStore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grava funcionarios no formato binario de snapshot, lido pelo FuncionarioSnapshotReader.
+ *
+ * Layout do arquivo (inteiros em little-endian):
+ * <pre>
+ *   cabecalho  : magic "FSNP" (int), versao (int), quantidade de funcionarios (int), quantidade de strings (int)
+ *   salarios   : quantidade x long  (salario em centavos)
+ *   nascimentos: quantidade x int   (dias desde 1970-01-01)
+ *   nomes      : quantidade x int   (indice na tabela de strings)
+ *   funcoes    : quantidade x int   (indice na tabela de strings)
+ *   offsets    : (quantidade de strings + 1) x long (posicao de cada string na area de bytes)
+ *   strings    : bytes UTF-8 de todas as strings, concatenados
+ * </pre>
+ * Nomes e funcoes repetidos sao gravados uma unica vez na tabela de strings.
+ */
+public final class FuncionarioSnapshotWriter {
+
+    static final int MAGIC = 0x504E5346;
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 16;
+
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private FuncionarioSnapshotWriter() {}
+
+    /**
+     * Grava o snapshot dos funcionarios do armazenamento colunar no arquivo informado, substituindo-o.
+     *
+     * @param arquivo o caminho do arquivo de snapshot.
+     * @param store os funcionarios a serem gravados.
+     * @throws IOException se ocorrer erro de escrita.
+     */
+    public static void escrever(Path arquivo, FuncionarioColumnarStore store) throws IOException {
+        int quantidade = store.tamanho();
+        List<byte[]> strings = new ArrayList<>();
+        Map<String, Integer> indices = new HashMap<>();
+        int[] nomeIds = new int[quantidade];
+        int[] funcaoIds = new int[quantidade];
+
+        for (int i = 0; i < quantidade; i++) {
+            nomeIds[i] = indiceString(store.nome(i), strings, indices);
+            funcaoIds[i] = indiceString(store.funcao(store.funcaoId(i)), strings, indices);
+        }
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(TAMANHO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC).putInt(VERSAO).putInt(quantidade).putInt(strings.size());
+            for (int i = 0; i < quantidade; i++) {
+                garantirEspaco(canal, buffer, Long.BYTES);
+                buffer.putLong(store.salarioCentavos(i));
+            }
+            for (int i = 0; i < quantidade; i++) {
+                garantirEspaco(canal, buffer, Integer.BYTES);
+                buffer.putInt(store.nascimentoEpochDay(i));
+            }
+            for (int nomeId : nomeIds) {
+                garantirEspaco(canal, buffer, Integer.BYTES);
+                buffer.putInt(nomeId);
+            }
+            for (int funcaoId : funcaoIds) {
+                garantirEspaco(canal, buffer, Integer.BYTES);
+                buffer.putInt(funcaoId);
+            }
+
+            long offset = 0;
+            for (byte[] string : strings) {
+                garantirEspaco(canal, buffer, Long.BYTES);
+                buffer.putLong(offset);
+                offset += string.length;
+            }
+            garantirEspaco(canal, buffer, Long.BYTES);
+            buffer.putLong(offset);
+
+            for (byte[] string : strings) {
+                int escrito = 0;
+                while (escrito < string.length) {
+                    garantirEspaco(canal, buffer, 1);
+                    int parte = Math.min(buffer.remaining(), string.length - escrito);
+                    buffer.put(string, escrito, parte);
+                    escrito += parte;
+                }
+            }
+            descarregar(canal, buffer);
+        }
+    }
+
+    private static int indiceString(String valor, List<byte[]> strings, Map<String, Integer> indices) {
+        Integer indice = indices.get(valor);
+        if (indice == null) {
+            indice = strings.size();
+            strings.add(valor.getBytes(StandardCharsets.UTF_8));
+            indices.put(valor, indice);
+        }
+        return indice;
+    }
+
+    private static void garantirEspaco(FileChannel canal, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            descarregar(canal, buffer);
+        }
+    }
+
+    private static void descarregar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        buffer.clear();
+    }
+}
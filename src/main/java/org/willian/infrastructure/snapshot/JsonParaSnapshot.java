@@ -0,0 +1,50 @@
+package org.willian.infrastructure.snapshot;
+
+import org.willian.application.FuncionarioColumnarStore;
+import org.willian.infrastructure.reader.FuncionarioJsonReader;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Converte um JSON de funcionarios (formato do data.json) para o snapshot binario.
+ *
+ * O JSON e lido em modo streaming direto para um FuncionarioColumnarStore, entao a conversao
+ * nao precisa manter objetos Funcionario em memoria.
+ *
+ * Uso: java -cp ... org.willian.infrastructure.snapshot.JsonParaSnapshot entrada.json saida.snap
+ */
+public final class JsonParaSnapshot {
+
+    private JsonParaSnapshot() {}
+
+    /**
+     * Le o JSON e grava o snapshot correspondente.
+     *
+     * @param jsonInputStream o InputStream contendo o array JSON de funcionarios.
+     * @param destino o caminho do arquivo de snapshot a ser gravado.
+     * @return a quantidade de funcionarios convertidos.
+     * @throws IOException se o JSON for invalido ou ocorrer erro de escrita.
+     */
+    public static int converter(InputStream jsonInputStream, Path destino) throws IOException {
+        FuncionarioColumnarStore store = new FuncionarioColumnarStore();
+        FuncionarioJsonReader.lerFuncionarios(jsonInputStream, store::adicionar);
+        FuncionarioSnapshotWriter.escrever(destino, store);
+        return store.tamanho();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: JsonParaSnapshot <entrada.json> <saida.snap>");
+            System.exit(2);
+        }
+
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(Path.of(args[0])))) {
+            int quantidade = converter(entrada, Path.of(args[1]));
+            System.out.println("Funcionários convertidos: " + quantidade);
+        }
+    }
+}
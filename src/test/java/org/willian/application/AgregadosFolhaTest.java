@@ -0,0 +1,114 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AgregadosFolhaTest {
+    private String getSampleJson() {
+        return "[\n" +
+                "  {\"nome\": \"João\", \"salario\": 2000.00, \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Analista\"},\n" +
+                "  {\"nome\": \"Maria\", \"salario\": 3000.00, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Gerente\"},\n" +
+                "  {\"nome\": \"Caio\", \"salario\": 2500.00, \"dataNascimento\": \"1990-12-01\", \"funcao\": \"Analista\"},\n" +
+                "  {\"nome\": \"Ana\", \"salario\": 1500.55, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Operador\"}\n" +
+                "]";
+    }
+
+    private App criarApp(ModoExecucao modo) {
+        App app = new App(modo, ForkJoinPool.commonPool());
+        app.criarListaFuncionarios(new ByteArrayInputStream(getSampleJson().getBytes(StandardCharsets.UTF_8)));
+        return app;
+    }
+
+    private static BigDecimal somar(List<Funcionario> funcionarios) {
+        return funcionarios.stream().map(Funcionario::getSalario).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Test
+    @DisplayName("Teste agregados devem acompanhar remocoes e aumentos da App")
+    public void testAgregadosAcompanhamAlteracoes() {
+        for (ModoExecucao modo : ModoExecucao.values()) {
+            App app = criarApp(modo);
+            assertEquals(new BigDecimal("9000.55"), app.totalSalarioFuncionarios());
+
+            app.removerFuncionario("joão");
+            assertEquals(new BigDecimal("7000.55"), app.totalSalarioFuncionarios());
+            assertEquals(1, app.quantidadePorFuncao().get("Analista"));
+
+            List<Funcionario> atualizados = app.adicionarAumentoDeSalario(1.10);
+            assertEquals(somar(atualizados), app.totalSalarioFuncionarios(), "Modo " + modo);
+            assertEquals(new BigDecimal("2750.00"), app.totalSalarioPorFuncao().get("Analista"));
+            assertEquals(new BigDecimal("1650.61"), app.totalSalarioPorFuncao().get("Operador"));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste funcionario mais velho deve ser atualizado apos remocoes, mantendo o primeiro em caso de empate")
+    public void testMaisVelhoAposRemocao() {
+        App app = criarApp(ModoExecucao.SEQUENCIAL);
+
+        assertEquals("Maria", app.funcionarioComMaiorIdade().getNome());
+        app.removerFuncionario("Maria");
+        assertEquals("Ana", app.funcionarioComMaiorIdade().getNome());
+        app.removerFuncionario("Ana");
+        assertEquals("João", app.funcionarioComMaiorIdade().getNome());
+    }
+
+    @Test
+    @DisplayName("Teste remover ultimo funcionario da funcao deve remover a funcao dos agregados")
+    public void testRemoverUltimoDaFuncao() {
+        App app = criarApp(ModoExecucao.SEQUENCIAL);
+
+        app.removerFuncionario("Maria");
+
+        assertFalse(app.quantidadePorFuncao().containsKey("Gerente"));
+        assertFalse(app.totalSalarioPorFuncao().containsKey("Gerente"));
+    }
+
+    @Test
+    @DisplayName("Teste agregados vazios")
+    public void testVazio() {
+        AgregadosFolha agregados = AgregadosFolha.de(List.of());
+        assertNull(agregados.maisVelho());
+        assertEquals(BigDecimal.ZERO, agregados.totalSalarios());
+
+        Funcionario funcionario = new Funcionario("Ana", LocalDate.of(1980, 1, 1), new BigDecimal("10.00"), "Operador");
+        agregados.adicionar(funcionario);
+        agregados.remover(funcionario);
+        agregados.remover(funcionario);
+
+        assertEquals(0, agregados.quantidade());
+        assertEquals(BigDecimal.ZERO, agregados.totalSalarios());
+        assertNull(agregados.maisVelho());
+    }
+
+    @Test
+    @DisplayName("Teste carregar funcionarios com campos ausentes deve ignorar os campos nulos nos agregados")
+    public void testCamposAusentes() {
+        App app = new App();
+        String json = "[{\"nome\":\"A\",\"salario\":10.00,\"funcao\":\"X\"},"
+                + "{\"nome\":\"B\",\"dataNascimento\":\"1990-01-01\",\"funcao\":\"X\"}]";
+        List<Funcionario> funcionarios = app.criarListaFuncionarios(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, funcionarios.size());
+        assertEquals(new BigDecimal("10.00"), app.totalSalarioFuncionarios());
+        assertEquals(new BigDecimal("10.00"), app.totalSalarioPorFuncao().get("X"));
+        assertEquals(2, app.quantidadePorFuncao().get("X"));
+        assertEquals("B", app.funcionarioComMaiorIdade().getNome());
+
+        app.removerFuncionario("B");
+        assertNull(app.funcionarioComMaiorIdade());
+        app.removerFuncionario("A");
+        assertEquals(BigDecimal.ZERO, app.totalSalarioFuncionarios());
+        assertTrue(app.quantidadePorFuncao().isEmpty());
+    }
+}
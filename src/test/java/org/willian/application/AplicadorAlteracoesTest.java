@@ -0,0 +1,202 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Alteracao;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AplicadorAlteracoesTest {
+
+    private static InputStream texto(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private App criarApp() {
+        App app = new App();
+        app.criarListaFuncionarios(texto("[" +
+                "{\"nome\": \"João\", \"salario\": 2000.00, \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Operador\"}," +
+                "{\"nome\": \"Maria\", \"salario\": 3000.00, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Gerente\"}," +
+                "{\"nome\": \"Caio\", \"salario\": 2500.00, \"dataNascimento\": \"1990-12-01\", \"funcao\": \"Operador\"}" +
+                "]"));
+        return app;
+    }
+
+    private static void assertAgregadosConsistentes(App app) {
+        BigDecimal total = app.funcionarios.stream().map(Funcionario::getSalario).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, total.compareTo(app.totalSalarioFuncionarios()));
+
+        Map<String, BigDecimal> porFuncao = app.funcionarios.stream().collect(Collectors.groupingBy(
+                Funcionario::getFuncao, Collectors.reducing(BigDecimal.ZERO, Funcionario::getSalario, BigDecimal::add)));
+        assertEquals(porFuncao.keySet(), app.totalSalarioPorFuncao().keySet());
+        porFuncao.forEach((funcao, valor) -> assertEquals(0, valor.compareTo(app.totalSalarioPorFuncao().get(funcao))));
+    }
+
+    @Test
+    @DisplayName("Teste arquivo NDJSON deve inserir, remover, alterar salario e reajustar funcao")
+    public void testAplicarArquivo() throws IOException {
+        App app = criarApp();
+        String ndjson = """
+                {"tipo": "INSERIR", "funcionario": {"nome": "Ana", "salario": 1800.00, "dataNascimento": "1999-01-10", "funcao": "Operador"}}
+                {"tipo": "REMOVER", "nome": "JOÃO"}
+                {"tipo": "SALARIO", "nome": "maria", "salario": 3500.00}
+                {"tipo": "AUMENTO_FUNCAO", "funcao": "Operador", "fator": 1.10}
+                {"tipo": "REMOVER", "nome": "Inexistente"}
+                """;
+
+        ResumoAlteracoes resumo = new AplicadorAlteracoes(app).aplicar(texto(ndjson));
+
+        assertEquals(new ResumoAlteracoes(1, 1, 1, 2, 1), resumo);
+        assertEquals(List.of("Maria", "Caio", "Ana"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertEquals(new BigDecimal("3500.00"), app.funcionarios.get(0).getSalario());
+        assertEquals(new BigDecimal("2750.00"), app.funcionarios.get(1).getSalario());
+        assertEquals(new BigDecimal("1980.00"), app.funcionarios.get(2).getSalario());
+        assertEquals(new BigDecimal("8230.00"), app.totalSalarioFuncionarios());
+        assertAgregadosConsistentes(app);
+    }
+
+    @Test
+    @DisplayName("Teste evento invalido deve lancar IOException mantendo os eventos anteriores aplicados")
+    public void testEventoInvalido() {
+        App app = criarApp();
+        String ndjson = """
+                {"tipo": "REMOVER", "nome": "Caio"}
+                {"tipo": "DEMITIR", "nome": "Maria"}
+                """;
+
+        IOException erro = assertThrows(IOException.class, () -> new AplicadorAlteracoes(app).aplicar(texto(ndjson)));
+        assertTrue(erro.getMessage().contains("linha 2"), erro.getMessage());
+        assertEquals(List.of("João", "Maria"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertAgregadosConsistentes(app);
+
+        assertThrows(IOException.class, () -> new AplicadorAlteracoes(app).aplicar(texto("{\"tipo\": \"SALARIO\", \"nome\": \"Maria\"}")));
+
+        String semData = """
+                {"tipo": "REMOVER", "nome": "Inexistente"}
+                {"tipo": "INSERIR", "funcionario": {"nome": "Ana", "salario": 1800.00, "funcao": "Operador"}}
+                """;
+        erro = assertThrows(IOException.class, () -> new AplicadorAlteracoes(app).aplicar(texto(semData)));
+        assertTrue(erro.getMessage().contains("linha 2") && erro.getMessage().contains("dataNascimento"), erro.getMessage());
+        assertEquals(List.of("João", "Maria"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertAgregadosConsistentes(app);
+    }
+
+    @Test
+    @DisplayName("Teste indice deve ser reconstruido quando a App mudar por fora do aplicador, mesmo sem mudar de tamanho")
+    public void testIndiceAposAlteracaoExterna() {
+        App app = criarApp();
+        AplicadorAlteracoes aplicador = new AplicadorAlteracoes(app);
+        aplicador.aplicar(List.of(new Alteracao.Remover("Inexistente")));
+
+        app.removerFuncionario("Caio");
+        new AplicadorAlteracoes(app).aplicar(List.of(new Alteracao.Inserir(
+                new Funcionario("Ana", LocalDate.of(1999, 1, 10), new BigDecimal("1800.00"), "Operador"))));
+
+        ResumoAlteracoes resumo = aplicador.aplicar(List.of(new Alteracao.AlterarSalario("Ana", new BigDecimal("1900.00")),
+                new Alteracao.Remover("Caio")));
+        assertEquals(1, resumo.salariosAlterados());
+        assertEquals(1, resumo.semCorrespondencia());
+        assertEquals(List.of("João", "Maria", "Ana"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertAgregadosConsistentes(app);
+    }
+
+    @Test
+    @DisplayName("Teste App com funcionario sem data de nascimento deve aceitar alteracoes")
+    public void testFuncionarioSemDataNascimento() {
+        App app = new App();
+        app.criarListaFuncionarios(texto("[" +
+                "{\"nome\": \"João\", \"salario\": 2000.00, \"funcao\": \"Operador\"}," +
+                "{\"nome\": \"Maria\", \"salario\": 3000.00, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Gerente\"}" +
+                "]"));
+
+        ResumoAlteracoes resumo = new AplicadorAlteracoes(app).aplicar(List.of(
+                new Alteracao.AumentoFuncao("Operador", new BigDecimal("1.10")),
+                new Alteracao.Remover("joão")));
+
+        assertEquals(new ResumoAlteracoes(0, 1, 0, 1, 0), resumo);
+        assertEquals(List.of("Maria"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertAgregadosConsistentes(app);
+    }
+
+    @Test
+    @DisplayName("Teste reajuste por funcao deve arredondar como o aumento da App")
+    public void testMesmoFatorDaApp() {
+        App app = new App();
+        app.carregarFuncionarios(new ArrayList<>(List.of(
+                new Funcionario("Ana", LocalDate.of(1999, 1, 10), new BigDecimal("10.10"), "Operador"))));
+        App reajustada = new App();
+        reajustada.carregarFuncionarios(new ArrayList<>(List.of(
+                new Funcionario("Ana", LocalDate.of(1999, 1, 10), new BigDecimal("10.10"), "Operador"))));
+
+        app.adicionarAumentoDeSalario(1.15);
+        new AplicadorAlteracoes(reajustada).aplicar(List.of(new Alteracao.AumentoFuncao("Operador", new BigDecimal("1.15"))));
+
+        assertEquals(app.funcionarios.get(0).getSalario(), reajustada.funcionarios.get(0).getSalario());
+        assertEquals(app.totalSalarioFuncionarios(), reajustada.totalSalarioFuncionarios());
+    }
+
+    @Test
+    @DisplayName("Teste funcionario removido e incluido de novo no mesmo lote deve ir para o fim da lista")
+    public void testRemoverEIncluirNoMesmoLote() {
+        App app = criarApp();
+        Funcionario joao = app.funcionarios.get(0);
+
+        ResumoAlteracoes resumo = new AplicadorAlteracoes(app).aplicar(List.of(
+                new Alteracao.Remover("João"),
+                new Alteracao.Inserir(joao),
+                new Alteracao.AlterarSalario("joão", new BigDecimal("2100.00"))));
+
+        assertEquals(new ResumoAlteracoes(1, 1, 1, 0, 0), resumo);
+        assertEquals(List.of("Maria", "Caio", "João"), app.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertEquals(List.of("Caio", "João"), app.funcionariosPorFuncao().get("Operador").stream().map(Funcionario::getNome).toList());
+        assertEquals(new BigDecimal("7600.00"), app.totalSalarioFuncionarios());
+        assertAgregadosConsistentes(app);
+    }
+
+    private static List<Alteracao> alteracoesAleatorias() {
+        Random random = new Random(11);
+        String[] funcoes = {"Operador", "Gerente", "Diretor"};
+        List<Alteracao> alteracoes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            String nome = "Funcionario " + random.nextInt(300);
+            switch (random.nextInt(4)) {
+                case 0 -> alteracoes.add(new Alteracao.Inserir(new Funcionario(nome, LocalDate.of(1980, 1, 1).plusDays(i),
+                        BigDecimal.valueOf(100_000 + random.nextInt(500_000), 2), funcoes[random.nextInt(funcoes.length)])));
+                case 1 -> alteracoes.add(new Alteracao.Remover(nome));
+                case 2 -> alteracoes.add(new Alteracao.AlterarSalario(nome, BigDecimal.valueOf(random.nextInt(900_000), 2)));
+                default -> alteracoes.add(new Alteracao.AumentoFuncao(funcoes[random.nextInt(funcoes.length)], new BigDecimal("1.01")));
+            }
+        }
+        return alteracoes;
+    }
+
+    @Test
+    @DisplayName("Teste resultado deve ser o mesmo para qualquer tamanho de lote")
+    public void testTamanhoDoLote() {
+        App umPorLote = criarApp();
+        ResumoAlteracoes resumoUm = new AplicadorAlteracoes(umPorLote, 1).aplicar(alteracoesAleatorias());
+        App tudoEmUmLote = criarApp();
+        ResumoAlteracoes resumoTudo = new AplicadorAlteracoes(tudoEmUmLote, 10_000).aplicar(alteracoesAleatorias());
+
+        assertEquals(resumoUm, resumoTudo);
+        assertEquals(umPorLote.funcionarios.stream().map(Funcionario::getNome).toList(),
+                tudoEmUmLote.funcionarios.stream().map(Funcionario::getNome).toList());
+        assertEquals(umPorLote.funcionarios.stream().map(Funcionario::getSalario).toList(),
+                tudoEmUmLote.funcionarios.stream().map(Funcionario::getSalario).toList());
+        assertAgregadosConsistentes(umPorLote);
+        assertAgregadosConsistentes(tudoEmUmLote);
+    }
+}
@@ -0,0 +1,118 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AppParaleloTest {
+    private static final int QUANTIDADE = 20_000;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void encerrarPool() {
+        pool.shutdownNow();
+    }
+
+    private String getJsonGrande() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < QUANTIDADE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            long centavos = 100000 + random.nextInt(2_000_000);
+            json.append("{\"nome\": \"Funcionario ").append(i)
+                    .append("\", \"salario\": ").append(centavos / 100).append('.').append(String.format("%02d", centavos % 100))
+                    .append(", \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Operador\"}");
+        }
+        return json.append(']').toString();
+    }
+
+    private App criarApp(ModoExecucao modo) {
+        App app = new App(modo, pool);
+        app.criarListaFuncionarios(new ByteArrayInputStream(getJsonGrande().getBytes(StandardCharsets.UTF_8)));
+        return app;
+    }
+
+    @Test
+    @DisplayName("Teste modo paralelo deve produzir os mesmos salarios do modo sequencial apos o aumento")
+    public void testAumentoParaleloIgualSequencial() {
+        App sequencial = criarApp(ModoExecucao.SEQUENCIAL);
+        App paralelo = criarApp(ModoExecucao.PARALELO);
+
+        List<Funcionario> esperados = sequencial.adicionarAumentoDeSalario(1.10);
+        List<Funcionario> obtidos = paralelo.adicionarAumentoDeSalario(1.10);
+
+        assertEquals(esperados.size(), obtidos.size());
+        for (int i = 0; i < esperados.size(); i++) {
+            assertEquals(esperados.get(i).getSalario(), obtidos.get(i).getSalario());
+        }
+    }
+
+    @Test
+    @DisplayName("Teste modo paralelo deve produzir o mesmo total de salarios do modo sequencial")
+    public void testTotalParaleloIgualSequencial() {
+        App sequencial = criarApp(ModoExecucao.SEQUENCIAL);
+        App paralelo = criarApp(ModoExecucao.PARALELO);
+
+        BigDecimal esperado = sequencial.totalSalarioFuncionarios();
+        assertEquals(esperado, paralelo.totalSalarioFuncionarios());
+        assertEquals(esperado, paralelo.totalSalarioFuncionarios(), "O total deve ser deterministico.");
+    }
+
+    @Test
+    @DisplayName("Teste modo paralelo deve produzir as mesmas quantidades de salarios minimos do modo sequencial")
+    public void testSalariosMinimosParaleloIgualSequencial() {
+        App sequencial = criarApp(ModoExecucao.SEQUENCIAL);
+        App paralelo = criarApp(ModoExecucao.PARALELO);
+
+        assertEquals(sequencial.quantidadeSalariosMinimos(), paralelo.quantidadeSalariosMinimos());
+    }
+
+    @Test
+    @DisplayName("Teste quantidadeSalariosMinimos deve arredondar HALF_UP com 2 casas")
+    public void testQuantidadeSalariosMinimos() {
+        App app = new App(ModoExecucao.PARALELO, pool);
+        app.criarListaFuncionarios(new ByteArrayInputStream(
+                "[{\"nome\": \"Ana\", \"salario\": 2424.00, \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Operador\"}]"
+                        .getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of(new BigDecimal("2.00")), app.quantidadeSalariosMinimos());
+    }
+
+    @Test
+    @DisplayName("Teste aumento que falha em uma subtarefa nao deve alterar nenhum salario nem os agregados")
+    public void testAumentoComFalha() {
+        for (ModoExecucao modo : ModoExecucao.values()) {
+            App app = new App(modo, pool);
+            List<Funcionario> funcionarios = new ArrayList<>();
+            for (int i = 0; i < QUANTIDADE; i++) {
+                BigDecimal salario = i == QUANTIDADE - 10 ? null : BigDecimal.valueOf(100_000 + i, 2);
+                funcionarios.add(new Funcionario("Funcionario " + i, LocalDate.of(1980, 5, 12), salario, "Operador"));
+            }
+            app.carregarFuncionarios(funcionarios);
+            List<BigDecimal> salarios = app.funcionarios.stream().map(Funcionario::getSalario).toList();
+            BigDecimal total = app.totalSalarioFuncionarios();
+            long versao = app.getVersao();
+
+            assertThrows(NullPointerException.class, () -> app.adicionarAumentoDeSalario(1.10), modo.name());
+
+            assertEquals(salarios, app.funcionarios.stream().map(Funcionario::getSalario).toList(), modo.name());
+            assertEquals(total, app.totalSalarioFuncionarios(), modo.name());
+            assertEquals(versao, app.getVersao(), modo.name());
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheConsultasTest {
+
+    private App getSampleApp() {
+        String json = "[" +
+                "{\"nome\": \"João\", \"salario\": 2000.00, \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Analista\"}," +
+                "{\"nome\": \"Maria\", \"salario\": 3000.00, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Gerente\"}," +
+                "{\"nome\": \"Caio\", \"salario\": 2500.00, \"dataNascimento\": \"1990-12-01\", \"funcao\": \"Analista\"}" +
+                "]";
+        App app = new App();
+        app.criarListaFuncionarios(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return app;
+    }
+
+    @Test
+    @DisplayName("Teste consultas repetidas devem ser respondidas pelo cache")
+    public void testAcertos() {
+        CacheConsultas cache = new CacheConsultas(getSampleApp());
+
+        List<Funcionario> primeira = cache.funcionarioOrdemAlfabetica();
+        List<Funcionario> segunda = cache.funcionarioOrdemAlfabetica();
+        cache.funcionariosPorAniversario(5, 12);
+        cache.funcionariosPorAniversario(5, 12);
+        cache.funcionariosPorAniversario(12, 5);
+
+        assertSame(primeira, segunda);
+        assertEquals(List.of("Caio", "João", "Maria"), primeira.stream().map(Funcionario::getNome).toList());
+        EstatisticasCache estatisticas = cache.estatisticas();
+        assertEquals(2, estatisticas.acertos());
+        assertEquals(3, estatisticas.falhas());
+        assertEquals(3, estatisticas.entradas());
+        assertEquals(0.4, estatisticas.taxaAcerto(), 1e-9);
+        assertThrows(UnsupportedOperationException.class, () -> primeira.remove(0));
+    }
+
+    @Test
+    @DisplayName("Teste alteracoes nos dados devem invalidar os resultados guardados")
+    public void testInvalidacaoPorVersao() {
+        App app = getSampleApp();
+        CacheConsultas cache = new CacheConsultas(app);
+
+        Map<String, List<Funcionario>> antes = cache.funcionariosPorFuncao();
+        assertEquals(2, antes.get("Analista").size());
+        assertThrows(UnsupportedOperationException.class, () -> antes.get("Analista").clear());
+
+        long versao = app.getVersao();
+        app.removerFuncionario("Caio");
+        assertNotEquals(versao, app.getVersao());
+        assertEquals(1, cache.funcionariosPorFuncao().get("Analista").size());
+
+        versao = app.getVersao();
+        app.removerFuncionario("Inexistente");
+        assertEquals(versao, app.getVersao());
+
+        app.adicionarAumentoDeSalario(1.10);
+        cache.funcionariosPorFuncao();
+        assertEquals(2, cache.estatisticas().invalidadas());
+        assertEquals(0, cache.estatisticas().acertos());
+    }
+
+    @Test
+    @DisplayName("Teste entradas devem expirar depois do tempo de vida")
+    public void testTempoDeVida() {
+        AtomicLong agora = new AtomicLong();
+        CacheConsultas cache = new CacheConsultas(getSampleApp(), 10, 1 << 20, Duration.ofSeconds(1), agora::get);
+
+        cache.funcionarioOrdemAlfabetica();
+        agora.addAndGet(Duration.ofMillis(999).toNanos());
+        cache.funcionarioOrdemAlfabetica();
+        agora.addAndGet(Duration.ofMillis(2).toNanos());
+        cache.funcionarioOrdemAlfabetica();
+
+        EstatisticasCache estatisticas = cache.estatisticas();
+        assertEquals(1, estatisticas.acertos());
+        assertEquals(1, estatisticas.expiradas());
+        assertEquals(2, estatisticas.falhas());
+    }
+
+    @Test
+    @DisplayName("Teste limites de entradas e de memoria devem despejar as entradas menos usadas")
+    public void testDespejoLru() {
+        CacheConsultas cache = new CacheConsultas(getSampleApp(), 2, 1 << 20, Duration.ofMinutes(1));
+
+        cache.funcionariosPorAniversario(1, 2);
+        cache.funcionariosPorAniversario(3, 4);
+        cache.funcionariosPorAniversario(1, 2);
+        cache.funcionariosPorAniversario(5, 6);
+        cache.funcionariosPorAniversario(1, 2);
+        cache.funcionariosPorAniversario(3, 4);
+
+        EstatisticasCache estatisticas = cache.estatisticas();
+        assertEquals(2, estatisticas.entradas());
+        assertEquals(2, estatisticas.despejos());
+        assertEquals(2, estatisticas.acertos());
+
+        long umaLista = CacheConsultas.estimarBytes(List.of());
+        CacheConsultas pequeno = new CacheConsultas(getSampleApp(), 10, umaLista * 2, Duration.ofMinutes(1));
+        pequeno.funcionariosPorAniversario(1, 2);
+        pequeno.funcionariosPorAniversario(3, 4);
+        pequeno.funcionariosPorAniversario(7, 8);
+        pequeno.funcionarioOrdemAlfabetica();
+        assertEquals(1, pequeno.estatisticas().entradas());
+        assertTrue(pequeno.estatisticas().bytesEstimados() <= umaLista * 2);
+        assertEquals(3, pequeno.estatisticas().despejos());
+    }
+}
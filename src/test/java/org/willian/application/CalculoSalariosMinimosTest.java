@@ -0,0 +1,88 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculoSalariosMinimosTest {
+
+    private static Funcionario funcionario(String nome, String salario) {
+        return new Funcionario(nome, LocalDate.of(1990, 1, 1), new BigDecimal(salario), "Operador");
+    }
+
+    private App getSampleApp() {
+        App app = new App();
+        app.carregarFuncionarios(new ArrayList<>(List.of(
+                funcionario("Ana", "1212.00"),
+                funcionario("Bruno", "1212.01"),
+                funcionario("Caio", "3636.00"),
+                funcionario("Davi", "30000.00")
+        )));
+        return app;
+    }
+
+    @Test
+    @DisplayName("Teste tabela nacional deve usar o ultimo valor vigente no ano")
+    public void testTabelaNacional() {
+        TabelaSalarioMinimo tabela = TabelaSalarioMinimo.nacional();
+
+        assertEquals(new BigDecimal("1212.00"), tabela.valor(2022));
+        assertEquals(new BigDecimal("1320.00"), tabela.valor(2023));
+        assertEquals(new BigDecimal("1412.00"), tabela.valor(2024));
+        assertEquals(new BigDecimal("1518.00"), tabela.valor(2025));
+        assertEquals(new BigDecimal("1518.00"), tabela.valor(2030));
+        assertThrows(IllegalArgumentException.class, () -> tabela.valor(2021));
+        assertThrows(IllegalArgumentException.class, () -> TabelaSalarioMinimo.de(Map.of(2020, BigDecimal.ZERO)));
+    }
+
+    @Test
+    @DisplayName("Teste salariosMinimos deve entregar as quantidades ao destino e contar as faixas em uma passada")
+    public void testSalariosMinimosComFaixas() {
+        App app = getSampleApp();
+        List<String> linhas = new ArrayList<>();
+
+        FaixasSalariais faixas = app.salariosMinimos((funcionario, quantidade) -> linhas.add(funcionario.getNome() + "=" + quantidade));
+
+        assertEquals(List.of("Ana=1.00", "Bruno=1.00", "Caio=3.00", "Davi=24.75"), linhas);
+        assertEquals(7, faixas.quantidadeFaixas());
+        assertEquals(1, faixas.quantidade(0));
+        assertEquals(1, faixas.quantidade(1));
+        assertEquals(1, faixas.quantidade(2));
+        assertEquals(1, faixas.quantidade(6));
+        assertEquals(4, faixas.total());
+        assertEquals("ate 1", faixas.descricao(0));
+        assertEquals("mais de 2 ate 3", faixas.descricao(2));
+        assertEquals("mais de 20", faixas.descricao(6));
+        assertEquals(app.quantidadeSalariosMinimos(), List.of(
+                new BigDecimal("1.00"), new BigDecimal("1.00"), new BigDecimal("3.00"), new BigDecimal("24.75")));
+    }
+
+    @Test
+    @DisplayName("Teste salario minimo configurado deve ser usado nas quantidades e nas faixas")
+    public void testSalarioMinimoConfiguravel() {
+        App app = getSampleApp();
+        app.setSalarioMinimo(TabelaSalarioMinimo.nacional(), 2025);
+
+        assertEquals(new BigDecimal("1518.00"), app.getSalarioMinimo());
+        assertEquals(new BigDecimal("0.80"), app.quantidadeSalariosMinimos().get(0));
+        FaixasSalariais faixas = app.faixasSalariais();
+        assertEquals(2, faixas.quantidade(0));
+        assertEquals(1, faixas.quantidade(2));
+        assertEquals(1, faixas.quantidade(5));
+
+        CalculoSalariosMinimos calculo = new CalculoSalariosMinimos(new BigDecimal("1000.00"), List.of(BigDecimal.ONE, new BigDecimal("1.5")));
+        assertEquals(0, calculo.faixa(new BigDecimal("1000.00")));
+        assertEquals(1, calculo.faixa(new BigDecimal("1500.00")));
+        assertEquals(2, calculo.faixa(new BigDecimal("1500.01")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculoSalariosMinimos(BigDecimal.TEN, List.of(BigDecimal.TEN, BigDecimal.ONE)));
+    }
+}
@@ -0,0 +1,122 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarioAniversariosTest {
+
+    private static Funcionario funcionario(String nome, LocalDate nascimento) {
+        return new Funcionario(nome, nascimento, new BigDecimal("2000.00"), "Operador");
+    }
+
+    private static List<String> nomes(List<Funcionario> funcionarios) {
+        return funcionarios.stream().map(Funcionario::getNome).toList();
+    }
+
+    @Test
+    @DisplayName("Teste aniversariantes devem respeitar a virada do ano e o 29 de fevereiro")
+    public void testAniversariantes() {
+        CalendarioAniversarios calendario = CalendarioAniversarios.de(List.of(
+                funcionario("Ana", LocalDate.of(1990, 12, 31)),
+                funcionario("Bia", LocalDate.of(2000, 2, 29)),
+                funcionario("Caio", LocalDate.of(1985, 1, 1)),
+                funcionario("Davi", LocalDate.of(1970, 2, 28)),
+                funcionario("Eva", LocalDate.of(1999, 3, 1)),
+                funcionario("Gil", LocalDate.of(1980, 12, 31))));
+
+        assertEquals(List.of("Ana", "Gil", "Caio"), nomes(calendario.aniversariantesEntre(MonthDay.of(12, 15), MonthDay.of(1, 15))));
+        assertEquals(List.of("Davi", "Bia", "Eva"), nomes(calendario.aniversariantesEntre(MonthDay.of(2, 1), MonthDay.of(3, 1))));
+
+        assertEquals(List.of("Davi", "Bia"), nomes(calendario.aniversariantesProximosDias(LocalDate.of(2025, 2, 28), 1)));
+        assertEquals(List.of("Davi"), nomes(calendario.aniversariantesProximosDias(LocalDate.of(2024, 2, 28), 1)));
+        assertEquals(List.of("Bia"), nomes(calendario.aniversariantesProximosDias(LocalDate.of(2024, 2, 29), 1)));
+        assertEquals(List.of("Eva"), nomes(calendario.aniversariantesProximosDias(LocalDate.of(2025, 3, 1), 30)));
+        assertEquals(List.of("Ana", "Gil", "Caio", "Davi", "Bia"),
+                nomes(calendario.aniversariantesProximosDias(LocalDate.of(2024, 12, 31), 60)));
+        assertEquals(List.of("Eva", "Ana", "Gil", "Caio", "Davi", "Bia"),
+                nomes(calendario.aniversariantesProximosDias(LocalDate.of(2025, 3, 1), 1000)));
+        assertThrows(IllegalArgumentException.class, () -> calendario.aniversariantesProximosDias(LocalDate.of(2025, 1, 1), 0));
+    }
+
+    @Test
+    @DisplayName("Teste consultas do indice devem ser iguais a varredura completa com Period.between")
+    public void testComparacaoComVarredura() {
+        Random random = new Random(7);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            LocalDate nascimento = LocalDate.of(1940, 1, 1).plusDays(random.nextInt(23000));
+            funcionarios.add(funcionario("F" + i, i % 50 == 0 ? LocalDate.of(1960 + i / 50 % 10 * 4, 2, 29) : nascimento));
+        }
+        CalendarioAniversarios calendario = CalendarioAniversarios.de(funcionarios);
+
+        for (int consulta = 0; consulta < 200; consulta++) {
+            LocalDate hoje = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(3000));
+            int dias = 1 + random.nextInt(400);
+
+            Set<Funcionario> esperados = new HashSet<>();
+            for (Funcionario funcionario : funcionarios) {
+                for (int d = 0; d < Math.min(dias, 366); d++) {
+                    LocalDate data = hoje.plusDays(d);
+                    LocalDate aniversario = funcionario.getDataNascimento().withYear(data.getYear());
+                    if (aniversario.equals(data)) {
+                        esperados.add(funcionario);
+                        break;
+                    }
+                }
+            }
+            List<Funcionario> aniversariantes = calendario.aniversariantesProximosDias(hoje, dias);
+            assertEquals(esperados.size(), aniversariantes.size(), hoje + " + " + dias);
+            assertEquals(esperados, new HashSet<>(aniversariantes));
+
+            int[] limites = {18, 30, 45, 60, 75};
+            int[] esperadas = new int[limites.length + 1];
+            for (Funcionario funcionario : funcionarios) {
+                int idade = Period.between(funcionario.getDataNascimento(), hoje).getYears();
+                assertEquals(idade, CalendarioAniversarios.idade(funcionario.getDataNascimento(), hoje));
+                int faixa = 0;
+                while (faixa < limites.length && idade >= limites[faixa]) {
+                    faixa++;
+                }
+                esperadas[faixa]++;
+            }
+            assertArrayEquals(esperadas, calendario.quantidadePorFaixaEtaria(hoje, limites));
+
+            long entre30e44 = funcionarios.stream()
+                    .filter(f -> CalendarioAniversarios.idade(f.getDataNascimento(), hoje) >= 30)
+                    .filter(f -> CalendarioAniversarios.idade(f.getDataNascimento(), hoje) <= 44)
+                    .count();
+            assertEquals(entre30e44, calendario.funcionariosComIdadeEntre(hoje, 30, 44).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Teste o indice da App deve ser recriado quando os dados mudarem")
+    public void testIndiceDaApp() {
+        App app = new App();
+        app.carregarFuncionarios(new ArrayList<>(List.of(
+                funcionario("Ana", LocalDate.of(1990, 5, 10)),
+                funcionario("Bia", LocalDate.of(1960, 5, 12)))));
+
+        CalendarioAniversarios calendario = app.calendarioAniversarios();
+        assertSame(calendario, app.calendarioAniversarios());
+        assertEquals(List.of("Ana", "Bia"), nomes(app.aniversariantesEntre(MonthDay.of(5, 1), MonthDay.of(5, 31))));
+        assertArrayEquals(new int[] {1, 1}, app.quantidadePorFaixaEtaria(LocalDate.of(2025, 1, 1), 60));
+
+        app.removerFuncionario("Ana");
+        assertNotSame(calendario, app.calendarioAniversarios());
+        assertEquals(List.of("Bia"), nomes(app.aniversariantesProximosDias(LocalDate.of(2025, 5, 1), 31)));
+    }
+}
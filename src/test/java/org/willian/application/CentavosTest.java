@@ -0,0 +1,117 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a aritmetica em centavos com o calculo em BigDecimal da App para muitos valores aleatorios
+ * (com semente fixa, para que uma falha seja reproduzivel).
+ */
+public class CentavosTest {
+    private static final int CASOS = 200_000;
+
+    private static long centavosAleatorios(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextInt(2_000_000);
+            case 1 -> random.nextLong(-1_000_000_000L, 1_000_000_000_000L);
+            case 2 -> random.nextLong() >> random.nextInt(64);
+            default -> random.nextInt(201) - 100;
+        };
+    }
+
+    private static double fatorAleatorio(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> 1 + random.nextInt(100) / 100.0;
+            case 1 -> random.nextDouble() * 3;
+            case 2 -> Math.scalb(random.nextDouble(), random.nextInt(-80, 20)) * (random.nextBoolean() ? 1 : -1);
+            case 3 -> random.nextInt(-5, 1_000);
+            default -> Double.longBitsToDouble(random.nextLong(1, Double.doubleToRawLongBits(Double.MIN_NORMAL)));
+        };
+    }
+
+    @Test
+    @DisplayName("Teste aumento em centavos deve ser igual a multiply(new BigDecimal(fator)).setScale(2, HALF_UP)")
+    public void testAumentoIgualBigDecimal() {
+        Random random = new Random(2022);
+        for (int i = 0; i < CASOS; i++) {
+            long centavos = centavosAleatorios(random);
+            double fator = fatorAleatorio(random);
+            BigDecimal esperado = BigDecimal.valueOf(centavos, 2).multiply(new BigDecimal(fator)).setScale(2, RoundingMode.HALF_UP);
+
+            long obtido;
+            try {
+                obtido = Centavos.Fator.de(fator).aplicar(centavos);
+            } catch (ArithmeticException e) {
+                assertTrue(esperado.movePointRight(2).abs().compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0,
+                        "overflow inesperado para " + centavos + " * " + fator);
+                continue;
+            }
+            assertEquals(esperado, Centavos.paraBigDecimal(obtido), centavos + " * " + fator);
+        }
+    }
+
+    @Test
+    @DisplayName("Teste salarios minimos em centesimos devem ser iguais a divide(salarioMinimo, 2, HALF_UP)")
+    public void testSalariosMinimosIgualBigDecimal() {
+        Random random = new Random(1212);
+        for (int i = 0; i < CASOS; i++) {
+            long centavos = centavosAleatorios(random) / 1000;
+            long minimo = random.nextBoolean() ? 121200 : random.nextLong(-10_000_000, 10_000_000);
+            if (minimo == 0) {
+                continue;
+            }
+            BigDecimal esperado = BigDecimal.valueOf(centavos, 2).divide(BigDecimal.valueOf(minimo, 2), 2, RoundingMode.HALF_UP);
+            assertEquals(esperado, BigDecimal.valueOf(Centavos.quantidadeSalariosMinimos(centavos, minimo), 2),
+                    centavos + " / " + minimo);
+        }
+        assertThrows(ArithmeticException.class, () -> Centavos.quantidadeSalariosMinimos(100, 0));
+    }
+
+    @Test
+    @DisplayName("Teste casos de borda do fator")
+    public void testBordasFator() {
+        assertEquals(0, Centavos.Fator.de(0.0).aplicar(123_45));
+        assertEquals(0, Centavos.Fator.de(-0.0).aplicar(123_45));
+        assertEquals(-123_45, Centavos.Fator.de(-1.0).aplicar(123_45));
+        assertEquals(2_469_000, Centavos.Fator.de(2.0).aplicar(1_234_500));
+        assertEquals(1, Centavos.Fator.de(0.005).aplicar(100));
+        assertThrows(NumberFormatException.class, () -> Centavos.Fator.de(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Centavos.Fator.de(4.0).aplicar(Long.MAX_VALUE / 2));
+        assertThrows(ArithmeticException.class, () -> Centavos.Fator.de(1.0).aplicar(Long.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("Teste store colunar deve produzir os mesmos salarios, proporcoes e total da App")
+    public void testStoreIgualApp() {
+        Random random = new Random(7);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + i, LocalDate.of(1980, 1, 1),
+                    BigDecimal.valueOf(random.nextInt(5_000_000), 2), "Operador"));
+        }
+        FuncionarioColumnarStore store = FuncionarioColumnarStore.de(funcionarios);
+        App app = new App();
+        app.carregarFuncionarios(funcionarios);
+
+        app.adicionarAumentoDeSalario(1.10);
+        store.adicionarAumentoDeSalario(1.10);
+        long[] proporcoes = store.quantidadeSalariosMinimos(new BigDecimal("1212.00"));
+        List<BigDecimal> esperadas = app.quantidadeSalariosMinimos();
+
+        for (int i = 0; i < funcionarios.size(); i++) {
+            assertEquals(funcionarios.get(i).getSalario(), Centavos.paraBigDecimal(store.salarioCentavos(i)));
+            assertEquals(esperadas.get(i), BigDecimal.valueOf(proporcoes[i], 2));
+        }
+        assertEquals(app.totalSalarioFuncionarios(), store.totalSalarioFuncionarios());
+    }
+}
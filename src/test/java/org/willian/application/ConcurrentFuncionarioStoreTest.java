@@ -0,0 +1,134 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentFuncionarioStoreTest {
+    private static final String[] FUNCOES = {"Operador", "Gerente", "Diretor", "Analista"};
+
+    private List<Funcionario> getFuncionarios(int quantidade) {
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + i, LocalDate.of(1960 + i % 40, 1 + i % 12, 1),
+                    new BigDecimal("1.00"), FUNCOES[i % FUNCOES.length]));
+        }
+        return funcionarios;
+    }
+
+    @Test
+    @DisplayName("Teste operacoes basicas devem ter o mesmo resultado da App")
+    public void testOperacoesBasicas() {
+        ConcurrentFuncionarioStore store = new ConcurrentFuncionarioStore(List.of(
+                new Funcionario("João", LocalDate.of(1980, 5, 12), new BigDecimal("2000.00"), "Analista"),
+                new Funcionario("Maria", LocalDate.of(1975, 9, 23), new BigDecimal("3000.00"), "Gerente"),
+                new Funcionario("Caio", LocalDate.of(1990, 12, 1), new BigDecimal("2500.00"), "Analista")
+        ));
+
+        assertEquals(1, store.removerFuncionario("joão"));
+        store.adicionarAumentoDeSalario(1.10);
+
+        assertEquals(new BigDecimal("6050.00"), store.totalSalarioFuncionarios());
+        assertEquals("Maria", store.funcionarioComMaiorIdade().getNome());
+        assertEquals(List.of("Caio", "Maria"), store.funcionarioOrdemAlfabetica().stream().map(Funcionario::getNome).toList());
+        assertEquals(1, store.funcionariosPorAniversario(9, 12).stream().filter(f -> f.getNome().equals("Caio")).count());
+        assertEquals(2, store.funcionariosPorFuncao().size());
+        assertEquals(2, store.snapshot().versao());
+    }
+
+    @Test
+    @DisplayName("Teste funcionarios do snapshot nao podem ser alterados")
+    public void testFuncionariosImutaveis() {
+        Funcionario original = new Funcionario("Ana", LocalDate.of(1980, 1, 1), new BigDecimal("10.00"), "Operador");
+        ConcurrentFuncionarioStore store = new ConcurrentFuncionarioStore(List.of(original));
+
+        original.setSalario(new BigDecimal("99.00"));
+        Funcionario publicado = store.snapshot().funcionarios().get(0);
+
+        assertEquals(new BigDecimal("10.00"), publicado.getSalario());
+        assertThrows(UnsupportedOperationException.class, () -> publicado.setSalario(BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Teste leitores concorrentes nunca devem ver um aumento aplicado pela metade")
+    public void testStressLeitoresEEscritor() throws Exception {
+        int quantidade = 5_000;
+        int aumentos = 40;
+        int leitores = 6;
+        ConcurrentFuncionarioStore store = new ConcurrentFuncionarioStore(getFuncionarios(quantidade));
+        ExecutorService executor = Executors.newFixedThreadPool(leitores + 1);
+        AtomicBoolean escrevendo = new AtomicBoolean(true);
+        AtomicLong leituras = new AtomicLong();
+        Queue<String> falhas = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int l = 0; l < leitores; l++) {
+            tarefas.add(executor.submit(() -> {
+                while (escrevendo.get()) {
+                    ConcurrentFuncionarioStore.Snapshot snapshot = store.snapshot();
+                    List<Funcionario> funcionarios = snapshot.funcionarios();
+                    BigDecimal salario = funcionarios.get(0).getSalario();
+
+                    for (Funcionario funcionario : funcionarios) {
+                        if (funcionario.getSalario().compareTo(salario) != 0) {
+                            falhas.add("Salarios diferentes na versao " + snapshot.versao());
+                            return;
+                        }
+                    }
+                    BigDecimal totalEsperado = salario.multiply(BigDecimal.valueOf(funcionarios.size()));
+                    if (snapshot.totalSalarioFuncionarios().compareTo(totalEsperado) != 0) {
+                        falhas.add("Total inconsistente na versao " + snapshot.versao());
+                    }
+                    Map<String, List<Funcionario>> porFuncao = snapshot.funcionariosPorFuncao();
+                    int agrupados = porFuncao.values().stream().mapToInt(List::size).sum();
+                    if (agrupados != funcionarios.size()) {
+                        falhas.add("Agrupamento inconsistente na versao " + snapshot.versao());
+                    }
+                    int aniversariantes = 0;
+                    for (int mes = 1; mes <= 12; mes += 2) {
+                        aniversariantes += snapshot.funcionariosPorAniversario(mes, mes + 1).size();
+                    }
+                    if (aniversariantes != funcionarios.size()) {
+                        falhas.add("Aniversariantes inconsistentes na versao " + snapshot.versao());
+                    }
+                    leituras.incrementAndGet();
+                }
+            }));
+        }
+
+        tarefas.add(executor.submit(() -> {
+            try {
+                for (int i = 0; i < aumentos; i++) {
+                    store.adicionarAumentoDeSalario(2.0);
+                    if (i % 10 == 0) {
+                        store.removerFuncionario("Funcionario " + i);
+                    }
+                }
+            } finally {
+                escrevendo.set(false);
+            }
+        }));
+
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(falhas.isEmpty(), String.join("\n", falhas));
+        assertTrue(leituras.get() > 0, "Os leitores devem ter feito ao menos uma leitura.");
+        assertEquals(quantidade - 4, store.snapshot().funcionarios().size());
+        assertEquals(0, new BigDecimal("2").pow(aumentos).compareTo(store.snapshot().funcionarios().get(0).getSalario()));
+    }
+}
@@ -0,0 +1,89 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConsultasOrdenadasTest {
+    private App getDataJsonApp() {
+        App app = new App();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("data.json");
+        app.criarListaFuncionarios(inputStream);
+        return app;
+    }
+
+    private static List<String> nomes(List<Funcionario> funcionarios) {
+        return funcionarios.stream().map(Funcionario::getNome).toList();
+    }
+
+    @Test
+    @DisplayName("Teste paginaAlfabetica deve paginar os funcionarios em ordem alfabetica pt-BR")
+    public void testPaginaAlfabetica() {
+        ConsultasOrdenadas consultas = new ConsultasOrdenadas(getDataJsonApp());
+
+        assertEquals(List.of("Alice", "Arthur", "Caio", "Heitor"), nomes(consultas.paginaAlfabetica(0, 4)));
+        assertEquals(List.of("Helena", "Heloísa", "João", "Laura"), nomes(consultas.paginaAlfabetica(1, 4)));
+        assertEquals(List.of("Maria", "Miguel"), nomes(consultas.paginaAlfabetica(2, 4)));
+        assertTrue(consultas.paginaAlfabetica(3, 4).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste ordem alfabetica deve usar colacao pt-BR para acentos e maiusculas")
+    public void testColacao() {
+        App app = new App();
+        LocalDate data = LocalDate.of(1990, 1, 1);
+        app.carregarFuncionarios(new ArrayList<>(List.of(
+                new Funcionario("igor", data, BigDecimal.TEN, "Operador"),
+                new Funcionario("Ícaro", data, BigDecimal.TEN, "Operador"),
+                new Funcionario("Ivo", data, BigDecimal.TEN, "Operador"))));
+
+        assertEquals(List.of("Ícaro", "igor", "Ivo"), nomes(new ConsultasOrdenadas(app).paginaAlfabetica(0, 10)));
+    }
+
+    @Test
+    @DisplayName("Teste maioresSalarios, maisVelhos e maisNovos devem retornar os k primeiros")
+    public void testTopK() {
+        ConsultasOrdenadas consultas = new ConsultasOrdenadas(getDataJsonApp());
+
+        assertEquals(List.of("Miguel", "Caio", "Arthur"), nomes(consultas.maioresSalarios(3)));
+        assertEquals(List.of("Caio", "Miguel"), nomes(consultas.maisVelhos(2)));
+        assertEquals(List.of("Heloísa", "Maria"), nomes(consultas.maisNovos(2)));
+        assertTrue(consultas.maisNovos(0).isEmpty());
+        assertEquals(10, consultas.maisNovos(100).size());
+    }
+
+    @Test
+    @DisplayName("Teste top-k deve coincidir com a ordenacao completa, inclusive em empates")
+    public void testTopKIgualOrdenacaoCompleta() {
+        Random random = new Random(3);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + random.nextInt(300),
+                    LocalDate.of(1960 + random.nextInt(5), 1 + random.nextInt(12), 1),
+                    BigDecimal.valueOf(random.nextInt(50), 0), "Operador"));
+        }
+        App app = new App();
+        app.carregarFuncionarios(funcionarios);
+        ConsultasOrdenadas consultas = new ConsultasOrdenadas(app);
+
+        List<Funcionario> porSalario = new ArrayList<>(funcionarios);
+        porSalario.sort(Comparator.comparing(Funcionario::getSalario).reversed());
+        assertEquals(porSalario.subList(0, 50), consultas.maioresSalarios(50));
+
+        List<Funcionario> porNome = new ArrayList<>(funcionarios);
+        porNome.sort(Comparator.comparing(Funcionario::getNome, Collator.getInstance(Locale.of("pt", "BR"))));
+        assertEquals(porNome.subList(40, 60), consultas.paginaAlfabetica(2, 20));
+    }
+}
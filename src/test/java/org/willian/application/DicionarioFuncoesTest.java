@@ -0,0 +1,71 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DicionarioFuncoesTest {
+
+    @Test
+    @DisplayName("Teste mesma funcao deve ter sempre o mesmo id")
+    public void testIdEstavel() {
+        DicionarioFuncoes dicionario = new DicionarioFuncoes();
+        int id = dicionario.id(new String("Operador"));
+
+        assertEquals(id, dicionario.id(new String("Operador")));
+        assertNotEquals(id, dicionario.id("Gerente"));
+        assertEquals("Operador", dicionario.funcao(id));
+        assertEquals(2, dicionario.quantidade());
+        assertEquals(id, dicionario.buscar("Operador"));
+        assertEquals(-1, dicionario.buscar("Diretor"));
+        assertThrows(IllegalArgumentException.class, () -> dicionario.funcao(2));
+        assertThrows(IllegalArgumentException.class, () -> dicionario.funcao(-1));
+    }
+
+    @Test
+    @DisplayName("Teste agrupamento por id deve ter os grupos do Collectors.groupingBy, na ordem em que as funcoes aparecem")
+    public void testAgrupamentoIgualGroupingBy() {
+        String[] funcoes = {"Operador", "Coordenador", "Diretor", "Recepcionista", "Contador", "Gerente", "Eletricista"};
+        Random random = new Random(7);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + i, LocalDate.of(1980, 1, 1).plusDays(i),
+                    BigDecimal.valueOf(100_000 + i, 2), new String(funcoes[random.nextInt(funcoes.length)])));
+        }
+
+        App app = new App();
+        app.carregarFuncionarios(funcionarios);
+        Map<String, List<Funcionario>> esperado = funcionarios.stream()
+                .collect(Collectors.groupingBy(Funcionario::getFuncao, LinkedHashMap::new, Collectors.toList()));
+        Map<String, List<Funcionario>> obtido = app.funcionariosPorFuncao();
+
+        assertEquals(esperado, obtido);
+        assertEquals(new ArrayList<>(esperado.keySet()), new ArrayList<>(obtido.keySet()));
+        assertEquals(esperado, app.funcionariosPorFuncao());
+
+        // Uma funcao cujos funcionarios foram todos removidos mantem a sua posicao se voltar a aparecer.
+        String primeiraFuncao = funcionarios.get(0).getFuncao();
+        funcionarios.stream().filter(f -> f.getFuncao().equals(primeiraFuncao)).map(Funcionario::getNome).toList()
+                .forEach(app::removerFuncionario);
+        assertFalse(app.funcionariosPorFuncao().containsKey(primeiraFuncao));
+        Funcionario novo = new Funcionario("Ana", LocalDate.of(1990, 1, 1), BigDecimal.ONE, primeiraFuncao);
+        app.inserirFuncionarios(List.of(novo));
+        assertEquals(primeiraFuncao, app.funcionariosPorFuncao().keySet().iterator().next());
+        assertEquals(List.of(novo), app.funcionariosPorFuncao().get(primeiraFuncao));
+
+        Funcionario semFuncao = new Funcionario("Bia", LocalDate.of(1990, 1, 1), BigDecimal.ONE, null);
+        app.inserirFuncionarios(List.of(semFuncao));
+        assertThrows(NullPointerException.class, app::funcionariosPorFuncao);
+    }
+}
@@ -0,0 +1,187 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Alteracao;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuncionarioColumnarStoreTest {
+    private FuncionarioColumnarStore getSampleStore() {
+        return FuncionarioColumnarStore.de(List.of(
+                new Funcionario("João", LocalDate.of(1980, 5, 12), new BigDecimal("2000.00"), "Analista"),
+                new Funcionario("Maria", LocalDate.of(1975, 9, 23), new BigDecimal("3000.00"), "Gerente"),
+                new Funcionario("Caio", LocalDate.of(1990, 12, 1), new BigDecimal("2500.00"), "Analista")
+        ));
+    }
+
+    @Test
+    @DisplayName("Teste de deve copiar os funcionarios para as colunas")
+    public void testDe() {
+        FuncionarioColumnarStore store = getSampleStore();
+
+        assertEquals(3, store.tamanho());
+        assertEquals(2, store.quantidadeFuncoes());
+        assertEquals(200000L, store.salarioCentavos(0));
+
+        Funcionario f1 = store.funcionario(0);
+        assertEquals("João", f1.getNome());
+        assertEquals(new BigDecimal("2000.00"), f1.getSalario());
+        assertEquals(LocalDate.of(1980, 5, 12), f1.getDataNascimento());
+        assertEquals("Analista", f1.getFuncao());
+    }
+
+    @Test
+    @DisplayName("Teste removerFuncionario deve remover ignorando maiusculas e minusculas")
+    public void testRemoverFuncionario() {
+        FuncionarioColumnarStore store = getSampleStore();
+
+        assertEquals(1, store.removerFuncionario("joão"));
+        assertEquals(2, store.tamanho());
+        assertEquals("Maria", store.nome(0));
+        assertEquals("Caio", store.nome(1));
+        assertEquals(0, store.removerFuncionario("Inexistente"));
+    }
+
+    @Test
+    @DisplayName("Teste adicionarAumentoDeSalario deve arredondar igual a App")
+    public void testAdicionarAumentoDeSalario() {
+        FuncionarioColumnarStore store = FuncionarioColumnarStore.de(List.of(
+                new Funcionario("Ana", LocalDate.of(1980, 1, 1), new BigDecimal("2009.44"), "Operador"),
+                new Funcionario("Bia", LocalDate.of(1980, 1, 1), new BigDecimal("0.05"), "Operador")
+        ));
+
+        store.adicionarAumentoDeSalario(1.10);
+
+        for (int i = 0; i < store.tamanho(); i++) {
+            BigDecimal original = i == 0 ? new BigDecimal("2009.44") : new BigDecimal("0.05");
+            BigDecimal esperado = original.multiply(new BigDecimal(1.10)).setScale(2, RoundingMode.HALF_UP);
+            assertEquals(esperado, store.funcionario(i).getSalario());
+        }
+    }
+
+    @Test
+    @DisplayName("Teste consultas devem ter o mesmo resultado da App")
+    public void testConsultas() {
+        FuncionarioColumnarStore store = getSampleStore();
+
+        Map<String, List<Funcionario>> agrupados = store.funcionariosPorFuncao();
+        assertEquals(2, agrupados.size());
+        assertEquals(List.of("João", "Caio"), agrupados.get("Analista").stream().map(Funcionario::getNome).toList());
+        assertEquals(1, agrupados.get("Gerente").size());
+
+        List<String> aniversariantes = store.funcionariosPorAniversario(5, 9).stream().map(Funcionario::getNome).toList();
+        assertEquals(List.of("João", "Maria"), aniversariantes);
+
+        assertEquals("Maria", store.funcionarioComMaiorIdade().getNome());
+
+        List<String> ordenados = store.funcionarioOrdemAlfabetica().stream().map(Funcionario::getNome).toList();
+        assertEquals(List.of("Caio", "João", "Maria"), ordenados);
+
+        assertEquals(new BigDecimal("7500.00"), store.totalSalarioFuncionarios());
+    }
+
+    @Test
+    @DisplayName("Teste consultas em armazenamento vazio")
+    public void testVazio() {
+        FuncionarioColumnarStore store = new FuncionarioColumnarStore();
+
+        assertNull(store.funcionarioComMaiorIdade());
+        assertTrue(store.funcionariosPorFuncao().isEmpty());
+        assertEquals(new BigDecimal("0.00"), store.totalSalarioFuncionarios());
+    }
+
+    @Test
+    @DisplayName("Teste salario com mais de duas casas decimais deve lancar ArithmeticException")
+    public void testSalarioComMaisCasas() {
+        FuncionarioColumnarStore store = new FuncionarioColumnarStore();
+        Funcionario funcionario = new Funcionario("Ana", LocalDate.of(1980, 1, 1), new BigDecimal("10.001"), "Operador");
+
+        assertThrows(ArithmeticException.class, () -> store.adicionar(funcionario));
+    }
+
+    @Test
+    @DisplayName("Teste funcionarioOrdemAlfabetica deve manter homonimos na ordem de insercao")
+    public void testOrdemAlfabeticaEstavel() {
+        Random random = new Random(3);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + random.nextInt(50), LocalDate.of(1980, 1, 1).plusDays(i),
+                    BigDecimal.valueOf(100_000 + i, 2), "Operador"));
+        }
+        List<Funcionario> esperado = new ArrayList<>(funcionarios);
+        esperado.sort(Comparator.comparing(Funcionario::getNome));
+
+        List<Funcionario> obtido = FuncionarioColumnarStore.de(funcionarios).funcionarioOrdemAlfabetica();
+
+        assertEquals(esperado.stream().map(Funcionario::getNome).toList(), obtido.stream().map(Funcionario::getNome).toList());
+        assertEquals(esperado.stream().map(Funcionario::getSalario).toList(), obtido.stream().map(Funcionario::getSalario).toList());
+        assertTrue(new FuncionarioColumnarStore().funcionarioOrdemAlfabetica().isEmpty());
+    }
+
+    private static void carregar(App app, Random random) {
+        String[] funcoes = {"Operador", "Gerente", "Diretor", "Contador"};
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            funcionarios.add(new Funcionario("Funcionario " + random.nextInt(200), LocalDate.of(1960, 1, 1).plusDays(random.nextInt(15_000)),
+                    BigDecimal.valueOf(100_000 + random.nextInt(900_000), 2), funcoes[random.nextInt(funcoes.length)]));
+        }
+        app.carregarFuncionarios(funcionarios);
+    }
+
+    private static <T> List<T> valores(List<Funcionario> funcionarios, Function<Funcionario, T> atributo) {
+        return funcionarios.stream().map(atributo).toList();
+    }
+
+    private static void assertMesmasConsultas(App objetos, App colunar) {
+        assertEquals(objetos.totalSalarioFuncionarios(), colunar.totalSalarioFuncionarios());
+        assertEquals(objetos.funcionarioComMaiorIdade().getDataNascimento(), colunar.funcionarioComMaiorIdade().getDataNascimento());
+        assertEquals(valores(objetos.funcionariosPorAniversario(3, 11), Funcionario::getNome),
+                valores(colunar.funcionariosPorAniversario(3, 11), Funcionario::getNome));
+        assertEquals(valores(objetos.funcionariosPorAniversario(0, 7), Funcionario::getSalario),
+                valores(colunar.funcionariosPorAniversario(0, 7), Funcionario::getSalario));
+
+        Map<String, List<Funcionario>> porFuncaoObjetos = objetos.funcionariosPorFuncao();
+        Map<String, List<Funcionario>> porFuncaoColunar = colunar.funcionariosPorFuncao();
+        assertEquals(new ArrayList<>(porFuncaoObjetos.keySet()), new ArrayList<>(porFuncaoColunar.keySet()));
+        porFuncaoObjetos.forEach((funcao, grupo) -> assertEquals(valores(grupo, Funcionario::getSalario),
+                valores(porFuncaoColunar.get(funcao), Funcionario::getSalario)));
+    }
+
+    @Test
+    @DisplayName("Teste App no modo COLUNAR deve responder as consultas como o modo OBJETOS")
+    public void testModoColunarDaApp() {
+        App objetos = new App(ModoArmazenamento.OBJETOS);
+        App colunar = new App(ModoArmazenamento.COLUNAR);
+        carregar(objetos, new Random(5));
+        carregar(colunar, new Random(5));
+        assertEquals(ModoArmazenamento.COLUNAR, colunar.getModoArmazenamento());
+        assertMesmasConsultas(objetos, colunar);
+
+        objetos.removerFuncionario("funcionario 7");
+        colunar.removerFuncionario("funcionario 7");
+        objetos.adicionarAumentoDeSalario(1.07);
+        colunar.adicionarAumentoDeSalario(1.07);
+        Funcionario novo = new Funcionario("Ana", LocalDate.of(1950, 2, 3), new BigDecimal("1800.00"), "Estagiario");
+        objetos.inserirFuncionarios(List.of(novo));
+        colunar.inserirFuncionarios(List.of(novo));
+        assertMesmasConsultas(objetos, colunar);
+
+        List<Alteracao> alteracoes = List.of(new Alteracao.AlterarSalario("Ana", new BigDecimal("1900.00")),
+                new Alteracao.Remover("Funcionario 9"), new Alteracao.AumentoFuncao("Gerente", new BigDecimal("1.03")));
+        new AplicadorAlteracoes(objetos).aplicar(alteracoes);
+        new AplicadorAlteracoes(colunar).aplicar(alteracoes);
+        assertMesmasConsultas(objetos, colunar);
+    }
+}
@@ -0,0 +1,128 @@
+package org.willian.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedFuncionarioRepositoryTest {
+    private IndexedFuncionarioRepository getSampleRepository() {
+        return new IndexedFuncionarioRepository(List.of(
+                new Funcionario("João", LocalDate.of(1980, 5, 12), new BigDecimal("2000.00"), "Analista"),
+                new Funcionario("Maria", LocalDate.of(1975, 9, 23), new BigDecimal("3000.00"), "Gerente"),
+                new Funcionario("Caio", LocalDate.of(1990, 12, 1), new BigDecimal("2500.00"), "Analista")
+        ));
+    }
+
+    @Test
+    @DisplayName("Teste buscarPorNome deve ignorar maiusculas e minusculas")
+    public void testBuscarPorNome() {
+        IndexedFuncionarioRepository repository = getSampleRepository();
+
+        assertEquals(1, repository.buscarPorNome("JOÃO").size());
+        assertEquals("João", repository.buscarPorNome("joão").get(0).getNome());
+        assertTrue(repository.buscarPorNome("Pedro").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste removerFuncionario deve atualizar todos os indices")
+    public void testRemoverFuncionario() {
+        IndexedFuncionarioRepository repository = getSampleRepository();
+
+        List<Funcionario> removidos = repository.removerFuncionario("joão");
+
+        assertEquals(1, removidos.size());
+        assertEquals(2, repository.tamanho());
+        assertTrue(repository.buscarPorNome("João").isEmpty());
+        assertEquals(List.of("Caio"), repository.funcionariosDaFuncao("Analista").stream().map(Funcionario::getNome).toList());
+        assertTrue(repository.funcionariosPorAniversario(5, 5).isEmpty());
+        assertTrue(repository.removerFuncionario("João").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste remover ultima pessoa da funcao deve remover a funcao do agrupamento")
+    public void testRemoverUltimoDaFuncao() {
+        IndexedFuncionarioRepository repository = getSampleRepository();
+
+        repository.removerFuncionario("Maria");
+
+        Map<String, List<Funcionario>> agrupados = repository.funcionariosPorFuncao();
+        assertEquals(1, agrupados.size());
+        assertFalse(agrupados.containsKey("Gerente"));
+        assertFalse(repository.funcoes().contains("Gerente"));
+    }
+
+    @Test
+    @DisplayName("Teste funcionariosPorFuncao deve agrupar a partir do indice")
+    public void testFuncionariosPorFuncao() {
+        Map<String, List<Funcionario>> agrupados = getSampleRepository().funcionariosPorFuncao();
+
+        assertEquals(2, agrupados.size());
+        assertEquals(List.of("João", "Caio"), agrupados.get("Analista").stream().map(Funcionario::getNome).toList());
+        assertEquals(1, agrupados.get("Gerente").size());
+    }
+
+    @Test
+    @DisplayName("Teste funcionariosPorAniversario deve usar os buckets de mes, na ordem de insercao")
+    public void testFuncionariosPorAniversario() {
+        IndexedFuncionarioRepository repository = getSampleRepository();
+        repository.adicionar(new Funcionario("Ana", LocalDate.of(1999, 5, 1), new BigDecimal("1800.00"), "Operador"));
+
+        List<String> nomes = repository.funcionariosPorAniversario(9, 5).stream().map(Funcionario::getNome).toList();
+        assertEquals(List.of("João", "Maria", "Ana"), nomes);
+        assertEquals(nomes, repository.funcionariosPorAniversario(5, 9).stream().map(Funcionario::getNome).toList());
+        assertThrows(IllegalArgumentException.class, () -> repository.funcionariosPorAniversario(0, 13));
+    }
+
+    @Test
+    @DisplayName("Teste homonimos devem ser removidos juntos pelo nome e individualmente pela instancia")
+    public void testHomonimos() {
+        IndexedFuncionarioRepository repository = getSampleRepository();
+        Funcionario outroJoao = new Funcionario("JOÃO", LocalDate.of(2000, 1, 1), new BigDecimal("1500.00"), "Operador");
+        repository.adicionar(outroJoao);
+        repository.adicionar(outroJoao);
+
+        assertEquals(4, repository.tamanho());
+        assertEquals(2, repository.buscarPorNome("joão").size());
+
+        assertTrue(repository.remover(outroJoao));
+        assertFalse(repository.remover(outroJoao));
+        assertEquals(1, repository.buscarPorNome("joão").size());
+        assertTrue(repository.funcionariosDaFuncao("Operador").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teste App deve remover e filtrar aniversariantes pelo indice, na ordem da lista")
+    public void testIndiceDaApp() {
+        App app = new App();
+        app.carregarFuncionarios(new ArrayList<>(List.of(
+                new Funcionario("João", LocalDate.of(1980, 5, 12), new BigDecimal("2000.00"), "Analista"),
+                new Funcionario("Maria", LocalDate.of(1975, 9, 23), new BigDecimal("3000.00"), "Gerente"),
+                new Funcionario(null, null, new BigDecimal("1000.00"), "Analista"),
+                new Funcionario("Ana", LocalDate.of(1999, 5, 1), new BigDecimal("1800.00"), "Operador"),
+                new Funcionario("JOÃO", LocalDate.of(2001, 9, 2), new BigDecimal("1500.00"), "Operador"))));
+
+        assertEquals(List.of("João", "Maria", "Ana", "JOÃO"),
+                app.funcionariosPorAniversario(9, 5).stream().map(Funcionario::getNome).toList());
+        assertEquals(List.of("Maria", "JOÃO"), app.funcionariosPorAniversario(0, 9).stream().map(Funcionario::getNome).toList());
+        assertTrue(app.funcionariosPorAniversario(0, 13).isEmpty());
+
+        long versao = app.getVersao();
+        assertEquals(5, app.removerFuncionario("Pedro").size());
+        assertEquals(versao, app.getVersao());
+
+        List<Funcionario> restantes = app.removerFuncionario("joão");
+        assertEquals(Arrays.asList("Maria", null, "Ana"), restantes.stream().map(Funcionario::getNome).toList());
+        assertEquals(List.of("Maria", "Ana"), app.funcionariosPorAniversario(5, 9).stream().map(Funcionario::getNome).toList());
+        assertEquals(new BigDecimal("5800.00"), app.totalSalarioFuncionarios());
+        assertEquals(3, app.removerFuncionario(null).size());
+    }
+}
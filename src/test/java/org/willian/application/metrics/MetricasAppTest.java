@@ -0,0 +1,139 @@
+package org.willian.application.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.application.App;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricasAppTest {
+
+    private static final String JSON = "[" +
+            "{\"nome\": \"Maria\", \"salario\": 2009.44, \"dataNascimento\": \"2000-10-18\", \"funcao\": \"Operador\"}," +
+            "{\"nome\": \"Joao\", \"salario\": 2284.38, \"dataNascimento\": \"1990-05-12\", \"funcao\": \"Operador\"}," +
+            "{\"nome\": \"Caio\", \"salario\": 9836.14, \"dataNascimento\": \"1961-05-02\", \"funcao\": \"Coordenador\"}" +
+            "]";
+
+    private InputStream getJson() {
+        return new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Teste App sem metricas configuradas nao deve registrar nada")
+    public void testMetricasDesativadas() {
+        App app = new App();
+        app.criarListaFuncionarios(getJson());
+        app.totalSalarioFuncionarios();
+
+        MetricasApp metricas = app.getMetricas();
+        assertSame(MetricasApp.desativadas(), metricas);
+        assertEquals(MetricasApp.SEM_MEDICAO, metricas.iniciar());
+        assertEquals(0, metricas.getRegistrosProcessados());
+        assertEquals(0, metricas.getBytesLidos());
+        assertTrue(metricas.snapshot().operacoes().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> metricas.setAtivo(true));
+    }
+
+    @Test
+    @DisplayName("Teste metricas devem contar operacoes, registros e bytes lidos")
+    public void testMetricasDasOperacoes() {
+        App app = new App();
+        MetricasApp metricas = new MetricasApp();
+        app.setMetricas(metricas);
+
+        int tamanhoJson = JSON.getBytes(StandardCharsets.UTF_8).length;
+        app.criarListaFuncionarios(getJson());
+        app.removerFuncionario("Joao");
+        app.adicionarAumentoDeSalario(1.10);
+        app.funcionarioOrdemAlfabetica();
+
+        assertEquals(1, metricas.contagem("CRIAR_LISTA_FUNCIONARIOS"));
+        assertEquals(1, metricas.contagem("REMOVER_FUNCIONARIO"));
+        assertEquals(1, metricas.contagem("ADICIONAR_AUMENTO_DE_SALARIO"));
+        assertEquals(0, metricas.contagem("TOTAL_SALARIO_FUNCIONARIOS"));
+        assertEquals(3 + 1 + 2 + 2, metricas.getRegistrosProcessados());
+        assertEquals(tamanhoJson, metricas.getBytesLidos());
+        assertEquals(0, metricas.getFalhasLeitura());
+
+        SnapshotMetricas snapshot = metricas.snapshot();
+        assertEquals(4, snapshot.operacoes().size());
+        assertTrue(snapshot.bytesLidosPorSegundo() > 0);
+
+        metricas.zerar();
+        assertEquals(0, metricas.contagem("CRIAR_LISTA_FUNCIONARIOS"));
+        assertEquals(0, metricas.getRegistrosProcessados());
+    }
+
+    @Test
+    @DisplayName("Teste leitura de JSON invalido deve ser contada como falha")
+    public void testFalhaLeitura() {
+        App app = new App();
+        MetricasApp metricas = new MetricasApp();
+        app.setMetricas(metricas);
+
+        app.criarListaFuncionarios(new ByteArrayInputStream("{\"nome\": 1".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, metricas.getFalhasLeitura());
+        assertEquals(0, metricas.contagem("CRIAR_LISTA_FUNCIONARIOS"));
+    }
+
+    @Test
+    @DisplayName("Teste percentis do histograma devem ficar dentro do erro relativo dos buckets")
+    public void testPercentisHistograma() {
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histograma.registrar(nanos * 1000);
+        }
+
+        assertEquals(100_000, histograma.contagem());
+        assertEquals(100_000_000, histograma.maximoNanos());
+        assertEquals(50_000_500.0, histograma.mediaNanos(), 0.001);
+        long p50 = histograma.percentilNanos(50);
+        long p99 = histograma.percentilNanos(99);
+        assertTrue(p50 >= 50_000_000 && p50 <= 50_000_000 * 17 / 16, "p50 = " + p50);
+        assertTrue(p99 >= 99_000_000 && p99 <= 100_000_000, "p99 = " + p99);
+        assertEquals(100_000_000, histograma.percentilNanos(100));
+    }
+
+    @Test
+    @DisplayName("Teste cada valor deve cair em um bucket cujo limite superior o contem")
+    public void testBucketsHistograma() {
+        for (long valor : new long[]{0, 1, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int indice = HistogramaLatencia.indice(valor);
+            assertTrue(valor <= HistogramaLatencia.limiteSuperior(indice));
+            assertTrue(indice == 0 || valor > HistogramaLatencia.limiteSuperior(indice - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste metricas devem ser lidas via JMX e enviadas ao exportador")
+    public void testJmxEExportador() throws Exception {
+        App app = new App();
+        MetricasApp metricas = new MetricasApp();
+        app.setMetricas(metricas);
+        app.criarListaFuncionarios(getJson());
+
+        ObjectName nome = metricas.registrarMBean("teste-jmx");
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(3L, servidor.getAttribute(nome, "RegistrosProcessados"));
+            assertEquals(1L, servidor.invoke(nome, "contagem",
+                    new Object[]{"CRIAR_LISTA_FUNCIONARIOS"}, new String[]{String.class.getName()}));
+        } finally {
+            servidor.unregisterMBean(nome);
+        }
+
+        AtomicReference<SnapshotMetricas> exportado = new AtomicReference<>();
+        metricas.exportar(exportado::set);
+        assertEquals(3, exportado.get().registrosProcessados());
+        assertEquals(1, exportado.get().operacoes().get(OperacaoApp.CRIAR_LISTA_FUNCIONARIOS).contagem());
+    }
+}
@@ -0,0 +1,132 @@
+package org.willian.application.particao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.application.App;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CoordenadorParticoesTest {
+
+    private static final String[] NOMES = {"Maria", "Joao", "Caio", "Miguel", "Alice", "Heitor", "Arthur", "Laura", "Heloisa", "Helena"};
+    private static final String[] FUNCOES = {"Operador", "Coordenador", "Diretor", "Recepcionista", "Contador", "Gerente", "Eletricista"};
+
+    private static List<Funcionario> gerarFuncionarios(int quantidade) {
+        Random random = new Random(21);
+        List<Funcionario> funcionarios = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String nome = NOMES[random.nextInt(NOMES.length)] + (i % 7 == 0 ? "" : " " + random.nextInt(300));
+            funcionarios.add(new Funcionario(i % 11 == 0 ? nome.toUpperCase() : nome,
+                    LocalDate.of(1950, 1, 1).plusDays(random.nextInt(3000)),
+                    BigDecimal.valueOf(100000 + random.nextInt(2000000), 2),
+                    FUNCOES[random.nextInt(FUNCOES.length)]));
+        }
+        return funcionarios;
+    }
+
+    private static List<Funcionario> copiar(List<Funcionario> funcionarios) {
+        List<Funcionario> copia = new ArrayList<>();
+        funcionarios.forEach(f -> copia.add(new Funcionario(f.getNome(), f.getDataNascimento(), f.getSalario(), f.getFuncao())));
+        return copia;
+    }
+
+    private static String descrever(Funcionario funcionario) {
+        return funcionario == null ? null : funcionario.getNome() + "|" + funcionario.getDataNascimento() + "|"
+                + funcionario.getSalario() + "|" + funcionario.getFuncao();
+    }
+
+    private static List<String> descrever(List<Funcionario> funcionarios) {
+        return funcionarios.stream().map(CoordenadorParticoesTest::descrever).toList();
+    }
+
+    private static Map<String, List<String>> descrever(Map<String, List<Funcionario>> grupos) {
+        Map<String, List<String>> resultado = new LinkedHashMap<>();
+        grupos.forEach((funcao, lista) -> resultado.put(funcao, descrever(lista)));
+        return resultado;
+    }
+
+    private static void assertMesmoResultado(App app, CoordenadorParticoes coordenador) {
+        assertEquals(descrever(app.funcionariosPorFuncao()), descrever(coordenador.funcionariosPorFuncao()));
+        assertEquals(List.copyOf(app.funcionariosPorFuncao().keySet()), List.copyOf(coordenador.funcionariosPorFuncao().keySet()));
+        assertEquals(app.totalSalarioFuncionarios(), coordenador.totalSalarioFuncionarios());
+        assertEquals(app.totalSalarioPorFuncao(), coordenador.totalSalarioPorFuncao());
+        assertEquals(app.quantidadePorFuncao(), coordenador.quantidadePorFuncao());
+        assertEquals(descrever(app.funcionarioComMaiorIdade()), descrever(coordenador.funcionarioComMaiorIdade()));
+        assertEquals(descrever(app.funcionarioOrdemAlfabetica().subList(0, 25)), descrever(coordenador.funcionarioOrdemAlfabetica(25)));
+        assertEquals(descrever(app.funcionarioOrdemAlfabetica()), descrever(coordenador.funcionarioOrdemAlfabetica(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Teste a folha particionada em processos deve ter os mesmos resultados de uma unica App")
+    public void testComparacaoComApp() throws Exception {
+        for (ChaveParticao chave : ChaveParticao.values()) {
+            compararComApp(chave);
+        }
+    }
+
+    private static void compararComApp(ChaveParticao chave) throws Exception {
+        List<Funcionario> funcionarios = gerarFuncionarios(10000);
+        App app = new App();
+        app.carregarFuncionarios(copiar(funcionarios));
+
+        try (CoordenadorParticoes coordenador = new CoordenadorParticoes(3, chave)) {
+            assertEquals(funcionarios.size(), coordenador.adicionar(funcionarios));
+            assertMesmoResultado(app, coordenador);
+
+            for (String nome : List.of("maria", "Joao 17", "ALICE 250", "Ninguem")) {
+                int antes = app.funcionarioOrdemAlfabetica().size();
+                app.removerFuncionario(nome);
+                assertEquals(antes - app.funcionarioOrdemAlfabetica().size(), coordenador.removerFuncionario(nome), nome);
+            }
+            app.adicionarAumentoDeSalario(1.1);
+            coordenador.adicionarAumentoDeSalario(1.1);
+            assertMesmoResultado(app, coordenador);
+        }
+    }
+
+    @Test
+    @DisplayName("Teste carregar o data.json nas particoes deve ter os mesmos resultados de uma unica App")
+    public void testDataJson() throws Exception {
+        for (ChaveParticao chave : ChaveParticao.values()) {
+            carregarDataJson(chave);
+        }
+    }
+
+    private void carregarDataJson(ChaveParticao chave) throws Exception {
+        App app = new App();
+        try (InputStream json = getClass().getClassLoader().getResourceAsStream("data.json")) {
+            app.carregarFuncionarios(app.criarListaFuncionarios(json));
+        }
+
+        try (CoordenadorParticoes coordenador = new CoordenadorParticoes(2, chave);
+             InputStream json = getClass().getClassLoader().getResourceAsStream("data.json")) {
+            assertEquals(app.funcionarioOrdemAlfabetica().size(), coordenador.adicionar(json));
+            assertEquals(descrever(app.funcionarioComMaiorIdade()), descrever(coordenador.funcionarioComMaiorIdade()));
+            assertEquals(app.totalSalarioPorFuncao(), coordenador.totalSalarioPorFuncao());
+            assertEquals(descrever(app.funcionarioOrdemAlfabetica().subList(0, 3)), descrever(coordenador.funcionarioOrdemAlfabetica(3)));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste folha particionada vazia")
+    public void testVazia() throws Exception {
+        try (CoordenadorParticoes coordenador = new CoordenadorParticoes(2, ChaveParticao.NOME)) {
+            assertEquals(BigDecimal.ZERO, coordenador.totalSalarioFuncionarios());
+            assertNull(coordenador.funcionarioComMaiorIdade());
+            assertEquals(List.of(), coordenador.funcionarioOrdemAlfabetica(10));
+            assertEquals(0, coordenador.removerFuncionario("Maria"));
+            assertTrue(coordenador.funcionariosPorFuncao().isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CoordenadorParticoes(0, ChaveParticao.NOME));
+    }
+}
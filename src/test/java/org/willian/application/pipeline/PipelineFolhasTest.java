@@ -0,0 +1,129 @@
+package org.willian.application.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PipelineFolhasTest {
+
+    @TempDir
+    Path diretorio;
+
+    private void criarArquivo(String nome, String... funcionarios) throws IOException {
+        Files.writeString(diretorio.resolve(nome), "[" + String.join(",", funcionarios) + "]");
+    }
+
+    private String funcionario(String nome, String salario, String funcao) {
+        return "{\"nome\": \"" + nome + "\", \"salario\": " + salario
+                + ", \"dataNascimento\": \"1980-05-12\", \"funcao\": \"" + funcao + "\"}";
+    }
+
+    @Test
+    @DisplayName("Teste processarDiretorio deve aplicar as operacoes em cada arquivo e consolidar os resultados")
+    public void testProcessarDiretorio() throws Exception {
+        criarArquivo("filial-a.json",
+                funcionario("João", "2000.00", "Operador"),
+                funcionario("Maria", "3000.00", "Gerente"));
+        criarArquivo("filial-b.json",
+                funcionario("Caio", "2424.00", "Operador"),
+                funcionario("joão", "1000.00", "Operador"));
+        Files.writeString(diretorio.resolve("ignorado.txt"), "nao e json");
+
+        PipelineFolhas pipeline = new PipelineFolhas(List.of(
+                OperacaoFolha.remover("João"),
+                OperacaoFolha.aumento(1.10),
+                OperacaoFolha.agrupar(),
+                OperacaoFolha.totais(),
+                OperacaoFolha.salariosMinimos()
+        ), 1, 1);
+
+        RelatorioConsolidado relatorio = pipeline.processarDiretorio(diretorio);
+
+        assertTrue(relatorio.getFalhas().isEmpty());
+        assertEquals(2, relatorio.getResultados().size());
+        assertEquals(diretorio.resolve("filial-a.json"), relatorio.getResultados().get(0).getArquivo());
+        assertEquals(2, relatorio.getQuantidadeFuncionarios());
+        assertEquals(new BigDecimal("5966.40"), relatorio.getTotalSalarios());
+        assertEquals(new BigDecimal("2666.40"), relatorio.getTotalPorFuncao().get("Operador"));
+        assertEquals(1, relatorio.getQuantidadePorFuncao().get("Gerente"));
+        assertEquals(1, relatorio.getQuantidadePorFuncao().get("Operador"));
+        assertEquals(new BigDecimal("2.20"), relatorio.getResultados().get(1).getSomaSalariosMinimos());
+        assertEquals(1, relatorio.getResultados().get(1).getQuantidadeSalariosMinimos());
+        assertEquals(new BigDecimal("2.46"), relatorio.getMediaSalariosMinimos());
+    }
+
+    @Test
+    @DisplayName("Teste funcionarios sem funcao devem ser consolidados com a funcao null")
+    public void testFuncaoNull() {
+        Map<String, BigDecimal> totais = new HashMap<>();
+        totais.put(null, new BigDecimal("1000.00"));
+        totais.put("Operador", new BigDecimal("2000.00"));
+        Map<String, Integer> quantidades = new HashMap<>();
+        quantidades.put(null, 1);
+        quantidades.put("Operador", 2);
+
+        RelatorioConsolidado relatorio = new RelatorioConsolidado();
+        for (int i = 0; i < 2; i++) {
+            ResultadoArquivo resultado = new ResultadoArquivo(diretorio.resolve("filial-" + i + ".json"));
+            resultado.setTotalPorFuncao(totais);
+            resultado.setQuantidadePorFuncao(quantidades);
+            relatorio.adicionar(resultado);
+        }
+
+        assertEquals(new BigDecimal("2000.00"), relatorio.getTotalPorFuncao().get(null));
+        assertEquals(4, relatorio.getQuantidadePorFuncao().get("Operador"));
+        assertEquals(Arrays.asList(null, "Operador"), new ArrayList<>(relatorio.getQuantidadePorFuncao().keySet()));
+    }
+
+    @Test
+    @DisplayName("Teste arquivo invalido deve ser registrado como falha sem interromper os demais")
+    public void testArquivoInvalido() throws Exception {
+        criarArquivo("a.json", funcionario("Ana", "1000.00", "Operador"));
+        Files.writeString(diretorio.resolve("b.json"), "{ invalido");
+
+        RelatorioConsolidado relatorio = new PipelineFolhas(List.of(OperacaoFolha.totais())).processarDiretorio(diretorio);
+
+        assertEquals(1, relatorio.getResultados().size());
+        assertEquals(1, relatorio.getFalhas().size());
+        assertInstanceOf(IOException.class, relatorio.getFalhas().get(diretorio.resolve("b.json")));
+        assertEquals(new BigDecimal("1000.00"), relatorio.getTotalSalarios());
+    }
+
+    @Test
+    @DisplayName("Teste o pipeline nao deve exceder o limite de operacoes simultaneas")
+    public void testLimiteDeConcorrencia() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            criarArquivo("filial-" + i + ".json", funcionario("Ana", "1000.00", "Operador"));
+        }
+        AtomicInteger emExecucao = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+
+        OperacaoFolha lenta = (app, resultado) -> {
+            maximo.accumulateAndGet(emExecucao.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            emExecucao.decrementAndGet();
+        };
+
+        RelatorioConsolidado relatorio = new PipelineFolhas(List.of(lenta), 4, 2).processarDiretorio(diretorio);
+
+        assertEquals(30, relatorio.getResultados().size());
+        assertTrue(maximo.get() <= 2, "No maximo 2 operacoes simultaneas, encontrado " + maximo.get());
+    }
+}
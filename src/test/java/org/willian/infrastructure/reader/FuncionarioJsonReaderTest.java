@@ -0,0 +1,99 @@
+package org.willian.infrastructure.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuncionarioJsonReaderTest {
+    private InputStream getSampleJson() {
+        String json = "[\n" +
+                "  {\"nome\": \"João\", \"salario\": 2000.00, \"dataNascimento\": \"1980-05-12\", \"funcao\": \"Analista\"},\n" +
+                "  {\"nome\": \"Maria\", \"salario\": 3000.00, \"dataNascimento\": \"1975-09-23\", \"funcao\": \"Gerente\"},\n" +
+                "  {\"nome\": \"Caio\", \"salario\": 2500.00, \"dataNascimento\": \"1990-12-01\", \"funcao\": \"Analista\"}\n" +
+                "]";
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Teste lerFuncionarios deve entregar cada funcionario ao consumidor na ordem do arquivo")
+    public void testLerFuncionarios() throws IOException {
+        List<Funcionario> lidos = new ArrayList<>();
+        long quantidade = FuncionarioJsonReader.lerFuncionarios(getSampleJson(), lidos::add);
+
+        assertEquals(3, quantidade);
+        assertEquals(List.of("João", "Maria", "Caio"), lidos.stream().map(Funcionario::getNome).toList());
+
+        Funcionario f1 = lidos.get(0);
+        assertEquals(new BigDecimal("2000.00"), f1.getSalario());
+        assertEquals(LocalDate.of(1980, 5, 12), f1.getDataNascimento());
+        assertEquals("Analista", f1.getFuncao());
+    }
+
+    @Test
+    @DisplayName("Teste streamFuncionarios deve ler os funcionarios de forma preguicosa")
+    public void testStreamFuncionarios() throws IOException {
+        try (Stream<Funcionario> stream = FuncionarioJsonReader.streamFuncionarios(getSampleJson())) {
+            BigDecimal total = stream.map(Funcionario::getSalario).reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(new BigDecimal("7500.00"), total);
+        }
+    }
+
+    @Test
+    @DisplayName("Teste lerFuncionarios com array vazio nao deve entregar nenhum funcionario")
+    public void testArrayVazio() throws IOException {
+        InputStream vazio = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0, FuncionarioJsonReader.lerFuncionarios(vazio, funcionario -> fail("Nenhum funcionário esperado")));
+    }
+
+    @Test
+    @DisplayName("Teste lerFuncionarios com JSON que nao e array deve lancar IOException")
+    public void testJsonNaoArray() {
+        InputStream objeto = new ByteArrayInputStream("{\"nome\": \"João\"}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> FuncionarioJsonReader.lerFuncionarios(objeto, funcionario -> {}));
+    }
+
+    @Test
+    @DisplayName("Teste streamFuncionarios com elemento invalido deve lancar UncheckedIOException ao consumir")
+    public void testStreamElementoInvalido() throws IOException {
+        InputStream invalido = new ByteArrayInputStream("[1, 2]".getBytes(StandardCharsets.UTF_8));
+        try (Stream<Funcionario> stream = FuncionarioJsonReader.streamFuncionarios(invalido)) {
+            assertThrows(UncheckedIOException.class, stream::count);
+        }
+    }
+
+    @Test
+    @DisplayName("Teste funcoes iguais na mesma leitura devem compartilhar a mesma String")
+    public void testFuncoesCanonicalizadas() throws IOException {
+        List<Funcionario> lidos = FuncionarioJsonReader.lerLista(getSampleJson());
+
+        assertSame(lidos.get(0).getFuncao(), lidos.get(2).getFuncao());
+        assertNotEquals(lidos.get(0).getFuncao(), lidos.get(1).getFuncao());
+    }
+
+    @Test
+    @DisplayName("Teste internarNomes deve fazer nomes repetidos compartilharem a mesma String")
+    public void testInternarNomes() throws IOException {
+        String json = "[{\"nome\": \"Ana\", \"funcao\": \"Analista\"}, {\"nome\": \"Ana\", \"funcao\": \"Analista\"}]";
+
+        List<Funcionario> internados = FuncionarioJsonReader.lerLista(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), true);
+        List<Funcionario> normais = FuncionarioJsonReader.lerLista(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertSame(internados.get(0).getNome(), internados.get(1).getNome());
+        assertNotSame(normais.get(0).getNome(), normais.get(1).getNome());
+    }
+}
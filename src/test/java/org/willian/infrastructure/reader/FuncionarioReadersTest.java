@@ -0,0 +1,190 @@
+package org.willian.infrastructure.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuncionarioReadersTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static List<Funcionario> ler(FuncionarioReader leitor, String conteudo) throws IOException {
+        return leitor.lerLista(new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Teste os leitores devem ser encontrados pelo formato e pela extensao do arquivo")
+    public void testRegistro() {
+        assertTrue(FuncionarioReaders.formatos().containsAll(List.of("json", "csv", "ndjson")));
+        assertInstanceOf(FuncionarioCsvReader.class, FuncionarioReaders.paraFormato("CSV"));
+        assertInstanceOf(FuncionarioNdjsonReader.class, FuncionarioReaders.paraArquivo(Path.of("folha.jsonl")).orElseThrow());
+        assertInstanceOf(FuncionarioJsonArrayReader.class, FuncionarioReaders.paraArquivo(Path.of("data.JSON")).orElseThrow());
+        assertTrue(FuncionarioReaders.paraArquivo(Path.of("leia-me.txt")).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> FuncionarioReaders.paraFormato("xml"));
+    }
+
+    @Test
+    @DisplayName("Teste o leitor CSV deve respeitar o cabecalho, as aspas e os campos vazios opcionais")
+    public void testCsv() throws IOException {
+        String csv = "\uFEFFfuncao,salario,nome,dataNascimento,observacao\r\n" +
+                "Operador,2009.44,Maria,2000-10-18,\r\n" +
+                "\r\n" +
+                "\"Gerente\",12000,\"Silva, \"\"Juca\"\"\",1990-02-28,x\n" +
+                "Operador,1.5,Bia,1970-01-01,\"\"\n";
+
+        List<Funcionario> funcionarios = ler(new FuncionarioCsvReader(), csv);
+
+        assertEquals(3, funcionarios.size());
+        Funcionario maria = funcionarios.get(0);
+        assertEquals("Maria", maria.getNome());
+        assertEquals(LocalDate.of(2000, 10, 18), maria.getDataNascimento());
+        assertEquals(new BigDecimal("2009.44"), maria.getSalario());
+        assertSame(funcionarios.get(2).getFuncao(), maria.getFuncao());
+        assertEquals("Silva, \"Juca\"", funcionarios.get(1).getNome());
+        assertEquals(new BigDecimal("12000"), funcionarios.get(1).getSalario());
+        assertEquals("Bia", funcionarios.get(2).getNome());
+    }
+
+    @Test
+    @DisplayName("Teste o cabecalho CSV deve ser lido com as mesmas regras de aspas das linhas")
+    public void testCabecalhoCsv() throws IOException {
+        String csv = "\"observacao, extra\",\"Nome\",dataNascimento,salario,\"funcao\"\n" +
+                "\"a, b\",Ana,1980-01-01,10.00,\"\"\n";
+
+        List<Funcionario> funcionarios = ler(new FuncionarioCsvReader(), csv);
+
+        assertEquals(1, funcionarios.size());
+        assertEquals("Ana", funcionarios.get(0).getNome());
+        assertEquals(new BigDecimal("10.00"), funcionarios.get(0).getSalario());
+        assertEquals("", funcionarios.get(0).getFuncao());
+
+        assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "\"nome,dataNascimento,salario,funcao\nAna,1980-01-01,10.00,Operador\n"));
+    }
+
+    @Test
+    @DisplayName("Teste o leitor NDJSON deve ler os campos, escapes e funcao null e ignorar campos desconhecidos")
+    public void testNdjson() throws IOException {
+        String ndjson = "{\"nome\": \"Jo\\u00e3o \\\"Jr\\\"\", \"dataNascimento\": \"1980-05-12\", \"salario\": 2000.00, \"funcao\": \"Analista\"}\n" +
+                "  {\"extra\": {\"a\": [1, true, null]}, \"salario\": \"3000.5\", \"nome\": \"Maria\", \"funcao\": null, " +
+                "\"dataNascimento\": \"1975-09-23\"}  \n" +
+                "{\"nome\": \"Bia\", \"dataNascimento\": \"2000-01-01\", \"salario\": 1}";
+
+        List<Funcionario> funcionarios = ler(new FuncionarioNdjsonReader(), ndjson);
+
+        assertEquals(3, funcionarios.size());
+        assertEquals("João \"Jr\"", funcionarios.get(0).getNome());
+        assertEquals(LocalDate.of(1980, 5, 12), funcionarios.get(0).getDataNascimento());
+        assertEquals(new BigDecimal("2000.00"), funcionarios.get(0).getSalario());
+        assertEquals("Analista", funcionarios.get(0).getFuncao());
+        assertEquals(new BigDecimal("3000.5"), funcionarios.get(1).getSalario());
+        assertNull(funcionarios.get(1).getFuncao());
+        assertEquals(LocalDate.of(1975, 9, 23), funcionarios.get(1).getDataNascimento());
+        assertNull(funcionarios.get(2).getFuncao());
+    }
+
+    @Test
+    @DisplayName("Teste linhas invalidas devem gerar IOException com o numero da linha")
+    public void testErros() throws IOException {
+        IOException csv = assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "nome,dataNascimento,salario,funcao\nAna,1980-01-01,10.00,Operador\nBia,1980-02-30,10.00,Operador\n"));
+        assertTrue(csv.getMessage().startsWith("Erro na linha 3"), csv.getMessage());
+
+        assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(), "nome,salario\nAna,10\n"));
+        assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "nome,dataNascimento,salario,funcao\nAna,1980-01-01,10.00\n"));
+
+        IOException vazio = assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "funcao,nome,dataNascimento,salario\nOperador,Ana,1980-01-01,10.00\nOperador,Bia,1980-01-01,\n"));
+        assertEquals("Erro na linha 3: Campo obrigatorio vazio na coluna 4 (salario)", vazio.getMessage());
+        IOException vazioComAspas = assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "funcao,nome,dataNascimento,salario\nOperador,\"\",1980-01-01,10.00\n"));
+        assertEquals("Erro na linha 2: Campo obrigatorio vazio na coluna 2 (nome)", vazioComAspas.getMessage());
+        vazioComAspas = assertThrows(IOException.class, () -> ler(new FuncionarioCsvReader(),
+                "funcao,nome,dataNascimento,salario\nOperador,Ana,1980-01-01,\"\"\n"));
+        assertEquals("Erro na linha 2: Campo obrigatorio vazio na coluna 4 (salario)", vazioComAspas.getMessage());
+
+        String ana = "{\"nome\": \"Ana\", \"dataNascimento\": \"1980-01-01\", \"salario\": 10}";
+        IOException ndjson = assertThrows(IOException.class, () -> ler(new FuncionarioNdjsonReader(),
+                ana + "\n{\"nome\": \"Bia\", \"salario\": 1x}\n"));
+        assertTrue(ndjson.getMessage().startsWith("Erro na linha 2"), ndjson.getMessage());
+        IOException ausente = assertThrows(IOException.class, () -> ler(new FuncionarioNdjsonReader(),
+                ana + "\n" + ana + "\n{\"nome\": \"Bia\", \"dataNascimento\": null, \"salario\": 1}\n"));
+        assertEquals("Erro na linha 3: Campo obrigatorio ausente ou null: dataNascimento", ausente.getMessage());
+
+        Path arquivo = diretorio.resolve("erro.ndjson");
+        StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            conteudo.append(i == 73 ? "{\"nome\": }" : "{\"nome\": \"F" + i + "\", \"dataNascimento\": \"1980-01-01\", \"salario\": 1}")
+                    .append('\n');
+        }
+        Files.writeString(arquivo, conteudo);
+        IOException paralelo = assertThrows(IOException.class, () -> new FuncionarioNdjsonReader().lerArquivo(arquivo, 7));
+        assertTrue(paralelo.getMessage().startsWith("Erro na linha 74"), paralelo.getMessage());
+    }
+
+    @Test
+    @DisplayName("Teste a leitura em trechos paralelos deve ter o mesmo resultado da leitura sequencial")
+    public void testLeituraEmParalelo() throws IOException {
+        Random random = new Random(42);
+        String[] funcoes = {"Operador", "Coordenador", "Diretor", "Recepcionista"};
+        StringBuilder csv = new StringBuilder("nome,dataNascimento,salario,funcao\n");
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            String nome = "Funcionario " + i;
+            LocalDate data = LocalDate.of(1950, 1, 1).plusDays(random.nextInt(20000));
+            BigDecimal salario = BigDecimal.valueOf(100000 + random.nextInt(2000000), 2);
+            String funcao = funcoes[random.nextInt(funcoes.length)];
+            csv.append(nome).append(',').append(data).append(',').append(salario).append(',').append(funcao)
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+            ndjson.append("{\"nome\": \"").append(nome).append("\", \"dataNascimento\": \"").append(data)
+                    .append("\", \"salario\": ").append(salario).append(", \"funcao\": \"").append(funcao).append("\"}\n");
+        }
+
+        for (FuncionarioLinhasReader leitor : List.of(new FuncionarioCsvReader(), new FuncionarioNdjsonReader())) {
+            String conteudo = leitor instanceof FuncionarioCsvReader ? csv.toString() : ndjson.toString();
+            Path arquivo = diretorio.resolve("folha" + leitor.extensoes().get(0));
+            Files.writeString(arquivo, conteudo);
+
+            List<Funcionario> sequencial = ler(leitor, conteudo);
+            assertEquals(5000, sequencial.size());
+            for (int partes : new int[] {1, 3, 8, 64}) {
+                assertIguais(sequencial, leitor.lerArquivo(arquivo, partes));
+                assertIguais(sequencial, leitor.lerEmParalelo(conteudo.getBytes(StandardCharsets.UTF_8), partes));
+            }
+            assertIguais(sequencial, FuncionarioReaders.lerArquivo(arquivo));
+        }
+    }
+
+    private static void assertIguais(List<Funcionario> esperados, List<Funcionario> lidos) {
+        assertEquals(esperados.size(), lidos.size());
+        for (int i = 0; i < esperados.size(); i++) {
+            Funcionario esperado = esperados.get(i);
+            Funcionario lido = lidos.get(i);
+            assertEquals(esperado.getNome(), lido.getNome());
+            assertEquals(esperado.getDataNascimento(), lido.getDataNascimento());
+            assertEquals(esperado.getSalario(), lido.getSalario());
+            assertEquals(esperado.getFuncao(), lido.getFuncao());
+        }
+        Set<String> funcoes = Collections.newSetFromMap(new IdentityHashMap<>());
+        lidos.forEach(funcionario -> funcoes.add(funcionario.getFuncao()));
+        assertEquals(lidos.stream().map(Funcionario::getFuncao).distinct().count(), funcoes.size());
+    }
+}
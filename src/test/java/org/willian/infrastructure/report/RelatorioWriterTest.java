@@ -0,0 +1,121 @@
+package org.willian.infrastructure.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RelatorioWriterTest {
+    private final ByteArrayOutputStream saida = new ByteArrayOutputStream();
+    private final RelatorioWriter relatorio = new RelatorioWriter(Channels.newChannel(saida), StandardCharsets.UTF_8, 64);
+
+    private DecimalFormat getDecimalFormat() {
+        DecimalFormatSymbols symbols = new DecimalFormatSymbols(Locale.of("pt", "BR"));
+        symbols.setDecimalSeparator(',');
+        symbols.setGroupingSeparator('.');
+        return new DecimalFormat("#,##0.00", symbols);
+    }
+
+    private String escrito() throws IOException {
+        relatorio.flush();
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Teste dinheiro deve formatar igual ao DecimalFormat pt-BR")
+    public void testDinheiroIgualDecimalFormat() throws IOException {
+        DecimalFormat decimalFormat = getDecimalFormat();
+        Random random = new Random(7);
+        List<BigDecimal> valores = new ArrayList<>(List.of(
+                new BigDecimal("0.00"), new BigDecimal("0.5"), new BigDecimal("7"), new BigDecimal("999.99"),
+                new BigDecimal("1000.00"), new BigDecimal("-1234567.89"), new BigDecimal("21027.08"),
+                new BigDecimal("1234.5678"), new BigDecimal("1E+3"), new BigDecimal("123456789012345678.90")));
+        for (int i = 0; i < 1000; i++) {
+            valores.add(BigDecimal.valueOf(random.nextLong() / (1 + random.nextInt(1_000_000)), random.nextInt(3)));
+        }
+
+        StringBuilder esperado = new StringBuilder();
+        for (BigDecimal valor : valores) {
+            relatorio.linha().dinheiro(valor).escrever();
+            esperado.append(decimalFormat.format(valor)).append(System.lineSeparator());
+        }
+
+        assertEquals(esperado.toString(), escrito());
+    }
+
+    @Test
+    @DisplayName("Teste data deve formatar igual ao DateTimeFormatter dd/MM/yyyy")
+    public void testDataIgualDateTimeFormatter() throws IOException {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        List<LocalDate> datas = List.of(LocalDate.of(1961, 5, 2), LocalDate.of(2000, 10, 18), LocalDate.of(1, 1, 1),
+                LocalDate.of(0, 12, 31), LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1), LocalDate.of(2024, 2, 29));
+
+        StringBuilder esperado = new StringBuilder();
+        for (LocalDate data : datas) {
+            relatorio.linha().data(data).escrever();
+            esperado.append(data.format(dateFormatter)).append(System.lineSeparator());
+        }
+
+        assertEquals(esperado.toString(), escrito());
+    }
+
+    @Test
+    @DisplayName("Teste linha de funcionario deve ter o mesmo formato da concatenacao original")
+    public void testLinhaCompleta() throws IOException {
+        relatorio.linha()
+                .texto("Nome: ").texto("Heloísa")
+                .texto(" | Data de Nascimento: ").data(LocalDate.of(2003, 5, 24))
+                .texto(" | Salário: R$ ").dinheiro(new BigDecimal("1606.85"))
+                .texto(" | Função: ").texto("Eletricista")
+                .escrever();
+
+        assertEquals("Nome: Heloísa | Data de Nascimento: 24/05/2003 | Salário: R$ 1.606,85 | Função: Eletricista"
+                + System.lineSeparator(), escrito());
+    }
+
+    @Test
+    @DisplayName("Teste varias threads escrevendo nao devem misturar linhas")
+    public void testVariasThreads() throws Exception {
+        int threads = 8;
+        int linhasPorThread = 2000;
+        List<Thread> escritores = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            escritores.add(new Thread(() -> {
+                for (int i = 0; i < linhasPorThread; i++) {
+                    relatorio.linha().texto("thread ").texto(id).texto(" linha ").texto(i)
+                            .texto(" valor ").dinheiroCentavos(123456789L).escrever();
+                }
+            }));
+        }
+        escritores.forEach(Thread::start);
+        for (Thread escritor : escritores) {
+            escritor.join();
+        }
+
+        String[] linhas = escrito().split(System.lineSeparator());
+        assertEquals(threads * linhasPorThread, linhas.length);
+        Set<String> unicas = new HashSet<>();
+        for (String linha : linhas) {
+            assertTrue(linha.matches("thread \\d+ linha \\d+ valor 1\\.234\\.567,89"), linha);
+            unicas.add(linha);
+        }
+        assertEquals(threads * linhasPorThread, unicas.size());
+    }
+}
@@ -0,0 +1,72 @@
+package org.willian.infrastructure.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.willian.domain.entities.Funcionario;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FuncionarioSnapshotTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Teste converter o data.json e reabrir o snapshot deve preservar todos os funcionarios")
+    public void testConverterDataJson() throws IOException {
+        Path arquivo = diretorio.resolve("folha.snap");
+        int quantidade;
+        try (InputStream json = getClass().getClassLoader().getResourceAsStream("data.json")) {
+            quantidade = JsonParaSnapshot.converter(json, arquivo);
+        }
+
+        try (FuncionarioSnapshotReader reader = FuncionarioSnapshotReader.abrir(arquivo)) {
+            assertEquals(quantidade, reader.tamanho());
+            assertEquals(10, reader.tamanho());
+
+            Funcionario primeiro = reader.funcionario(0);
+            assertEquals("Maria", primeiro.getNome());
+            assertEquals(LocalDate.of(2000, 10, 18), primeiro.getDataNascimento());
+            assertEquals(new BigDecimal("2009.44"), primeiro.getSalario());
+            assertEquals("Operador", primeiro.getFuncao());
+
+            assertEquals("Heloísa", reader.nome(8));
+            assertEquals("Eletricista", reader.funcao(8));
+            assertEquals("Caio", reader.funcionarioComMaiorIdade().getNome());
+            assertEquals(new BigDecimal("48563.31"), reader.totalSalarioFuncionarios());
+        }
+    }
+
+    @Test
+    @DisplayName("Teste snapshot vazio")
+    public void testSnapshotVazio() throws IOException {
+        Path arquivo = diretorio.resolve("vazio.snap");
+        JsonParaSnapshot.converter(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)), arquivo);
+
+        try (FuncionarioSnapshotReader reader = FuncionarioSnapshotReader.abrir(arquivo)) {
+            assertEquals(0, reader.tamanho());
+            assertNull(reader.funcionarioComMaiorIdade());
+            assertEquals(new BigDecimal("0.00"), reader.totalSalarioFuncionarios());
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.funcionario(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Teste arquivo que nao e snapshot deve lancar IOException")
+    public void testArquivoInvalido() throws IOException {
+        Path arquivo = diretorio.resolve("invalido.snap");
+        Files.writeString(arquivo, "isto nao e um snapshot");
+
+        assertThrows(IOException.class, () -> FuncionarioSnapshotReader.abrir(arquivo));
+    }
+}